@@ -0,0 +1,52 @@
+package com.internship.contact_management_backend.benchmark;
+
+import com.internship.contact_management_backend.config.JwtKeyProperties;
+import com.internship.contact_management_backend.dto.ContactDto;
+import com.internship.contact_management_backend.utils.JwtKeyRing;
+import com.internship.contact_management_backend.utils.JwtUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Shared test data for the benchmarks, built without a Spring context
+final class BenchmarkFixtures {
+
+    static final String JWT_SECRET = "MyJwtSecretKey1234567891234567891234567891234";
+    static final long JWT_EXPIRATION = 3600000;
+    static final String EMAIL = "bench@example.com";
+
+    private BenchmarkFixtures() {
+    }
+
+    // JwtUtil reads its settings through @Value, so inject them directly
+    static JwtKeyRing jwtKeyRing() {
+        JwtKeyProperties properties = new JwtKeyProperties();
+        properties.setActive("k1");
+        properties.getSecrets().put("k1", JWT_SECRET);
+        return new JwtKeyRing(properties);
+    }
+
+    static JwtUtil jwtUtil(JwtKeyRing keyRing) {
+        return new JwtUtil(keyRing, JWT_EXPIRATION);
+    }
+
+    static ContactDto contact(int i) {
+        return ContactDto.builder()
+                         .id((long) i)
+                         .firstName("First" + i)
+                         .lastName("Last" + i)
+                         .email("contact" + i + "@example.com")
+                         .emailLabel("Work")
+                         .phoneNumber("+92324" + (1000000 + i))
+                         .phoneNumberLabel("Mobile")
+                         .build();
+    }
+
+    static List<ContactDto> contacts(int size) {
+        List<ContactDto> contacts = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            contacts.add(contact(i));
+        }
+        return contacts;
+    }
+}
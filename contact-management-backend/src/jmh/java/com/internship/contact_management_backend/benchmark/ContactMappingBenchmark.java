@@ -0,0 +1,35 @@
+package com.internship.contact_management_backend.benchmark;
+
+import com.internship.contact_management_backend.dto.ContactDto;
+import com.internship.contact_management_backend.entity.Contact;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContactMappingBenchmark {
+
+    private ContactDto dto;
+    private Contact entity;
+
+    @Setup
+    public void setUp() {
+        dto = BenchmarkFixtures.contact(1);
+        entity = dto.toEntity();
+    }
+
+    @Benchmark
+    public Contact toEntity() {
+        return dto.toEntity();
+    }
+
+    @Benchmark
+    public ContactDto from() {
+        return ContactDto.from(entity);
+    }
+}
@@ -0,0 +1,56 @@
+package com.internship.contact_management_backend.benchmark;
+
+import com.internship.contact_management_backend.dto.ContactDto;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContactValidationBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private ContactDto valid;
+    private ContactDto invalid;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        valid = BenchmarkFixtures.contact(1);
+
+        // every constraint fails, so message interpolation is measured too
+        invalid = new ContactDto();
+        invalid.setFirstName("A");
+        invalid.setLastName("B");
+        invalid.setEmail("not-an-email");
+        invalid.setEmailLabel("X");
+        invalid.setPhoneNumber("12345");
+        invalid.setPhoneNumberLabel("Y");
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<ContactDto>> validContact() {
+        return validator.validate(valid);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<ContactDto>> invalidContact() {
+        return validator.validate(invalid);
+    }
+}
@@ -0,0 +1,82 @@
+package com.internship.contact_management_backend.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.internship.contact_management_backend.converter.ContactProtobufCodec;
+import com.internship.contact_management_backend.dto.ContactDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Encode/decode cost of List<ContactDto> per negotiated format, see PayloadSizeReport for sizes
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContentFormatBenchmark {
+
+    private static final TypeReference<List<ContactDto>> CONTACT_LIST = new TypeReference<>() { };
+
+    @Param({"json", "smile", "cbor", "protobuf"})
+    private String format;
+
+    @Param({"100", "10000"})
+    private int size;
+
+    private ObjectMapper mapper;
+    private List<ContactDto> contacts;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        contacts = BenchmarkFixtures.contacts(size);
+        mapper = mapper(format);
+        encoded = encode(format, mapper, contacts);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return encode(format, mapper, contacts);
+    }
+
+    @Benchmark
+    public List<ContactDto> decode() throws IOException {
+        return decode(format, mapper, encoded);
+    }
+
+    static ObjectMapper mapper(String format) {
+        return switch (format) {
+            case "smile" -> SmileMapper.builder().findAndAddModules().build();
+            case "cbor" -> CBORMapper.builder().findAndAddModules().build();
+            default -> JsonMapper.builder().findAndAddModules().build();
+        };
+    }
+
+    static byte[] encode(String format, ObjectMapper mapper, List<ContactDto> contacts) throws IOException {
+        if (!"protobuf".equals(format)) {
+            return mapper.writeValueAsBytes(contacts);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        CodedOutputStream out = CodedOutputStream.newInstance(bytes);
+        ContactProtobufCodec.writeContactList(out, contacts);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    static List<ContactDto> decode(String format, ObjectMapper mapper, byte[] encoded) throws IOException {
+        if (!"protobuf".equals(format)) {
+            return mapper.readValue(encoded, CONTACT_LIST);
+        }
+        return ContactProtobufCodec.readContactList(CodedInputStream.newInstance(encoded));
+    }
+}
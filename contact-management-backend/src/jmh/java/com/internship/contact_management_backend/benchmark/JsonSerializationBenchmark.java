@@ -0,0 +1,44 @@
+package com.internship.contact_management_backend.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.internship.contact_management_backend.dto.ContactDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    // Sizes of the List<ContactDto> returned by GET /contacts/getAll
+    @Param({"10", "1000", "100000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<ContactDto> contacts;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = JsonMapper.builder().findAndAddModules().build();
+        contacts = BenchmarkFixtures.contacts(size);
+        json = objectMapper.writeValueAsBytes(contacts);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(contacts);
+    }
+
+    @Benchmark
+    public List<ContactDto> deserialize() throws Exception {
+        return objectMapper.readValue(json, new TypeReference<List<ContactDto>>() { });
+    }
+}
@@ -0,0 +1,50 @@
+package com.internship.contact_management_backend.benchmark;
+
+import com.internship.contact_management_backend.utils.Hs256TokenVerifier;
+import com.internship.contact_management_backend.utils.JwtKeyRing;
+import com.internship.contact_management_backend.utils.JwtUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+// run with -prof gc to compare allocations of verify against validateToken
+public class JwtUtilBenchmark {
+
+    private JwtUtil jwtUtil;
+    private Hs256TokenVerifier tokenVerifier;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtKeyRing keyRing = BenchmarkFixtures.jwtKeyRing();
+        jwtUtil = BenchmarkFixtures.jwtUtil(keyRing);
+        tokenVerifier = new Hs256TokenVerifier(jwtUtil, keyRing);
+        token = jwtUtil.generateToken(BenchmarkFixtures.EMAIL);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(BenchmarkFixtures.EMAIL);
+    }
+
+    @Benchmark
+    public String extractEmail() {
+        return jwtUtil.extractEmail(token);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtil.validateToken(token);
+    }
+
+    @Benchmark
+    public Hs256TokenVerifier.VerifiedToken verify() {
+        return tokenVerifier.verify(token);
+    }
+}
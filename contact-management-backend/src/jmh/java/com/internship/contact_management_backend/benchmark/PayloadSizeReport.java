@@ -0,0 +1,41 @@
+package com.internship.contact_management_backend.benchmark;
+
+import com.internship.contact_management_backend.dto.ContactDto;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+// Prints the encoded size of a contact list per format, raw and gzipped
+public final class PayloadSizeReport {
+
+    private static final String[] FORMATS = {"json", "smile", "cbor", "protobuf"};
+
+    private PayloadSizeReport() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        List<ContactDto> contacts = BenchmarkFixtures.contacts(size);
+
+        System.out.printf("%-10s %12s %12s %10s%n", "format", "bytes", "gzip bytes", "vs json");
+        long json = 0;
+        for (String format : FORMATS) {
+            byte[] encoded = ContentFormatBenchmark.encode(format, ContentFormatBenchmark.mapper(format), contacts);
+            if (json == 0) {
+                json = encoded.length;
+            }
+            System.out.printf("%-10s %12d %12d %9.0f%%%n",
+                    format, encoded.length, gzip(encoded).length, 100.0 * encoded.length / json);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+}
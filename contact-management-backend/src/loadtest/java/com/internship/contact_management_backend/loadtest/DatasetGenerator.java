@@ -0,0 +1,293 @@
+package com.internship.contact_management_backend.loadtest;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bulk-loads synthetic users and contacts straight into the users/contacts tables
+ * with multi-row inserts, bypassing the REST api.
+ *
+ * <pre>
+ * mvn -Ploadtest test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.internship.contact_management_backend.loadtest.DatasetGenerator \
+ *     -Dexec.args="--users=1000000 --contactsPerUser=20 --heavyUsers=10 --heavyContacts=100000"
+ * </pre>
+ *
+ * Every generated user can log in with {@link #PASSWORD}.
+ */
+public class DatasetGenerator {
+
+    static final String PASSWORD = "password123";
+
+    // at least 3 characters, the User and ContactDto minimum, so generated rows can be saved through the api
+    private static final String[] FIRST_NAMES = {
+            "James", "Mary", "Muhammad", "Fatima", "Wei", "Priya", "Carlos", "Sofia", "Ahmed", "Aisha",
+            "John", "Maria", "Ali", "Zainab", "Hiroshi", "Yuki", "David", "Anna", "Omar", "Sara",
+            "Michael", "Elena", "Raj", "Ananya", "Luca", "Chloe", "Daniel", "Amira", "Ivan", "Olga",
+            "Kwame", "Amara", "Noah", "Emma", "Hassan", "Layla", "Mateo", "Lucia", "Arjun", "Mei"
+    };
+    private static final String[] LAST_NAMES = {
+            "Smith", "Khan", "Wang", "Garcia", "Kumar", "Ahmed", "Muller", "Rossi", "Silva", "Nguyen",
+            "Johnson", "Ali", "Chen", "Lopez", "Sharma", "Hussain", "Schmidt", "Russo", "Santos", "Tran",
+            "Brown", "Sheikh", "Lee", "Martinez", "Patel", "Malik", "Weber", "Bianchi", "Costa", "Pham",
+            "Tanaka", "Ivanov", "Mensah", "Okafor", "Dubois", "Kowalski", "Novak", "Jensen", "Cohen", "Yilmaz"
+    };
+    private static final String[] DOMAINS = {"gmail.com", "yahoo.com", "outlook.com", "example.com", "proton.me"};
+    private static final String[] EMAIL_LABELS = {"Work", "Personal", "Other"};
+    private static final String[] PHONE_LABELS = {"Mobile", "Work", "Home"};
+
+    // Country code, national number length and share of generated numbers (percent)
+    private static final Object[][] COUNTRIES = {
+            {"1", 10, 30}, {"92", 10, 20}, {"91", 10, 15}, {"44", 10, 10},
+            {"49", 11, 8}, {"971", 9, 7}, {"61", 9, 5}, {"81", 10, 5}
+    };
+
+    private static final String USER_SQL =
+            "INSERT INTO users (id, first_name, last_name, email, password, created_at, updated_at) VALUES ";
+    private static final String CONTACT_SQL =
+            "INSERT INTO contacts (first_name, last_name, email, email_label, phone_number, phone_number_label, "
+                    + "user_id, created_at, updated_at) VALUES ";
+
+    private final Map<String, String> options;
+    private final String jdbcUrl;
+    private final String dbUser;
+    private final String dbPassword;
+    private final int users;
+    private final int contactsPerUser;
+    private final int heavyUsers;
+    private final int heavyContacts;
+    private final double nameSkew;
+    private final int threads;
+    private final int batchSize;
+    private final long seed;
+    private final String passwordHash;
+    private final double[] firstNameWeights;
+    private final double[] lastNameWeights;
+    private final AtomicLong contactsWritten = new AtomicLong();
+
+    DatasetGenerator(Map<String, String> options) {
+        this.options = options;
+        this.jdbcUrl = option("url", "jdbc:mysql://127.0.0.1:3306/ContactManagementSystem?useSSL=false&serverTimezone=UTC");
+        this.dbUser = option("user", "root");
+        this.dbPassword = option("password", System.getenv().getOrDefault("DB_PASSWORD", ""));
+        this.users = Integer.parseInt(option("users", "10000"));
+        this.contactsPerUser = Integer.parseInt(option("contactsPerUser", "20"));
+        this.heavyUsers = Integer.parseInt(option("heavyUsers", "0"));
+        this.heavyContacts = Integer.parseInt(option("heavyContacts", "100000"));
+        this.nameSkew = Double.parseDouble(option("nameSkew", "1.0"));
+        this.threads = Integer.parseInt(option("threads", String.valueOf(Runtime.getRuntime().availableProcessors())));
+        this.batchSize = Integer.parseInt(option("batchSize", "1000"));
+        this.seed = Long.parseLong(option("seed", "42"));
+        this.passwordHash = new BCryptPasswordEncoder().encode(PASSWORD);
+        this.firstNameWeights = zipfWeights(FIRST_NAMES.length, nameSkew);
+        this.lastNameWeights = zipfWeights(LAST_NAMES.length, nameSkew);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                int eq = arg.indexOf('=');
+                options.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+        }
+        new DatasetGenerator(options).run();
+    }
+
+    void run() throws Exception {
+        long firstUserId = nextUserId();
+        long start = System.nanoTime();
+
+        // each writer owns a contiguous id range so users and their contacts stay on one connection
+        ExecutorService writers = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+        int perWriter = (users + threads - 1) / threads;
+        for (int w = 0; w < threads; w++) {
+            long from = firstUserId + (long) w * perWriter;
+            long to = Math.min(firstUserId + users, from + perWriter);
+            if (from >= to) {
+                break;
+            }
+            long writerSeed = seed + w;
+            futures.add(writers.submit(() -> {
+                writeRange(from, to, firstUserId, new SplittableRandom(writerSeed));
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        writers.shutdown();
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("Wrote %d users and %d contacts in %.1fs (%.0f contacts/s)%n",
+                users, contactsWritten.get(), seconds, contactsWritten.get() / seconds);
+    }
+
+    private void writeRange(long fromId, long toId, long firstUserId, SplittableRandom random) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(jdbcUrl, dbUser, dbPassword)) {
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                // data is generated consistently, skip per-row checks during the load
+                statement.execute("SET unique_checks = 0");
+                statement.execute("SET foreign_key_checks = 0");
+            }
+            Timestamp now = new Timestamp(System.currentTimeMillis());
+
+            for (long id = fromId; id < toId; id += batchSize) {
+                int rows = (int) Math.min(batchSize, toId - id);
+                try (PreparedStatement insert = connection.prepareStatement(multiRow(USER_SQL, 7, rows))) {
+                    int p = 1;
+                    for (int r = 0; r < rows; r++) {
+                        long userId = id + r;
+                        insert.setLong(p++, userId);
+                        insert.setString(p++, pick(FIRST_NAMES, firstNameWeights, random));
+                        insert.setString(p++, pick(LAST_NAMES, lastNameWeights, random));
+                        insert.setString(p++, "gen" + userId + "@example.com");
+                        insert.setString(p++, passwordHash);
+                        insert.setTimestamp(p++, now);
+                        insert.setTimestamp(p++, now);
+                    }
+                    insert.executeUpdate();
+                }
+                connection.commit();
+
+                for (int r = 0; r < rows; r++) {
+                    long userId = id + r;
+                    writeContacts(connection, userId, contactCount(userId - firstUserId, random), random, now);
+                }
+            }
+        }
+    }
+
+    private void writeContacts(Connection connection, long userId, int count, SplittableRandom random,
+                               Timestamp now) throws SQLException {
+        for (int written = 0; written < count; written += batchSize) {
+            int rows = Math.min(batchSize, count - written);
+            try (PreparedStatement insert = connection.prepareStatement(multiRow(CONTACT_SQL, 9, rows))) {
+                int p = 1;
+                for (int r = 0; r < rows; r++) {
+                    String firstName = pick(FIRST_NAMES, firstNameWeights, random);
+                    String lastName = pick(LAST_NAMES, lastNameWeights, random);
+                    insert.setString(p++, firstName);
+                    insert.setString(p++, lastName);
+                    insert.setString(p++, (firstName + "." + lastName + random.nextInt(10000)).toLowerCase()
+                            + "@" + DOMAINS[random.nextInt(DOMAINS.length)]);
+                    insert.setString(p++, EMAIL_LABELS[random.nextInt(EMAIL_LABELS.length)]);
+                    insert.setString(p++, phoneNumber(random));
+                    insert.setString(p++, PHONE_LABELS[random.nextInt(PHONE_LABELS.length)]);
+                    insert.setLong(p++, userId);
+                    insert.setTimestamp(p++, now);
+                    insert.setTimestamp(p++, now);
+                }
+                insert.executeUpdate();
+            }
+            connection.commit();
+            long total = contactsWritten.addAndGet(rows);
+            if (total / 1_000_000 != (total - rows) / 1_000_000) {
+                System.out.printf("... %d contacts written%n", total);
+            }
+        }
+    }
+
+    // heavyUsers get heavyContacts each, the rest follow an exponential distribution
+    private int contactCount(long userIndex, SplittableRandom random) {
+        if (isHeavy(userIndex)) {
+            return heavyContacts;
+        }
+        return (int) Math.floor(-contactsPerUser * Math.log(1.0 - random.nextDouble()));
+    }
+
+    // Evenly spaced over the users, so every writer's range gets its share
+    private boolean isHeavy(long userIndex) {
+        if (heavyUsers <= 0) {
+            return false;
+        }
+        long stride = Math.max(1, users / heavyUsers);
+        return userIndex % stride == 0 && userIndex / stride < heavyUsers;
+    }
+
+    private static String phoneNumber(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        Object[] country = COUNTRIES[0];
+        for (Object[] candidate : COUNTRIES) {
+            roll -= (int) candidate[2];
+            if (roll < 0) {
+                country = candidate;
+                break;
+            }
+        }
+        int length = (int) country[1];
+        StringBuilder phone = new StringBuilder(16).append('+').append(country[0]);
+        phone.append(1 + random.nextInt(9)); // national numbers don't start with 0
+        for (int i = 1; i < length; i++) {
+            phone.append(random.nextInt(10));
+        }
+        return phone.toString();
+    }
+
+    private static String pick(String[] values, double[] cumulativeWeights, SplittableRandom random) {
+        double roll = random.nextDouble();
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (roll < cumulativeWeights[i]) {
+                return values[i];
+            }
+        }
+        return values[values.length - 1];
+    }
+
+    // Cumulative Zipf distribution, so a few names are much more common than the rest
+    private static double[] zipfWeights(int size, double exponent) {
+        double[] weights = new double[size];
+        double sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += 1.0 / Math.pow(i + 1, exponent);
+            weights[i] = sum;
+        }
+        for (int i = 0; i < size; i++) {
+            weights[i] /= sum;
+        }
+        return weights;
+    }
+
+    private static String multiRow(String prefix, int columns, int rows) {
+        String row = "(" + "?,".repeat(columns - 1) + "?)";
+        StringBuilder sql = new StringBuilder(prefix.length() + rows * (row.length() + 1)).append(prefix);
+        for (int r = 0; r < rows; r++) {
+            if (r > 0) {
+                sql.append(',');
+            }
+            sql.append(row);
+        }
+        return sql.toString();
+    }
+
+    private long nextUserId() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(jdbcUrl, dbUser, dbPassword);
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COALESCE(MAX(id), 0) + 1 FROM users")) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private String option(String name, String defaultValue) {
+        return options.getOrDefault(name, defaultValue);
+    }
+}
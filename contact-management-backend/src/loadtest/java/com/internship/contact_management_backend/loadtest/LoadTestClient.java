@@ -0,0 +1,102 @@
+package com.internship.contact_management_backend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.internship.contact_management_backend.dto.ContactDto;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+
+// Thin HTTP client for the REST api, one instance shared by all workers
+class LoadTestClient {
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+
+    LoadTestClient(String baseUrl, ObjectMapper objectMapper) {
+        this.baseUrl = baseUrl;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+                                    .connectTimeout(Duration.ofSeconds(5))
+                                    .build();
+    }
+
+    void register(String email, String password) throws IOException, InterruptedException {
+        Map<String, String> body = Map.of(
+                "firstName", "Load",
+                "lastName", "Tester",
+                "email", email,
+                "password", password);
+        expect(send(post("/auth/register", null, body)), 201);
+    }
+
+    String login(String email, String password) throws IOException, InterruptedException {
+        HttpResponse<String> response = send(post("/auth/login", null, Map.of("email", email, "password", password)));
+        expect(response, 200);
+        return objectMapper.readTree(response.body()).get("token").asText();
+    }
+
+    HttpResponse<String> create(String token, ContactDto contact) throws IOException, InterruptedException {
+        return send(post("/contacts/create", token, contact));
+    }
+
+    HttpResponse<String> getAll(String token) throws IOException, InterruptedException {
+        return send(request("/contacts/getAll", token).GET().build());
+    }
+
+    HttpResponse<String> search(String token, String keyword) throws IOException, InterruptedException {
+        String query = "?name=" + URLEncoder.encode(keyword, StandardCharsets.UTF_8);
+        return send(request("/contacts/getAll" + query, token).GET().build());
+    }
+
+    HttpResponse<String> update(String token, long id, ContactDto contact) throws IOException, InterruptedException {
+        return send(request("/contacts/update/" + id, token)
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(contact)))
+                .build());
+    }
+
+    HttpResponse<String> delete(String token, long id) throws IOException, InterruptedException {
+        return send(request("/contacts/delete/" + id, token).DELETE().build());
+    }
+
+    long readId(HttpResponse<String> response) throws IOException {
+        JsonNode node = objectMapper.readTree(response.body());
+        return node.get("id").asLong();
+    }
+
+    private HttpRequest post(String path, String token, Object body) throws IOException {
+        return request(path, token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build();
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                                                 .timeout(Duration.ofSeconds(30));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static void expect(HttpResponse<String> response, int status) {
+        if (response.statusCode() != status) {
+            throw new IllegalStateException("Unexpected status " + response.statusCode()
+                    + " from " + response.uri() + " : " + response.body());
+        }
+    }
+}
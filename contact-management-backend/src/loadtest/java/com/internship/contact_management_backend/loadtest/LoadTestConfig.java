@@ -0,0 +1,21 @@
+package com.internship.contact_management_backend.loadtest;
+
+// Load test settings, read from -Dloadtest.* system properties
+record LoadTestConfig(int users,
+                      int contactsPerUser,
+                      int threads,
+                      int durationSeconds,
+                      int warmupSeconds,
+                      long seed) {
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                Integer.getInteger("loadtest.users", 20),
+                Integer.getInteger("loadtest.contactsPerUser", 50),
+                Integer.getInteger("loadtest.threads", 16),
+                Integer.getInteger("loadtest.durationSeconds", 60),
+                Integer.getInteger("loadtest.warmupSeconds", 10),
+                Long.getLong("loadtest.seed", 42L)
+        );
+    }
+}
@@ -0,0 +1,215 @@
+package com.internship.contact_management_backend.loadtest;
+
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.internship.contact_management_backend.ContactManagementBackendApplication;
+import com.internship.contact_management_backend.dto.ContactDto;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Starts the application against an embedded MariaDB instance and drives a
+ * mixed workload through the contact endpoints, then prints throughput,
+ * latency percentiles and error rates per endpoint.
+ */
+public class LoadTestRunner {
+
+    private static final String DATABASE = "ContactManagementSystem";
+    private static final String PASSWORD = "password123";
+    private static final String[] FIRST_NAMES = {
+            "Alice", "Bruno", "Carla", "Daniel", "Elena", "Farah", "George", "Hina", "Imran", "Julia"
+    };
+
+    // Operation mix, weights add up to 100
+    private enum Operation {
+        GET_ALL(45), SEARCH(20), CREATE(15), UPDATE(12), DELETE(8);
+
+        private final int weight;
+
+        Operation(int weight) {
+            this.weight = weight;
+        }
+    }
+
+    private record VirtualUser(String email, String token, List<Long> contactIds) {
+    }
+
+    private final LoadTestConfig config;
+    private final Map<Operation, EndpointStats> stats = new LinkedHashMap<>();
+    private LoadTestClient client;
+
+    LoadTestRunner(LoadTestConfig config) {
+        this.config = config;
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new EndpointStats(operation.name().toLowerCase()));
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        new LoadTestRunner(LoadTestConfig.fromSystemProperties()).run();
+    }
+
+    void run() throws Exception {
+        DBConfigurationBuilder dbConfig = DBConfigurationBuilder.newBuilder();
+        dbConfig.setPort(0); // pick a free port
+        DB db = DB.newEmbeddedDB(dbConfig.build());
+        db.start();
+        db.createDB(DATABASE);
+
+        String jdbcUrl = "jdbc:mysql://localhost:" + db.getConfiguration().getPort() + "/" + DATABASE + "?useSSL=false";
+        ConfigurableApplicationContext context = SpringApplication.run(
+                ContactManagementBackendApplication.class,
+                "--server.port=0",
+                "--spring.datasource.url=" + jdbcUrl,
+                "--spring.datasource.username=root",
+                "--spring.datasource.password=",
+                // every virtual user comes from 127.0.0.1, the limits would measure themselves
+                "--rate-limit.enabled=false",
+                "--concurrency.limit.enabled=false");
+        try {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+            client = new LoadTestClient("http://localhost:" + port, objectMapper);
+
+            List<VirtualUser> users = seed();
+            drive(users, config.warmupSeconds());
+            stats.values().forEach(EndpointStats::reset);
+            long start = System.nanoTime();
+            drive(users, config.durationSeconds());
+            report((System.nanoTime() - start) / 1e9);
+        } finally {
+            context.close();
+            db.stop();
+        }
+    }
+
+    // Register, log in and create the initial dataset for every user
+    private List<VirtualUser> seed() throws Exception {
+        List<VirtualUser> users = new ArrayList<>();
+        SplittableRandom random = new SplittableRandom(config.seed());
+        for (int u = 0; u < config.users(); u++) {
+            String email = "load" + u + "@example.com";
+            client.register(email, PASSWORD);
+            VirtualUser user = new VirtualUser(email, client.login(email, PASSWORD), new ArrayList<>());
+            for (int c = 0; c < config.contactsPerUser(); c++) {
+                HttpResponse<String> response = client.create(user.token(), randomContact(random));
+                user.contactIds().add(client.readId(response));
+            }
+            users.add(user);
+        }
+        System.out.printf("Seeded %d users with %d contacts each%n", config.users(), config.contactsPerUser());
+        return users;
+    }
+
+    private void drive(List<VirtualUser> users, int seconds) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        ExecutorService workers = Executors.newFixedThreadPool(config.threads());
+        for (int t = 0; t < config.threads(); t++) {
+            SplittableRandom random = new SplittableRandom(config.seed() + t);
+            workers.submit(() -> {
+                while (System.nanoTime() < deadline) {
+                    VirtualUser user = users.get(random.nextInt(users.size()));
+                    execute(user, pick(random), random);
+                }
+            });
+        }
+        workers.shutdown();
+        workers.awaitTermination(seconds + 60L, TimeUnit.SECONDS);
+    }
+
+    private void execute(VirtualUser user, Operation operation, SplittableRandom random) {
+        long start = System.nanoTime();
+        boolean success;
+        try {
+            success = switch (operation) {
+                case GET_ALL -> client.getAll(user.token()).statusCode() == 200;
+                case SEARCH -> client.search(user.token(), FIRST_NAMES[random.nextInt(FIRST_NAMES.length)])
+                                     .statusCode() == 200;
+                case CREATE -> {
+                    HttpResponse<String> response = client.create(user.token(), randomContact(random));
+                    if (response.statusCode() == 201) {
+                        addId(user, client.readId(response));
+                        yield true;
+                    }
+                    yield false;
+                }
+                case UPDATE -> {
+                    Long id = randomId(user, random, false);
+                    yield id == null || client.update(user.token(), id, randomContact(random)).statusCode() == 200;
+                }
+                case DELETE -> {
+                    Long id = randomId(user, random, true);
+                    yield id == null || client.delete(user.token(), id).statusCode() == 204;
+                }
+            };
+        } catch (Exception e) {
+            success = false;
+        }
+        stats.get(operation).record(System.nanoTime() - start, success);
+    }
+
+    private static Operation pick(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        for (Operation operation : Operation.values()) {
+            roll -= operation.weight;
+            if (roll < 0) {
+                return operation;
+            }
+        }
+        return Operation.GET_ALL;
+    }
+
+    private static void addId(VirtualUser user, long id) {
+        synchronized (user.contactIds()) {
+            user.contactIds().add(id);
+        }
+    }
+
+    private static Long randomId(VirtualUser user, SplittableRandom random, boolean remove) {
+        List<Long> ids = user.contactIds();
+        synchronized (ids) {
+            if (ids.isEmpty()) {
+                return null;
+            }
+            int index = random.nextInt(ids.size());
+            return remove ? ids.remove(index) : ids.get(index);
+        }
+    }
+
+    private static ContactDto randomContact(SplittableRandom random) {
+        String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+        return ContactDto.builder()
+                         .firstName(firstName)
+                         .lastName("Tester")
+                         .email(firstName.toLowerCase() + random.nextInt(100000) + "@example.com")
+                         .emailLabel("Work")
+                         .phoneNumber("+9232" + (10000000 + random.nextInt(90000000)))
+                         .phoneNumberLabel("Mobile")
+                         .build();
+    }
+
+    private void report(double elapsedSeconds) {
+        System.out.printf("%nUsers=%d contactsPerUser=%d threads=%d duration=%.1fs%n",
+                config.users(), config.contactsPerUser(), config.threads(), elapsedSeconds);
+        System.out.println(EndpointStats.header());
+        long total = 0;
+        for (EndpointStats endpoint : stats.values()) {
+            System.out.println(endpoint.format(elapsedSeconds));
+            total += endpoint.count();
+        }
+        System.out.printf("Total throughput: %.1f req/s%n", total / elapsedSeconds);
+    }
+}
@@ -0,0 +1,9 @@
+package com.internship.contact_management_backend.cache;
+
+// What an invalidation key refers to, all regions are keyed by the user's email; new regions go last (UDP sends the ordinal)
+public enum CacheRegion {
+    USERS,
+    CONTACTS,
+    // a new user: no longer "definitely absent" for RegisteredEmailFilter
+    REGISTRATIONS
+}
@@ -0,0 +1,72 @@
+package com.internship.contact_management_backend.cache;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Count-Min Sketch of how often each key was seen, in fixed memory.
+ *
+ * {@link #DEPTH} rows of {@code width} counters, one counter per row for a
+ * key. An estimate is the smallest of its counters, so it can be too high
+ * when keys collide but never too low. Increments are conservative (only the
+ * smallest counters move), which keeps the overestimate down. {@link #age()}
+ * halves every counter so old traffic fades, as in TinyLFU.
+ */
+public class FrequencySketch {
+
+    static final int DEPTH = 4;
+
+    // odd multipliers, one per row
+    private static final long[] SEEDS = {
+            0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L};
+
+    private final AtomicIntegerArray counters;
+    private final int mask;
+
+    public FrequencySketch(int width) {
+        // rows are a power of two wide, the hash is masked instead of divided
+        int rowWidth = width <= 16 ? 16 : Integer.highestOneBit(width - 1) << 1;
+        this.counters = new AtomicIntegerArray(DEPTH * rowWidth);
+        this.mask = rowWidth - 1;
+    }
+
+    public void increment(String key) {
+        int hash = key.hashCode();
+        int min = Integer.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            min = Math.min(min, counters.get(index(hash, row)));
+        }
+        if (min == Integer.MAX_VALUE) {
+            // saturated
+            return;
+        }
+        // indexes are recomputed rather than kept, so an increment allocates nothing
+        int target = min + 1;
+        for (int row = 0; row < DEPTH; row++) {
+            int index = index(hash, row);
+            int value = counters.get(index);
+            while (value < target && !counters.compareAndSet(index, value, target)) {
+                value = counters.get(index);
+            }
+        }
+    }
+
+    public int estimate(String key) {
+        int hash = key.hashCode();
+        int min = Integer.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            min = Math.min(min, counters.get(index(hash, row)));
+        }
+        return min;
+    }
+
+    public void age() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.getAndUpdate(i, value -> value >>> 1);
+        }
+    }
+
+    private int index(int hash, int row) {
+        long spread = (hash + (long) row) * SEEDS[row];
+        return row * (mask + 1) + (int) ((spread ^ (spread >>> 32)) & mask);
+    }
+}
@@ -0,0 +1,104 @@
+package com.internship.contact_management_backend.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Which users send the most requests, fed by {@code JwtFilter}.
+ *
+ * A {@link FrequencySketch} estimates every user's recent request count and
+ * is halved at the end of each window, so it remembers a few windows. A
+ * {@link SpaceSaving} summary finds the top {@code cache.heavy-hitters.top-k}
+ * users of the current window; when the window ends, those with at least
+ * {@code hot-min-requests} requests become the hot users until the next one.
+ *
+ * The contact read cache uses this TinyLFU-style: hot users' results are
+ * pinned, other users are only admitted once they have been seen
+ * {@code admit-after} times, and a full cache only evicts for a user that is
+ * seen more often than the victim.
+ *
+ * Requests reach the summary through a {@link StripedRingBuffer}, so the
+ * request path never waits on its lock; under heavy contention a few
+ * requests may go uncounted in the summary, never in the sketch.
+ */
+@Component
+public class HeavyHitterTracker {
+
+    public record Snapshot(Instant windowStart, long windowRequests, List<SpaceSaving.Counter> current,
+                           Instant lastWindowStart, List<SpaceSaving.Counter> lastWindow, Set<String> hot) {
+    }
+
+    private final int topK;
+    private final int admitAfter;
+    private final long hotMinRequests;
+    private final FrequencySketch sketch;
+    private final StripedRingBuffer buffer;
+
+    private volatile SpaceSaving window;
+    private volatile Instant windowStart = Instant.now();
+    private volatile List<SpaceSaving.Counter> lastWindow = List.of();
+    private volatile Instant lastWindowStart;
+    private volatile Set<String> hot = Set.of();
+
+    public HeavyHitterTracker(@Value("${cache.heavy-hitters.top-k:50}") int topK,
+                              @Value("${cache.heavy-hitters.admit-after:2}") int admitAfter,
+                              @Value("${cache.heavy-hitters.hot-min-requests:20}") long hotMinRequests,
+                              @Value("${cache.heavy-hitters.sketch-width:16384}") int sketchWidth) {
+        this.topK = topK;
+        this.admitAfter = admitAfter;
+        this.hotMinRequests = hotMinRequests;
+        this.sketch = new FrequencySketch(sketchWidth);
+        // a few times k counters keep the top k accurate
+        this.window = new SpaceSaving(topK * 4);
+        this.buffer = new StripedRingBuffer(user -> window.offer(user));
+    }
+
+    public void record(String user) {
+        sketch.increment(user);
+        buffer.offer(user);
+    }
+
+    public int frequency(String user) {
+        return sketch.estimate(user);
+    }
+
+    public boolean isHot(String user) {
+        return hot.contains(user);
+    }
+
+    // seen often enough to be worth caching
+    public boolean admits(String user) {
+        return isHot(user) || frequency(user) >= admitAfter;
+    }
+
+    @Scheduled(fixedRateString = "${cache.heavy-hitters.window:PT1M}",
+               initialDelayString = "${cache.heavy-hitters.window:PT1M}")
+    public void rotate() {
+        buffer.drain();
+        SpaceSaving finished = window;
+        Instant finishedStart = windowStart;
+        window = new SpaceSaving(topK * 4);
+        windowStart = Instant.now();
+
+        List<SpaceSaving.Counter> top = finished.top(topK);
+        lastWindow = top;
+        lastWindowStart = finishedStart;
+        hot = top.stream()
+                 .filter(counter -> counter.guaranteed() >= hotMinRequests)
+                 .map(SpaceSaving.Counter::key)
+                 .collect(Collectors.toUnmodifiableSet());
+        sketch.age();
+    }
+
+    public Snapshot snapshot() {
+        buffer.drain();
+        SpaceSaving current = window;
+        return new Snapshot(windowStart, current.total(), current.top(topK), lastWindowStart, lastWindow, hot);
+    }
+}
@@ -0,0 +1,22 @@
+package com.internship.contact_management_backend.cache;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+// GET /actuator/heavyhitters: the busiest users of the current and the last window
+@Component
+@Endpoint(id = "heavyhitters")
+public class HeavyHittersEndpoint {
+
+    private final HeavyHitterTracker heavyHitterTracker;
+
+    public HeavyHittersEndpoint(HeavyHitterTracker heavyHitterTracker) {
+        this.heavyHitterTracker = heavyHitterTracker;
+    }
+
+    @ReadOperation
+    public HeavyHitterTracker.Snapshot heavyHitters() {
+        return heavyHitterTracker.snapshot();
+    }
+}
@@ -0,0 +1,38 @@
+package com.internship.contact_management_backend.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+// Every instance in this JVM is a node, enough for one instance or for tests with several contexts
+@Component
+@ConditionalOnProperty(name = "cache.invalidation.transport", havingValue = "jvm", matchIfMissing = true)
+public class InJvmInvalidationBroadcaster implements InvalidationBroadcaster {
+
+    private static final List<InJvmInvalidationBroadcaster> NODES = new CopyOnWriteArrayList<>();
+
+    private volatile Consumer<List<Invalidation>> receiver;
+
+    @Override
+    public void start(Consumer<List<Invalidation>> receiver) {
+        this.receiver = receiver;
+        NODES.add(this);
+    }
+
+    @Override
+    public void send(List<Invalidation> batch) {
+        for (InJvmInvalidationBroadcaster node : NODES) {
+            if (node != this) {
+                node.receiver.accept(batch);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        NODES.remove(this);
+    }
+}
@@ -0,0 +1,5 @@
+package com.internship.contact_management_backend.cache;
+
+// Cached data of one key in one region is stale
+public record Invalidation(CacheRegion region, String key) {
+}
@@ -0,0 +1,21 @@
+package com.internship.contact_management_backend.cache;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Carries invalidations between instances of the application.
+ *
+ * {@link #send} is called with batches that are already coalesced and must
+ * not block for long; delivery is best effort, the cache TTLs bound the
+ * damage of a lost message. The receiver is never called with the sender's
+ * own batches.
+ */
+public interface InvalidationBroadcaster {
+
+    void start(Consumer<List<Invalidation>> receiver);
+
+    void send(List<Invalidation> batch);
+
+    void close();
+}
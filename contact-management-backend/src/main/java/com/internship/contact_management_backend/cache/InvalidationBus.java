@@ -0,0 +1,107 @@
+package com.internship.contact_management_backend.cache;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Invalidates in-process caches on this instance and, through the
+ * {@link InvalidationBroadcaster}, on every other instance.
+ *
+ * A publish inside a transaction waits for the commit, a rolled back change
+ * invalidates nothing. Local listeners run straight away so this instance
+ * reads its own writes; other instances get the keys in batches every
+ * {@code cache.invalidation.flush-interval}, with repeated keys sent once.
+ */
+@Component
+@Slf4j
+public class InvalidationBus {
+
+    private final InvalidationBroadcaster broadcaster;
+    private final Map<CacheRegion, List<Consumer<String>>> listeners = new EnumMap<>(CacheRegion.class);
+    private final Set<Invalidation> pending = ConcurrentHashMap.newKeySet();
+
+    public InvalidationBus(InvalidationBroadcaster broadcaster) {
+        this.broadcaster = broadcaster;
+        for (CacheRegion region : CacheRegion.values()) {
+            listeners.put(region, new CopyOnWriteArrayList<>());
+        }
+        broadcaster.start(this::received);
+    }
+
+    public void subscribe(CacheRegion region, Consumer<String> listener) {
+        listeners.get(region).add(listener);
+    }
+
+    public void publish(CacheRegion region, String key) {
+        Invalidation invalidation = new Invalidation(region, key);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatch(invalidation);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dispatch(invalidation);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${cache.invalidation.flush-interval:PT0.05S}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Invalidation> batch = new ArrayList<>(pending.size());
+        for (Iterator<Invalidation> it = pending.iterator(); it.hasNext(); ) {
+            batch.add(it.next());
+            it.remove();
+        }
+        try {
+            broadcaster.send(batch);
+        } catch (RuntimeException e) {
+            // the other instances catch up when their entries expire
+            log.warn("Could not broadcast {} cache invalidations", batch.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        flush();
+        broadcaster.close();
+    }
+
+    private void dispatch(Invalidation invalidation) {
+        deliver(invalidation);
+        pending.add(invalidation);
+    }
+
+    private void received(List<Invalidation> batch) {
+        for (Invalidation invalidation : batch) {
+            deliver(invalidation);
+        }
+    }
+
+    private void deliver(Invalidation invalidation) {
+        for (Consumer<String> listener : listeners.get(invalidation.region())) {
+            try {
+                listener.accept(invalidation.key());
+            } catch (RuntimeException e) {
+                log.warn("Cache invalidation of {} failed", invalidation, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.internship.contact_management_backend.cache;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Space-Saving summary of the most frequent keys of a stream.
+ *
+ * At most {@code capacity} keys are counted. A new key takes the place of the
+ * key with the smallest count and starts from that count, which is kept as
+ * its possible error. Any key seen more than n / capacity times out of n is
+ * guaranteed to be in the summary.
+ *
+ * Keys are kept in a stream summary: a list of buckets ordered by count, each
+ * holding the keys with that count. An increment moves a key to the next
+ * bucket and the smallest count is the head bucket, so {@link #offer} is O(1)
+ * whatever the capacity.
+ */
+public class SpaceSaving {
+
+    public record Counter(String key, long count, long error) {
+
+        // occurrences the key is known to have, at least
+        public long guaranteed() {
+            return count - error;
+        }
+    }
+
+    private static final class Bucket {
+        private final long count;
+        private final LinkedHashSet<Node> nodes = new LinkedHashSet<>();
+        private Bucket previous;
+        private Bucket next;
+
+        private Bucket(long count) {
+            this.count = count;
+        }
+    }
+
+    private static final class Node {
+        private String key;
+        private long error;
+        private Bucket bucket;
+    }
+
+    private final int capacity;
+    private final Map<String, Node> counters;
+    // smallest and largest counts
+    private Bucket head;
+    private Bucket tail;
+    private long total;
+
+    public SpaceSaving(int capacity) {
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+    }
+
+    public synchronized void offer(String key) {
+        total++;
+        Node node = counters.get(key);
+        if (node != null) {
+            increment(node);
+            return;
+        }
+        if (counters.size() < capacity) {
+            node = new Node();
+            node.key = key;
+            if (head == null || head.count != 1) {
+                insertAfter(null, new Bucket(1));
+            }
+            node.bucket = head;
+            head.nodes.add(node);
+            counters.put(key, node);
+            return;
+        }
+        // the oldest key with the smallest count makes room
+        Node victim = head.nodes.iterator().next();
+        counters.remove(victim.key);
+        victim.key = key;
+        victim.error = head.count;
+        counters.put(key, victim);
+        increment(victim);
+    }
+
+    // the k keys with the highest counts, highest first
+    public synchronized List<Counter> top(int k) {
+        List<Counter> top = new ArrayList<>(Math.min(k, counters.size()));
+        for (Bucket bucket = tail; bucket != null && top.size() < k; bucket = bucket.previous) {
+            for (Node node : bucket.nodes) {
+                if (top.size() == k) {
+                    break;
+                }
+                top.add(new Counter(node.key, bucket.count, node.error));
+            }
+        }
+        return top;
+    }
+
+    public synchronized long total() {
+        return total;
+    }
+
+    private void increment(Node node) {
+        Bucket from = node.bucket;
+        Bucket to = from.next;
+        if (to == null || to.count != from.count + 1) {
+            to = new Bucket(from.count + 1);
+            insertAfter(from, to);
+        }
+        from.nodes.remove(node);
+        to.nodes.add(node);
+        node.bucket = to;
+        if (from.nodes.isEmpty()) {
+            unlink(from);
+        }
+    }
+
+    // a null position inserts at the head
+    private void insertAfter(Bucket position, Bucket bucket) {
+        Bucket next = position == null ? head : position.next;
+        bucket.previous = position;
+        bucket.next = next;
+        if (position == null) {
+            head = bucket;
+        } else {
+            position.next = bucket;
+        }
+        if (next == null) {
+            tail = bucket;
+        } else {
+            next.previous = bucket;
+        }
+    }
+
+    private void unlink(Bucket bucket) {
+        if (bucket.previous == null) {
+            head = bucket.next;
+        } else {
+            bucket.previous.next = bucket.next;
+        }
+        if (bucket.next == null) {
+            tail = bucket.previous;
+        } else {
+            bucket.next.previous = bucket.previous;
+        }
+    }
+}
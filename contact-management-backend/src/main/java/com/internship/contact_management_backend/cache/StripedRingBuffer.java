@@ -0,0 +1,107 @@
+package com.internship.contact_management_backend.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Lossy, striped ring buffers in front of a consumer too expensive to call
+ * under contention on every request, the way Caffeine records reads.
+ *
+ * A thread adds to the stripe its id maps to with a single CAS and never
+ * blocks. The thread that finds its stripe full drains every stripe into the
+ * consumer if no other thread is already doing so, otherwise the element is
+ * dropped. The consumer is therefore only ever called by one thread at a time.
+ */
+final class StripedRingBuffer {
+
+    static final int STRIPE_SIZE = 16;
+    private static final int STRIPE_MASK = STRIPE_SIZE - 1;
+
+    private static final class Stripe {
+        private final AtomicReferenceArray<String> slots = new AtomicReferenceArray<>(STRIPE_SIZE);
+        private final AtomicLong writes = new AtomicLong();
+        // only moved by the draining thread
+        private volatile long reads;
+    }
+
+    private final Stripe[] stripes;
+    private final Consumer<String> consumer;
+    private final ReentrantLock drainLock = new ReentrantLock();
+
+    StripedRingBuffer(Consumer<String> consumer) {
+        // a few stripes per core keep threads from sharing one
+        int wanted = 4 * Runtime.getRuntime().availableProcessors();
+        this.stripes = new Stripe[Integer.highestOneBit(wanted - 1) << 1];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.consumer = consumer;
+    }
+
+    // false when the element was dropped
+    boolean offer(String element) {
+        Stripe stripe = stripes[stripeIndex()];
+        for (int attempt = 0; attempt < 2; attempt++) {
+            long tail = stripe.writes.get();
+            if (tail - stripe.reads >= STRIPE_SIZE) {
+                if (!tryDrain()) {
+                    return false;
+                }
+                continue;
+            }
+            if (stripe.writes.compareAndSet(tail, tail + 1)) {
+                stripe.slots.lazySet((int) (tail & STRIPE_MASK), element);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // hands everything buffered so far to the consumer, waiting for a running drain
+    void drain() {
+        drainLock.lock();
+        try {
+            drainStripes();
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    private boolean tryDrain() {
+        if (!drainLock.tryLock()) {
+            return false;
+        }
+        try {
+            drainStripes();
+            return true;
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    private void drainStripes() {
+        for (Stripe stripe : stripes) {
+            long head = stripe.reads;
+            long tail = stripe.writes.get();
+            while (head < tail) {
+                int index = (int) (head & STRIPE_MASK);
+                String element = stripe.slots.get(index);
+                if (element == null) {
+                    // claimed but not written yet, picked up by the next drain
+                    break;
+                }
+                stripe.slots.lazySet(index, null);
+                consumer.accept(element);
+                head++;
+            }
+            stripe.reads = head;
+        }
+    }
+
+    private int stripeIndex() {
+        long spread = Thread.currentThread().getId() * 0x9E3779B97F4A7C15L;
+        return (int) (spread >>> 32) & (stripes.length - 1);
+    }
+}
@@ -0,0 +1,200 @@
+package com.internship.contact_management_backend.cache;
+
+import com.internship.contact_management_backend.config.CacheInvalidationProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.MulticastSocket;
+import java.net.NetworkInterface;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+/**
+ * Invalidations as UDP datagrams, to a multicast group or to a list of peers.
+ *
+ * With multicast every node joins the same group and port and gets its own
+ * packets back, which are recognised by the node id. When peers are listed,
+ * or no group is set, each node listens on its own port and sends to the
+ * peers, so several instances can run on one machine without multicast
+ * routing. A batch is split into packets of at most
+ * {@link #MAX_PACKET_BYTES}; a lost packet is not resent.
+ *
+ * Packet: magic, version, node id, entry count, then region and key per entry.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "cache.invalidation.transport", havingValue = "udp")
+public class UdpInvalidationBroadcaster implements InvalidationBroadcaster {
+
+    static final int MAX_PACKET_BYTES = 1400;
+
+    private static final int MAGIC = 0x43494E56; // "CINV"
+    private static final byte VERSION = 1;
+    private static final int HEADER_BYTES = 4 + 1 + 8 + 2;
+    private static final CacheRegion[] REGIONS = CacheRegion.values();
+
+    private final long nodeId = ThreadLocalRandom.current().nextLong();
+    private final DatagramSocket socket;
+    private final List<InetSocketAddress> targets = new ArrayList<>();
+    private volatile Thread receiverThread;
+
+    public UdpInvalidationBroadcaster(CacheInvalidationProperties properties) throws IOException {
+        CacheInvalidationProperties.Udp udp = properties.getUdp();
+        boolean multicast = udp.getPeers().isEmpty() && udp.getGroup() != null && !udp.getGroup().isBlank();
+        if (multicast) {
+            InetAddress group = InetAddress.getByName(udp.getGroup());
+            MulticastSocket multicastSocket = new MulticastSocket(udp.getPort());
+            multicastSocket.setTimeToLive(udp.getTimeToLive());
+            NetworkInterface networkInterface = udp.getNetworkInterface() == null || udp.getNetworkInterface().isBlank()
+                    ? null : NetworkInterface.getByName(udp.getNetworkInterface());
+            if (networkInterface != null) {
+                multicastSocket.setNetworkInterface(networkInterface);
+            }
+            multicastSocket.joinGroup(new InetSocketAddress(group, udp.getPort()), networkInterface);
+            socket = multicastSocket;
+            targets.add(new InetSocketAddress(group, udp.getPort()));
+        } else {
+            socket = new DatagramSocket(udp.getPort());
+            for (String peer : udp.getPeers()) {
+                int colon = peer.lastIndexOf(':');
+                if (colon < 0) {
+                    throw new IllegalArgumentException("Invalidation peer must be host:port, got " + peer);
+                }
+                targets.add(new InetSocketAddress(peer.substring(0, colon), Integer.parseInt(peer.substring(colon + 1))));
+            }
+        }
+        log.info("Cache invalidations over UDP port={} targets={}", socket.getLocalPort(), targets);
+    }
+
+    // the bound port, for tests that bind port 0
+    int localPort() {
+        return socket.getLocalPort();
+    }
+
+    @Override
+    public void start(Consumer<List<Invalidation>> receiver) {
+        Thread thread = new Thread(() -> receive(receiver), "cache-invalidation-receiver");
+        thread.setDaemon(true);
+        receiverThread = thread;
+        thread.start();
+    }
+
+    @Override
+    public void send(List<Invalidation> batch) {
+        try {
+            ByteArrayOutputStream packet = new ByteArrayOutputStream(MAX_PACKET_BYTES);
+            List<byte[]> entries = new ArrayList<>();
+            int size = HEADER_BYTES;
+            for (Invalidation invalidation : batch) {
+                byte[] entry = entry(invalidation);
+                if (HEADER_BYTES + entry.length > MAX_PACKET_BYTES) {
+                    log.warn("Cache invalidation key too long to send: {}", invalidation.key().length());
+                    continue;
+                }
+                if (size + entry.length > MAX_PACKET_BYTES) {
+                    sendPacket(packet, entries);
+                    size = HEADER_BYTES;
+                }
+                entries.add(entry);
+                size += entry.length;
+            }
+            if (!entries.isEmpty()) {
+                sendPacket(packet, entries);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        Thread thread = receiverThread;
+        if (thread != null) {
+            thread.interrupt();
+        }
+        socket.close();
+    }
+
+    private void sendPacket(ByteArrayOutputStream packet, List<byte[]> entries) throws IOException {
+        packet.reset();
+        DataOutputStream out = new DataOutputStream(packet);
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeLong(nodeId);
+        out.writeShort(entries.size());
+        for (byte[] entry : entries) {
+            out.write(entry);
+        }
+        byte[] bytes = packet.toByteArray();
+        for (InetSocketAddress target : targets) {
+            socket.send(new DatagramPacket(bytes, bytes.length, target));
+        }
+        entries.clear();
+    }
+
+    private static byte[] entry(Invalidation invalidation) {
+        byte[] key = invalidation.key().getBytes(StandardCharsets.UTF_8);
+        byte[] entry = new byte[1 + 2 + key.length];
+        entry[0] = (byte) invalidation.region().ordinal();
+        entry[1] = (byte) (key.length >>> 8);
+        entry[2] = (byte) key.length;
+        System.arraycopy(key, 0, entry, 3, key.length);
+        return entry;
+    }
+
+    private void receive(Consumer<List<Invalidation>> receiver) {
+        byte[] buffer = new byte[MAX_PACKET_BYTES];
+        DatagramPacket packet = new DatagramPacket(buffer, buffer.length);
+        while (!socket.isClosed()) {
+            try {
+                packet.setLength(buffer.length);
+                socket.receive(packet);
+                List<Invalidation> batch = parse(packet);
+                if (batch != null && !batch.isEmpty()) {
+                    receiver.accept(batch);
+                }
+            } catch (IOException | RuntimeException e) {
+                if (socket.isClosed()) {
+                    // closed on shutdown
+                    return;
+                }
+                log.warn("Dropped a cache invalidation packet from {}", packet.getSocketAddress(), e);
+            }
+        }
+    }
+
+    // null for packets of other applications and our own multicast packets
+    private List<Invalidation> parse(DatagramPacket packet) throws IOException {
+        DataInputStream in = new DataInputStream(
+                new ByteArrayInputStream(packet.getData(), packet.getOffset(), packet.getLength()));
+        if (packet.getLength() < HEADER_BYTES || in.readInt() != MAGIC || in.readByte() != VERSION
+                || in.readLong() == nodeId) {
+            return null;
+        }
+        int count = in.readUnsignedShort();
+        List<Invalidation> batch = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int region = in.readUnsignedByte();
+            byte[] key = new byte[in.readUnsignedShort()];
+            in.readFully(key);
+            if (region < REGIONS.length) {
+                batch.add(new Invalidation(REGIONS[region], new String(key, StandardCharsets.UTF_8)));
+            }
+        }
+        return batch;
+    }
+}
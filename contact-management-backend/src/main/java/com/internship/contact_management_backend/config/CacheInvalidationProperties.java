@@ -0,0 +1,30 @@
+package com.internship.contact_management_backend.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// cache.invalidation.* properties, the udp block is only read by the udp transport
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "cache.invalidation")
+public class CacheInvalidationProperties {
+
+    private String transport = "jvm";   // jvm or udp
+    private Udp udp = new Udp();
+
+    @Getter
+    @Setter
+    public static class Udp {
+        private String group = "239.255.43.21"; // multicast group, used when there are no peers; empty for unicast
+        private int port = 45721;               // port the group is joined on, or this node's unicast port
+        private List<String> peers = new ArrayList<>(); // host:port of the other nodes, unicast
+        private String networkInterface;        // interface to join the group on, the default one when empty
+        private int timeToLive = 1;             // multicast hops, 1 keeps it on the local network
+    }
+}
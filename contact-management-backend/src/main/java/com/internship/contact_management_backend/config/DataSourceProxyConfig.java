@@ -0,0 +1,43 @@
+package com.internship.contact_management_backend.config;
+
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ResultSetProxyLogicFactory;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class DataSourceProxyConfig {
+
+    // Wrap the pooled DataSource so every statement passes through the registered listeners
+    @Bean
+    public static BeanPostProcessor dataSourceProxyPostProcessor(
+            ObjectProvider<QueryExecutionListener> queryListeners,
+            ObjectProvider<ResultSetProxyLogicFactory> resultSetLogic,
+            @Value("${jdbc.slow-query.count-rows:true}") boolean countRows) {
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+                    return bean;
+                }
+                ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(dataSource)
+                                                                       .name(beanName);
+                queryListeners.orderedStream().forEach(builder::listener);
+                // ResultSets are only proxied to count the rows of slow queries
+                ResultSetProxyLogicFactory rowCounter = resultSetLogic.getIfUnique();
+                if (countRows && rowCounter != null) {
+                    builder.proxyResultSet(rowCounter);
+                }
+                return builder.build();
+            }
+        };
+    }
+}
@@ -0,0 +1,24 @@
+package com.internship.contact_management_backend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.internship.contact_management_backend.jfr.ResponseWriteEvent;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+// Smile converter that emits a ResponseWriteEvent with the serialized size when JFR records it
+public class InstrumentedSmileHttpMessageConverter extends MappingJackson2SmileHttpMessageConverter {
+
+    public InstrumentedSmileHttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        ResponseWriteEvent.record(object, outputMessage, message -> super.writeInternal(object, type, message));
+    }
+}
@@ -0,0 +1,26 @@
+package com.internship.contact_management_backend.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// jwt.keys.* properties, the signing key ring by key id (kid)
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "jwt.keys")
+public class JwtKeyProperties {
+
+    // kid that signs new tokens, every key in the ring verifies
+    private String active;
+    // kid -> base64 HMAC secret (at least 256 bits)
+    private Map<String, String> secrets = new LinkedHashMap<>();
+    // optional properties file (active=..., secrets.<kid>=...) replacing the keys above, reloaded when it changes
+    private String file;
+    private Duration reloadInterval = Duration.ofSeconds(30);
+}
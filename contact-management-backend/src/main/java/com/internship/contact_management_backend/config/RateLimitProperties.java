@@ -0,0 +1,40 @@
+package com.internship.contact_management_backend.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+// rate-limit.* properties, rules are matched in order and the first match wins
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    // distinct keys tracked per rule before new keys evict the most idle ones
+    private int maxKeys = 100_000;
+    private Duration evictionInterval = Duration.ofMinutes(1);
+    private List<Rule> rules = new ArrayList<>();
+
+    public enum Key {
+        IP,     // client IP, for public routes such as /auth/**
+        USER    // subject of a verified bearer token, client IP without one
+    }
+
+    @Getter
+    @Setter
+    public static class Rule {
+        private String method;      // any method when empty
+        private String path;        // Ant pattern, e.g. /contacts/**
+        private int limit;          // requests per period
+        private Duration period = Duration.ofMinutes(1);
+        private int burst;          // back-to-back requests, defaults to limit
+        private Key key = Key.IP;
+    }
+}
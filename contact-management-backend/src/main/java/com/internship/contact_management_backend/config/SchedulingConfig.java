@@ -0,0 +1,10 @@
+package com.internship.contact_management_backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Background housekeeping (@Scheduled methods)
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
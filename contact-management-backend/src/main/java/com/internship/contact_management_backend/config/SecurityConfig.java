@@ -1,7 +1,11 @@
 package com.internship.contact_management_backend.config;
 
 
+import com.internship.contact_management_backend.cache.HeavyHittersEndpoint;
+import com.internship.contact_management_backend.filter.ConcurrencyLimitFilter;
 import com.internship.contact_management_backend.filter.JwtFilter;
+import com.internship.contact_management_backend.filter.RateLimitFilter;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -15,10 +19,15 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @Configuration
 public class SecurityConfig {
     private final JwtFilter jwtFilter;
+    private final ConcurrencyLimitFilter concurrencyLimitFilter;
+    private final RateLimitFilter rateLimitFilter;
 
     // Constructor injection
-    public SecurityConfig(JwtFilter jwtFilter) {
+    public SecurityConfig(JwtFilter jwtFilter, ConcurrencyLimitFilter concurrencyLimitFilter,
+                          RateLimitFilter rateLimitFilter) {
         this.jwtFilter = jwtFilter;
+        this.concurrencyLimitFilter = concurrencyLimitFilter;
+        this.rateLimitFilter = rateLimitFilter;
     }
 
     // Security filter chain
@@ -31,12 +40,25 @@ public class SecurityConfig {
 
                 // Define route authorization
                 .authorizeHttpRequests(auth -> auth
+                        .requestMatchers("/auth/logout", "/auth/logout-all").authenticated()
                         .requestMatchers("/auth/**").permitAll()   // public
+                        // internal: other users' emails and request counts
+                        .requestMatchers(EndpointRequest.to(HeavyHittersEndpoint.class)).hasRole("ADMIN")
                         .anyRequest().authenticated()             // all else require auth
                 )
 
                 .addFilterBefore(
                         jwtFilter, UsernamePasswordAuthenticationFilter.class
+                )
+
+                // Shed load before any token or database work is done
+                .addFilterBefore(
+                        concurrencyLimitFilter, JwtFilter.class
+                )
+
+                // Rate limited requests never take a concurrency slot
+                .addFilterBefore(
+                        rateLimitFilter, ConcurrencyLimitFilter.class
                 );
 
         return http.build();
@@ -1,7 +1,15 @@
 package com.internship.contact_management_backend.controller;
 
+import com.internship.contact_management_backend.dto.BatchOperationResultDto;
+import com.internship.contact_management_backend.dto.BatchRequestDto;
+import com.internship.contact_management_backend.dto.BulkDeleteRequestDto;
+import com.internship.contact_management_backend.dto.BulkLabelUpdateDto;
+import com.internship.contact_management_backend.dto.BulkResultDto;
 import com.internship.contact_management_backend.dto.ContactDto;
+import com.internship.contact_management_backend.dto.ContactField;
 import com.internship.contact_management_backend.entity.Contact;
+import com.internship.contact_management_backend.service.ContactBatchService;
+import com.internship.contact_management_backend.service.ContactBulkService;
 import com.internship.contact_management_backend.service.ContactService;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
@@ -17,9 +25,14 @@ import java.util.List;
 public class ContactController {
 
     private final ContactService contactService;
+    private final ContactBulkService contactBulkService;
+    private final ContactBatchService contactBatchService;
 
-    public ContactController(ContactService contactService) {
+    public ContactController(ContactService contactService, ContactBulkService contactBulkService,
+                             ContactBatchService contactBatchService) {
         this.contactService = contactService;
+        this.contactBulkService = contactBulkService;
+        this.contactBatchService = contactBatchService;
     }
 
     @PostMapping("/create")
@@ -38,17 +51,20 @@ public class ContactController {
     }
 
     @GetMapping(value = "/getAll", params = "!name")
-    public ResponseEntity<List<ContactDto>> getAllContactsForUser(){
+    public ResponseEntity<List<ContactDto>> getAllContactsForUser(
+            @RequestParam(value = "fields", required = false) String fields){
 
         //extract the email
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         String userEmail = authentication.getName();
 
+        //only read the requested columns
+        if (fields != null) {
+            return ResponseEntity.ok(contactService.getContactsByEmail(userEmail, ContactField.parse(fields)));
+        }
+
         //fetch contacts by user id
-        return ResponseEntity.ok(contactService.getContactsByEmail(userEmail)
-                .stream()
-                .map(Contact::toDto)
-                .toList());
+        return ResponseEntity.ok(contactService.getContactsByEmail(userEmail));
     }
 
     @DeleteMapping("/delete/{id}")
@@ -62,6 +78,36 @@ public class ContactController {
         return ResponseEntity.noContent().build();
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<BatchOperationResultDto>> batch(@Valid @RequestBody BatchRequestDto request){
+        //extract the email
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String userEmail = authentication.getName();
+
+        //create, update and delete in request order, all in one transaction
+        return ResponseEntity.ok(contactBatchService.apply(request.getOperations(), userEmail));
+    }
+
+    @PostMapping("/bulk-delete")
+    public ResponseEntity<BulkResultDto> bulkDelete(@Valid @RequestBody BulkDeleteRequestDto request){
+        //extract the email
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String userEmail = authentication.getName();
+
+        //delete by ids or by name filter, per-id outcomes
+        return ResponseEntity.ok(contactBulkService.deleteContacts(request, userEmail));
+    }
+
+    @PostMapping("/bulk-update-labels")
+    public ResponseEntity<BulkResultDto> bulkUpdateLabels(@Valid @RequestBody BulkLabelUpdateDto request){
+        //extract the email
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String userEmail = authentication.getName();
+
+        //set the given labels on every listed contact
+        return ResponseEntity.ok(contactBulkService.updateLabels(request, userEmail));
+    }
+
     @PutMapping("/update/{id}")
     public ResponseEntity<ContactDto> updateContact(@PathVariable Long id, @Valid @RequestBody ContactDto contactDto){
         //extract the email
@@ -76,16 +122,18 @@ public class ContactController {
 
     @GetMapping(value = "/getAll", params = "name")
     public ResponseEntity<List<ContactDto>> searchContacts(
-            @RequestParam("name") String keyword) {
+            @RequestParam("name") String keyword,
+            @RequestParam(value = "fields", required = false) String fields) {
         //extract the email
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         String userEmail = authentication.getName();
 
+        //only read the requested columns
+        if (fields != null) {
+            return ResponseEntity.ok(contactService.searchContacts(keyword, userEmail, ContactField.parse(fields)));
+        }
+
         //search contacts
-         return ResponseEntity.ok(contactService.searchContacts(keyword, userEmail)
-                                                .stream()
-                                                .map(ContactDto::from)
-                                                .toList()
-         );
+         return ResponseEntity.ok(contactService.searchContacts(keyword, userEmail));
     }
 }
@@ -0,0 +1,66 @@
+package com.internship.contact_management_backend.controller;
+
+import com.internship.contact_management_backend.dto.ExportJobDto;
+import com.internship.contact_management_backend.dto.ExportRequestDto;
+import com.internship.contact_management_backend.exporter.ExportJob;
+import com.internship.contact_management_backend.service.ContactExportService;
+import com.internship.contact_management_backend.utils.FileDownload;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.net.URI;
+
+@RestController
+@RequestMapping("/contacts/export")
+public class ContactExportController {
+
+    private final ContactExportService contactExportService;
+
+    public ContactExportController(ContactExportService contactExportService) {
+        this.contactExportService = contactExportService;
+    }
+
+    @PostMapping
+    public ResponseEntity<ExportJobDto> startExport(@RequestBody(required = false) ExportRequestDto request)
+            throws IOException {
+        //extract the email
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String userEmail = authentication.getName();
+
+        //the file is written in the background, poll the job until it is completed
+        ExportRequestDto options = request != null ? request : new ExportRequestDto();
+        ExportJob job = contactExportService.start(options.getFormat(), options.isGzip(), userEmail);
+        return ResponseEntity.accepted()
+                             .location(URI.create("/contacts/export/" + job.getId()))
+                             .body(ExportJobDto.from(job));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ExportJobDto> getExport(@PathVariable String id) {
+        //extract the email
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String userEmail = authentication.getName();
+
+        return ResponseEntity.ok(ExportJobDto.from(contactExportService.getJob(id, userEmail)));
+    }
+
+    @GetMapping("/{id}/file")
+    public void downloadExport(@PathVariable String id, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        //extract the email
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String userEmail = authentication.getName();
+
+        //send a Range header to resume an interrupted download
+        ExportJob job = contactExportService.getCompletedJob(id, userEmail);
+        response.setContentType(job.contentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + job.fileName() + "\"");
+        FileDownload.send(request, response, job.getFile(), "\"" + job.getId() + "\"");
+    }
+}
@@ -0,0 +1,65 @@
+package com.internship.contact_management_backend.controller;
+
+import com.internship.contact_management_backend.dto.ImportJobDto;
+import com.internship.contact_management_backend.importer.ImportJob;
+import com.internship.contact_management_backend.service.ContactImportService;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.net.URI;
+
+@RestController
+@RequestMapping("/contacts/import")
+public class ContactImportController {
+
+    private final ContactImportService contactImportService;
+
+    public ContactImportController(ContactImportService contactImportService) {
+        this.contactImportService = contactImportService;
+    }
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportJobDto> startImport(@RequestParam("file") MultipartFile file,
+                                                    @RequestParam(value = "format", required = false) String format)
+            throws IOException {
+        //extract the email
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String userEmail = authentication.getName();
+
+        //parsing and saving run in the background, poll the job for progress
+        ImportJob job = contactImportService.start(file, format, userEmail);
+        return ResponseEntity.accepted()
+                             .location(URI.create("/contacts/import/" + job.getId()))
+                             .body(ImportJobDto.from(job));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ImportJobDto> getImport(@PathVariable String id) {
+        //extract the email
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String userEmail = authentication.getName();
+
+        return ResponseEntity.ok(ImportJobDto.from(contactImportService.getJob(id, userEmail)));
+    }
+
+    @GetMapping("/{id}/errors")
+    public ResponseEntity<Resource> getImportErrors(@PathVariable String id) {
+        //extract the email
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String userEmail = authentication.getName();
+
+        //rejected rows with their line number and reason
+        return ResponseEntity.ok()
+                             .contentType(MediaType.parseMediaType("text/csv"))
+                             .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"import-" + id + "-errors.csv\"")
+                             .body(new FileSystemResource(contactImportService.getErrorFile(id, userEmail)));
+    }
+}
@@ -0,0 +1,42 @@
+package com.internship.contact_management_backend.controller;
+
+import com.internship.contact_management_backend.dto.ContactDto;
+import com.internship.contact_management_backend.dto.TrashedContactDto;
+import com.internship.contact_management_backend.service.ContactTrashService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/contacts/trash")
+public class ContactTrashController {
+
+    private final ContactTrashService contactTrashService;
+
+    public ContactTrashController(ContactTrashService contactTrashService) {
+        this.contactTrashService = contactTrashService;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<TrashedContactDto>> getTrash() {
+        //extract the email
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String userEmail = authentication.getName();
+
+        //deleted contacts that are not purged yet
+        return ResponseEntity.ok(contactTrashService.getTrash(userEmail));
+    }
+
+    @PostMapping("/{id}/restore")
+    public ResponseEntity<ContactDto> restoreContact(@PathVariable Long id) {
+        //extract the email
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String userEmail = authentication.getName();
+
+        //back among the live contacts
+        return ResponseEntity.ok(contactTrashService.restoreContact(id, userEmail).toDto());
+    }
+}
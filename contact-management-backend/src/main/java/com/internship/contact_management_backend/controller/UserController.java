@@ -1,18 +1,25 @@
 package com.internship.contact_management_backend.controller;
 
 import com.internship.contact_management_backend.dto.LoginResponseDto;
+import com.internship.contact_management_backend.dto.RefreshTokenRequestDto;
 import com.internship.contact_management_backend.dto.UserLoginDto;
 import com.internship.contact_management_backend.dto.UserRegisterDto;
 import com.internship.contact_management_backend.dto.UserResponseDto;
 import com.internship.contact_management_backend.entity.User;
-import com.internship.contact_management_backend.service.UserDetailsServiceImpl;
+import com.internship.contact_management_backend.service.LoginCacheWarmer;
+import com.internship.contact_management_backend.service.RefreshTokenService;
+import com.internship.contact_management_backend.service.TokenRevocationService;
 import com.internship.contact_management_backend.service.UserService;
 import com.internship.contact_management_backend.utils.JwtUtil;
+import io.jsonwebtoken.Claims;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
@@ -22,17 +29,23 @@ public class UserController {
 
     private final UserService userService;
     private final AuthenticationManager authenticationManager;
-    private final UserDetailsServiceImpl userDetailsService;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
     private final JwtUtil jwtUtil;
+    private final LoginCacheWarmer loginCacheWarmer;
 
     public UserController(UserService userService,
                          AuthenticationManager authenticationManager,
-                         UserDetailsServiceImpl userDetailsService,
-                         JwtUtil jwtUtil) {
+                         RefreshTokenService refreshTokenService,
+                         TokenRevocationService tokenRevocationService,
+                         JwtUtil jwtUtil,
+                         LoginCacheWarmer loginCacheWarmer) {
         this.userService = userService;
         this.authenticationManager = authenticationManager;
-        this.userDetailsService = userDetailsService;
+        this.refreshTokenService = refreshTokenService;
+        this.tokenRevocationService = tokenRevocationService;
         this.jwtUtil = jwtUtil;
+        this.loginCacheWarmer = loginCacheWarmer;
     }
 
     @PostMapping("/register")
@@ -46,19 +59,60 @@ public class UserController {
     @PostMapping("/login")
     public ResponseEntity<LoginResponseDto> login(@Valid @RequestBody UserLoginDto user){
 
-        //Authenticate user
-      authenticationManager.authenticate(
+        //Authenticate user, the principal already holds the loaded user details
+        Authentication authentication = authenticationManager.authenticate(
               new UsernamePasswordAuthenticationToken(user.getEmail(),user.getPassword()));
-        UserDetails userDetails = userDetailsService.loadUserByUsername(user.getEmail());
+        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
 
         //Generate JWT token
         String token = jwtUtil.generateToken(
                 userDetails.getUsername());
 
+        //Long-lived refresh token, so the password is not needed again until it expires
+        String refreshToken = refreshTokenService.issue(userDetails.getUsername());
+
+        //Load the contact list in the background, the client usually asks for it next
+        loginCacheWarmer.onLogin(userDetails);
+
         //Convert raw token into response dto
-        LoginResponseDto response = new LoginResponseDto(token);
+        LoginResponseDto response = new LoginResponseDto(token, refreshToken);
 
         return ResponseEntity.ok(response);
     }
 
+    // New access token for a refresh token, no password hashing involved
+    @PostMapping("/refresh")
+    public ResponseEntity<LoginResponseDto> refresh(@Valid @RequestBody RefreshTokenRequestDto request) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(request.getRefreshToken());
+        String token = jwtUtil.generateToken(rotation.email());
+        return ResponseEntity.ok(new LoginResponseDto(token, rotation.refreshToken()));
+    }
+
+    // Revoke the calling access token and, when given, the refresh token of this session
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorization,
+                                       @RequestBody(required = false) RefreshTokenRequestDto request) {
+        Claims claims = jwtUtil.extractClaims(authorization.substring(7));
+        tokenRevocationService.revoke(claims.getId(), claims.getSubject(), claims.getExpiration().toInstant());
+        if (request != null && request.getRefreshToken() != null && !request.getRefreshToken().isBlank()) {
+            refreshTokenService.revoke(request.getRefreshToken());
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+    // Revoke every access and refresh token of the calling user
+    @PostMapping("/logout-all")
+    public ResponseEntity<Void> logoutAll(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorization) {
+        //extract the email
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String email = authentication.getName();
+
+        tokenRevocationService.revokeAll(email);
+        refreshTokenService.revokeAll(email);
+        // the calling token may share the cutoff's second, revoke it by id as well
+        Claims claims = jwtUtil.extractClaims(authorization.substring(7));
+        tokenRevocationService.revoke(claims.getId(), email, claims.getExpiration().toInstant());
+        return ResponseEntity.noContent().build();
+    }
+
 }
@@ -0,0 +1,115 @@
+package com.internship.contact_management_backend.converter;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import com.internship.contact_management_backend.dto.ContactDto;
+import com.internship.contact_management_backend.dto.ErrorResponseDto;
+import com.internship.contact_management_backend.dto.UserResponseDto;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hand-written protobuf encoding of the DTOs, following src/main/proto/contacts.proto.
+ * Writing straight from the DTOs avoids generated message classes and an extra copy
+ * of every contact; null fields are omitted like proto3 defaults.
+ */
+public final class ContactProtobufCodec {
+
+    private ContactProtobufCodec() {
+    }
+
+    // ==================== Contact ====================
+
+    public static void writeContactList(CodedOutputStream out, List<ContactDto> contacts) throws IOException {
+        for (ContactDto contact : contacts) {
+            out.writeTag(1, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+            out.writeUInt32NoTag(contactSize(contact));
+            writeContact(out, contact);
+        }
+    }
+
+    public static void writeContact(CodedOutputStream out, ContactDto contact) throws IOException {
+        if (contact.getId() != null) {
+            out.writeInt64(1, contact.getId());
+        }
+        writeString(out, 2, contact.getFirstName());
+        writeString(out, 3, contact.getLastName());
+        writeString(out, 4, contact.getEmail());
+        writeString(out, 5, contact.getEmailLabel());
+        writeString(out, 6, contact.getPhoneNumber());
+        writeString(out, 7, contact.getPhoneNumberLabel());
+    }
+
+    private static int contactSize(ContactDto contact) {
+        int size = contact.getId() != null ? CodedOutputStream.computeInt64Size(1, contact.getId()) : 0;
+        return size
+                + stringSize(2, contact.getFirstName())
+                + stringSize(3, contact.getLastName())
+                + stringSize(4, contact.getEmail())
+                + stringSize(5, contact.getEmailLabel())
+                + stringSize(6, contact.getPhoneNumber())
+                + stringSize(7, contact.getPhoneNumberLabel());
+    }
+
+    public static List<ContactDto> readContactList(CodedInputStream in) throws IOException {
+        List<ContactDto> contacts = new ArrayList<>();
+        int tag;
+        while ((tag = in.readTag()) != 0) {
+            if (WireFormat.getTagFieldNumber(tag) == 1) {
+                int limit = in.pushLimit(in.readRawVarint32());
+                contacts.add(readContact(in));
+                in.popLimit(limit);
+            } else {
+                in.skipField(tag);
+            }
+        }
+        return contacts;
+    }
+
+    public static ContactDto readContact(CodedInputStream in) throws IOException {
+        ContactDto contact = new ContactDto();
+        int tag;
+        while ((tag = in.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case 1 -> contact.setId(in.readInt64());
+                case 2 -> contact.setFirstName(in.readStringRequireUtf8());
+                case 3 -> contact.setLastName(in.readStringRequireUtf8());
+                case 4 -> contact.setEmail(in.readStringRequireUtf8());
+                case 5 -> contact.setEmailLabel(in.readStringRequireUtf8());
+                case 6 -> contact.setPhoneNumber(in.readStringRequireUtf8());
+                case 7 -> contact.setPhoneNumberLabel(in.readStringRequireUtf8());
+                default -> in.skipField(tag);
+            }
+        }
+        return contact;
+    }
+
+    // ==================== User / Error ====================
+
+    public static void writeUser(CodedOutputStream out, UserResponseDto user) throws IOException {
+        writeString(out, 1, user.getFirstName());
+        writeString(out, 2, user.getLastName());
+        writeString(out, 3, user.getEmail());
+    }
+
+    public static void writeError(CodedOutputStream out, ErrorResponseDto error) throws IOException {
+        writeString(out, 1, error.getTimestamp() != null ? error.getTimestamp().toString() : null);
+        out.writeInt32(2, error.getStatus());
+        writeString(out, 3, error.getError());
+        writeString(out, 4, error.getMessage());
+        writeString(out, 5, error.getPath());
+    }
+
+    private static void writeString(CodedOutputStream out, int field, String value) throws IOException {
+        if (value != null) {
+            out.writeString(field, value);
+        }
+    }
+
+    private static int stringSize(int field, String value) {
+        return value != null ? CodedOutputStream.computeStringSize(field, value) : 0;
+    }
+}
@@ -0,0 +1,96 @@
+package com.internship.contact_management_backend.converter;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.internship.contact_management_backend.dto.ContactDto;
+import com.internship.contact_management_backend.dto.ErrorResponseDto;
+import com.internship.contact_management_backend.dto.UserResponseDto;
+import com.internship.contact_management_backend.jfr.ResponseWriteEvent;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.List;
+
+// application/x-protobuf for ContactDto, List<ContactDto>, UserResponseDto and ErrorResponseDto
+public class ContactProtobufHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final MediaType PROTOBUF = MediaType.valueOf("application/x-protobuf");
+
+    public ContactProtobufHttpMessageConverter() {
+        super(PROTOBUF);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return clazz == ContactDto.class || clazz == UserResponseDto.class || clazz == ErrorResponseDto.class;
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return type == ContactDto.class && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        if (!canWrite(mediaType)) {
+            return false;
+        }
+        if (List.class.isAssignableFrom(clazz)) {
+            return isContactList(type);
+        }
+        return supports(clazz);
+    }
+
+    @Override
+    protected void writeInternal(Object body, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        ResponseWriteEvent.record(body, outputMessage, message -> write(body, message));
+    }
+
+    private static void write(Object body, HttpOutputMessage outputMessage) throws IOException {
+        CodedOutputStream out = CodedOutputStream.newInstance(outputMessage.getBody());
+        if (body instanceof ContactDto contact) {
+            ContactProtobufCodec.writeContact(out, contact);
+        } else if (body instanceof UserResponseDto user) {
+            ContactProtobufCodec.writeUser(out, user);
+        } else if (body instanceof ErrorResponseDto error) {
+            ContactProtobufCodec.writeError(out, error);
+        } else if (body instanceof List<?> list) {
+            @SuppressWarnings("unchecked")
+            List<ContactDto> contacts = (List<ContactDto>) list;
+            ContactProtobufCodec.writeContactList(out, contacts);
+        } else {
+            throw new HttpMessageNotWritableException("Unsupported protobuf body: " + body.getClass().getName());
+        }
+        out.flush();
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        return readInternal(ContactDto.class, inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        try {
+            return ContactProtobufCodec.readContact(CodedInputStream.newInstance(inputMessage.getBody()));
+        } catch (IOException e) {
+            throw new HttpMessageNotReadableException("Invalid protobuf contact: " + e.getMessage(), e, inputMessage);
+        }
+    }
+
+    private static boolean isContactList(Type type) {
+        return type instanceof ParameterizedType parameterized
+                && parameterized.getActualTypeArguments().length == 1
+                && parameterized.getActualTypeArguments()[0] == ContactDto.class;
+    }
+}
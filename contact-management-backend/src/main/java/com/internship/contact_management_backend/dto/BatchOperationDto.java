@@ -0,0 +1,27 @@
+package com.internship.contact_management_backend.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class BatchOperationDto {
+
+    public enum Op {
+        CREATE,
+        UPDATE,
+        DELETE
+    }
+
+    @NotNull(message = "Operation is required")
+    private Op op;
+
+    // Contact to update or delete
+    private Long id;
+
+    // New contact, or the new values of an update
+    @Valid
+    private ContactDto contact;
+}
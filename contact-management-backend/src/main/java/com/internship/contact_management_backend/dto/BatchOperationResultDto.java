@@ -0,0 +1,19 @@
+package com.internship.contact_management_backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchOperationResultDto {
+    // position in the request
+    private int index;
+    private BatchOperationDto.Op op;
+    // HTTP status the single-call endpoint would have returned
+    private int status;
+    private Long id;
+    // created or updated contact, absent for deletes
+    private ContactDto contact;
+}
@@ -0,0 +1,19 @@
+package com.internship.contact_management_backend.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class BatchRequestDto {
+    // applied in request order, all or nothing; an id deleted earlier in the batch is
+    // not found by later operations, and a later update of the same id overwrites an earlier one
+    @NotEmpty(message = "Operations are required")
+    @Size(max = 1000, message = "At most 1000 operations per batch")
+    private List<@Valid BatchOperationDto> operations;
+}
@@ -0,0 +1,19 @@
+package com.internship.contact_management_backend.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class BulkDeleteRequestDto {
+    // Contact ids to delete, or
+    @Size(max = 10000, message = "At most 10000 ids per request")
+    private List<@NotNull(message = "Ids must not be null") Long> ids;
+
+    // every contact whose first or last name contains this keyword
+    private String name;
+}
@@ -0,0 +1,24 @@
+package com.internship.contact_management_backend.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class BulkLabelUpdateDto {
+    @NotEmpty(message = "Ids are required")
+    @Size(max = 10000, message = "At most 10000 ids per request")
+    private List<@NotNull(message = "Ids must not be null") Long> ids;
+
+    // labels left null are not changed
+    @Size(min = 3, max = 20, message = "Email label must be 3–20 characters")
+    private String emailLabel;
+
+    @Size(min = 3, max = 20, message = "Phone label must be 3–20 characters")
+    private String phoneNumberLabel;
+}
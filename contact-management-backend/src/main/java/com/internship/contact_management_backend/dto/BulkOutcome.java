@@ -0,0 +1,8 @@
+package com.internship.contact_management_backend.dto;
+
+// Per-id result of a bulk operation, ids of other users report NOT_FOUND
+public enum BulkOutcome {
+    DELETED,
+    UPDATED,
+    NOT_FOUND
+}
@@ -0,0 +1,15 @@
+package com.internship.contact_management_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
+@AllArgsConstructor
+public class BulkResultDto {
+    // rows deleted or updated
+    private int affected;
+    // outcome per id, in request order
+    private Map<Long, BulkOutcome> outcomes;
+}
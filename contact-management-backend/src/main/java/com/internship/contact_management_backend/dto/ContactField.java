@@ -0,0 +1,56 @@
+package com.internship.contact_management_backend.dto;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+// Contact properties that can be requested with ?fields=, named like the ContactDto/Contact attributes
+public enum ContactField {
+    ID("id", (dto, value) -> dto.setId((Long) value)),
+    FIRST_NAME("firstName", (dto, value) -> dto.setFirstName((String) value)),
+    LAST_NAME("lastName", (dto, value) -> dto.setLastName((String) value)),
+    EMAIL("email", (dto, value) -> dto.setEmail((String) value)),
+    EMAIL_LABEL("emailLabel", (dto, value) -> dto.setEmailLabel((String) value)),
+    PHONE_NUMBER("phoneNumber", (dto, value) -> dto.setPhoneNumber((String) value)),
+    PHONE_NUMBER_LABEL("phoneNumberLabel", (dto, value) -> dto.setPhoneNumberLabel((String) value));
+
+    public static final Set<ContactField> ALL = Collections.unmodifiableSet(EnumSet.allOf(ContactField.class));
+
+    private final String attribute;
+    private final BiConsumer<ContactDto, Object> setter;
+
+    ContactField(String attribute, BiConsumer<ContactDto, Object> setter) {
+        this.attribute = attribute;
+        this.setter = setter;
+    }
+
+    public String attribute() {
+        return attribute;
+    }
+
+    public void apply(ContactDto dto, Object value) {
+        setter.accept(dto, value);
+    }
+
+    // "firstName,phoneNumber" -> [ID, FIRST_NAME, PHONE_NUMBER]; the id is always included
+    public static Set<ContactField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        EnumSet<ContactField> selected = EnumSet.of(ID);
+        for (String name : fields.split(",")) {
+            selected.add(fromAttribute(name.trim()));
+        }
+        return selected;
+    }
+
+    private static ContactField fromAttribute(String name) {
+        for (ContactField field : values()) {
+            if (field.attribute.equals(name)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unknown contact field: " + name);
+    }
+}
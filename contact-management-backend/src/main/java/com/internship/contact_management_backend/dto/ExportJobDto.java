@@ -0,0 +1,51 @@
+package com.internship.contact_management_backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.internship.contact_management_backend.exporter.ExportFormat;
+import com.internship.contact_management_backend.exporter.ExportJob;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ExportJobDto {
+    private String id;
+    private ExportJob.Status status;
+    private ExportFormat format;
+    private boolean gzip;
+    private long totalRows;
+    private long rowsWritten;
+    // share of the rows written so far, 0-100
+    private int progress;
+    // size of the finished file
+    private Long sizeBytes;
+    private String downloadUrl;
+    private String message;
+    private Instant createdAt;
+    private Instant finishedAt;
+
+    public static ExportJobDto from(ExportJob job) {
+        long rowsWritten = job.getRowsWritten().get();
+        boolean completed = job.getStatus() == ExportJob.Status.COMPLETED;
+        // rows added during the export can push the count past the total
+        int progress = completed ? 100
+                : job.getTotalRows() > 0 ? (int) Math.min(99, rowsWritten * 100 / job.getTotalRows()) : 0;
+        return ExportJobDto.builder()
+                           .id(job.getId())
+                           .status(job.getStatus())
+                           .format(job.getFormat())
+                           .gzip(job.isGzip())
+                           .totalRows(job.getTotalRows())
+                           .rowsWritten(rowsWritten)
+                           .progress(progress)
+                           .sizeBytes(completed ? job.getSizeBytes() : null)
+                           .downloadUrl(completed ? "/contacts/export/" + job.getId() + "/file" : null)
+                           .message(job.getMessage())
+                           .createdAt(job.getCreatedAt())
+                           .finishedAt(job.getFinishedAt())
+                           .build();
+    }
+}
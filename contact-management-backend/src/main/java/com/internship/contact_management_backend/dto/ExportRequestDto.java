@@ -0,0 +1,11 @@
+package com.internship.contact_management_backend.dto;
+
+import lombok.Data;
+
+@Data
+public class ExportRequestDto {
+    // csv, vcard or ndjson, csv when missing
+    private String format;
+    // compress the file, it is then served as application/gzip
+    private boolean gzip;
+}
@@ -0,0 +1,45 @@
+package com.internship.contact_management_backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.internship.contact_management_backend.importer.ImportJob;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ImportJobDto {
+    private String id;
+    private ImportJob.Status status;
+    private String fileName;
+    private long totalBytes;
+    private long bytesRead;
+    // share of the file parsed so far, 0-100
+    private int progress;
+    private long rowsRead;
+    private long imported;
+    private long failed;
+    private String message;
+    private Instant createdAt;
+    private Instant finishedAt;
+
+    public static ImportJobDto from(ImportJob job) {
+        long bytesRead = job.getBytesRead().get();
+        return ImportJobDto.builder()
+                           .id(job.getId())
+                           .status(job.getStatus())
+                           .fileName(job.getFileName())
+                           .totalBytes(job.getTotalBytes())
+                           .bytesRead(bytesRead)
+                           .progress(job.getTotalBytes() > 0 ? (int) (bytesRead * 100 / job.getTotalBytes()) : 100)
+                           .rowsRead(job.getRowsRead().get())
+                           .imported(job.getImported().get())
+                           .failed(job.getFailed().get())
+                           .message(job.getMessage())
+                           .createdAt(job.getCreatedAt())
+                           .finishedAt(job.getFinishedAt())
+                           .build();
+    }
+}
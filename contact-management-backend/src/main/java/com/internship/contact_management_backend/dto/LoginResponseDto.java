@@ -7,4 +7,5 @@ import lombok.Getter;
 @AllArgsConstructor
 public class LoginResponseDto {
     private String token;
+    private String refreshToken;
 }
@@ -0,0 +1,12 @@
+package com.internship.contact_management_backend.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class RefreshTokenRequestDto {
+    @NotBlank(message = "Refresh token is required")
+    private String refreshToken;
+}
@@ -0,0 +1,8 @@
+package com.internship.contact_management_backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+// Contact read with ?fields=..., the properties that were not selected are left out of the JSON
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SparseContactDto extends ContactDto {
+}
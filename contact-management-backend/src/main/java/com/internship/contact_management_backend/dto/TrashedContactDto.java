@@ -0,0 +1,15 @@
+package com.internship.contact_management_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class TrashedContactDto {
+    private ContactDto contact;
+    private LocalDateTime deletedAt;
+    // restorable until then, the purger may remove it any time after
+    private LocalDateTime purgeAfter;
+}
@@ -3,6 +3,8 @@ package com.internship.contact_management_backend.entity;
 import com.internship.contact_management_backend.dto.ContactDto;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.SQLDelete;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.time.LocalDateTime;
 
@@ -13,6 +15,9 @@ import java.time.LocalDateTime;
 @Builder
 @Entity
 @Table(name = "contacts")
+// deleting moves the row to the trash, the purger removes it for good; entity queries only see live rows
+@SQLDelete(sql = "UPDATE contacts SET deleted_at = CURRENT_TIMESTAMP WHERE id = ?")
+@SQLRestriction("deleted_at IS NULL")
 public class Contact {
 
     @Id
@@ -46,6 +51,10 @@ public class Contact {
 
     private LocalDateTime updatedAt;
 
+    // set by the database when the contact is deleted, null while it is live
+    @Column(insertable = false, updatable = false)
+    private LocalDateTime deletedAt;
+
     public ContactDto toDto() {
        return ContactDto.from(this);
     }
@@ -45,6 +45,11 @@ public class User {
 
     private LocalDateTime updatedAt;
 
+    // Access tokens issued before this instant are revoked ("log out everywhere"),
+    // written only by a dedicated update so entity saves never reset it
+    @Column(insertable = false, updatable = false)
+    private LocalDateTime tokensRevokedBefore;
+
     public UserResponseDto toDto() {
         return UserResponseDto.from(this);
     }
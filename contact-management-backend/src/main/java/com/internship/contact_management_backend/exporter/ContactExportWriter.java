@@ -0,0 +1,12 @@
+package com.internship.contact_management_backend.exporter;
+
+import com.internship.contact_management_backend.dto.ContactDto;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+// Writes contacts to an export file one at a time
+public interface ContactExportWriter extends Closeable {
+
+    void write(ContactDto contact) throws IOException;
+}
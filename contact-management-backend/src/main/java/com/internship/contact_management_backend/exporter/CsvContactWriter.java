@@ -0,0 +1,58 @@
+package com.internship.contact_management_backend.exporter;
+
+import com.internship.contact_management_backend.dto.ContactDto;
+
+import java.io.IOException;
+import java.io.Writer;
+
+// RFC 4180 CSV with the same header the importer reads
+public class CsvContactWriter implements ContactExportWriter {
+
+    static final String HEADER = "firstName,lastName,email,emailLabel,phoneNumber,phoneNumberLabel\r\n";
+
+    private final Writer writer;
+
+    public CsvContactWriter(Writer writer) throws IOException {
+        this.writer = writer;
+        writer.write(HEADER);
+    }
+
+    @Override
+    public void write(ContactDto contact) throws IOException {
+        field(contact.getFirstName());
+        writer.write(',');
+        field(contact.getLastName());
+        writer.write(',');
+        field(contact.getEmail());
+        writer.write(',');
+        field(contact.getEmailLabel());
+        writer.write(',');
+        field(contact.getPhoneNumber());
+        writer.write(',');
+        field(contact.getPhoneNumberLabel());
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    private void field(String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
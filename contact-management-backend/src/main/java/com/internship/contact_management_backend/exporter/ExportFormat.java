@@ -0,0 +1,47 @@
+package com.internship.contact_management_backend.exporter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Locale;
+
+public enum ExportFormat {
+    CSV(".csv", "text/csv"),
+    VCARD(".vcf", "text/vcard"),
+    NDJSON(".ndjson", "application/x-ndjson");
+
+    private final String extension;
+    private final String contentType;
+
+    ExportFormat(String extension, String contentType) {
+        this.extension = extension;
+        this.contentType = contentType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public ContactExportWriter open(Writer writer, ObjectMapper objectMapper) throws IOException {
+        return switch (this) {
+            case CSV -> new CsvContactWriter(writer);
+            case VCARD -> new VCardContactWriter(writer);
+            case NDJSON -> new NdjsonContactWriter(writer, objectMapper);
+        };
+    }
+
+    public static ExportFormat parse(String format) {
+        String lower = format == null ? "csv" : format.toLowerCase(Locale.ROOT);
+        return switch (lower) {
+            case "csv" -> CSV;
+            case "vcard", "vcf" -> VCARD;
+            case "ndjson", "jsonl" -> NDJSON;
+            default -> throw new IllegalArgumentException("Unsupported export format, expected csv, vcard or ndjson");
+        };
+    }
+}
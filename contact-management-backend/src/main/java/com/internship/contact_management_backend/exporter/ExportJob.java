@@ -0,0 +1,72 @@
+package com.internship.contact_management_backend.exporter;
+
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Progress of one export, the file can be downloaded once it is completed
+@Getter
+public class ExportJob {
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    private final String id;
+    private final String owner;
+    private final ExportFormat format;
+    private final boolean gzip;
+    private final Path file;
+    private final Instant createdAt = Instant.now();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile String message;
+    private volatile Instant finishedAt;
+    private volatile long totalRows;
+    private volatile long sizeBytes;
+
+    private final AtomicLong rowsWritten = new AtomicLong();
+
+    public ExportJob(String id, String owner, ExportFormat format, boolean gzip, Path file) {
+        this.id = id;
+        this.owner = owner;
+        this.format = format;
+        this.gzip = gzip;
+        this.file = file;
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    // download name, e.g. contacts.csv.gz
+    public String fileName() {
+        return "contacts" + format.extension() + (gzip ? ".gz" : "");
+    }
+
+    public String contentType() {
+        return gzip ? "application/gzip" : format.contentType();
+    }
+
+    public void started(long totalRows) {
+        this.totalRows = totalRows;
+        status = Status.RUNNING;
+    }
+
+    public void completed(long sizeBytes) {
+        this.sizeBytes = sizeBytes;
+        finishedAt = Instant.now();
+        status = Status.COMPLETED;
+    }
+
+    public void failed(String reason) {
+        message = reason;
+        finishedAt = Instant.now();
+        status = Status.FAILED;
+    }
+}
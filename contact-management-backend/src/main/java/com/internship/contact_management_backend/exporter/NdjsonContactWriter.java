@@ -0,0 +1,36 @@
+package com.internship.contact_management_backend.exporter;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.internship.contact_management_backend.dto.ContactDto;
+
+import java.io.IOException;
+import java.io.Writer;
+
+// One JSON object per line, same shape as GET /contacts/getAll
+public class NdjsonContactWriter implements ContactExportWriter {
+
+    private final JsonGenerator generator;
+    private final ObjectWriter objectWriter;
+
+    public NdjsonContactWriter(Writer writer, ObjectMapper objectMapper) throws IOException {
+        this.generator = objectMapper.getFactory().createGenerator(writer);
+        this.generator.setRootValueSeparator(null);
+        // no flush per row, the file stream below is buffered
+        this.objectWriter = objectMapper.writerFor(ContactDto.class)
+                                        .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Override
+    public void write(ContactDto contact) throws IOException {
+        objectWriter.writeValue(generator, contact);
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
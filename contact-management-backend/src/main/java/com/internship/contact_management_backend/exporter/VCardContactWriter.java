@@ -0,0 +1,67 @@
+package com.internship.contact_management_backend.exporter;
+
+import com.internship.contact_management_backend.dto.ContactDto;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Locale;
+
+// vCard 4.0, lines folded at 75 characters, labels as TYPE parameters
+public class VCardContactWriter implements ContactExportWriter {
+
+    private static final int FOLD_AT = 75;
+
+    private final Writer writer;
+
+    public VCardContactWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    public void write(ContactDto contact) throws IOException {
+        line("BEGIN:VCARD");
+        line("VERSION:4.0");
+        line("N:" + escape(contact.getLastName()) + ";" + escape(contact.getFirstName()) + ";;;");
+        line("FN:" + escape(contact.getFirstName() + " " + contact.getLastName()));
+        line("EMAIL;TYPE=" + type(contact.getEmailLabel()) + ":" + escape(contact.getEmail()));
+        line("TEL;VALUE=uri;TYPE=" + type(contact.getPhoneNumberLabel()) + ":tel:" + contact.getPhoneNumber());
+        line("END:VCARD");
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    private void line(String line) throws IOException {
+        int start = 0;
+        while (line.length() - start > FOLD_AT) {
+            writer.write(line, start, FOLD_AT);
+            writer.write("\r\n ");
+            start += FOLD_AT;
+        }
+        writer.write(line, start, line.length() - start);
+        writer.write("\r\n");
+    }
+
+    // work and home are standard types, Mobile is cell, anything else an x- type
+    private static String type(String label) {
+        String lower = label == null ? "" : label.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9-]", "");
+        return switch (lower) {
+            case "work", "home" -> lower;
+            case "mobile", "cell" -> "cell";
+            case "" -> "other";
+            default -> "x-" + lower;
+        };
+    }
+
+    private static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.replace("\\", "\\\\")
+                    .replace(",", "\\,")
+                    .replace(";", "\\;")
+                    .replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,108 @@
+package com.internship.contact_management_backend.filter;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records the bytes allocated by the request thread for every request and
+ * aggregates them per handler method as the {@code http.server.requests.allocated}
+ * distribution summary. Requests are served on one thread, so the thread's
+ * allocation delta covers filters, handler and serialization. On a JVM
+ * without thread allocation accounting the filter only passes requests on.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@ConditionalOnProperty(name = "allocation.accounting.enabled", havingValue = "true")
+public class AllocationAccountingFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Debug-Allocated-Bytes";
+    private static final String UNMAPPED = "unmapped";
+
+    private final com.sun.management.ThreadMXBean threadMXBean;
+    private final MeterRegistry meterRegistry;
+    private final boolean debugHeaders;
+    private final boolean supported;
+    private final Map<String, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+    @Autowired
+    public AllocationAccountingFilter(MeterRegistry meterRegistry,
+                                      @Value("${debug.headers.enabled:false}") boolean debugHeaders) {
+        this(meterRegistry, debugHeaders, (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean());
+    }
+
+    AllocationAccountingFilter(MeterRegistry meterRegistry, boolean debugHeaders,
+                               com.sun.management.ThreadMXBean threadMXBean) {
+        this.meterRegistry = meterRegistry;
+        this.debugHeaders = debugHeaders;
+        this.threadMXBean = threadMXBean;
+        this.supported = threadMXBean.isThreadAllocatedMemorySupported();
+        if (supported) {
+            threadMXBean.setThreadAllocatedMemoryEnabled(true);
+        } else {
+            log.warn("Thread allocation accounting is not supported by this JVM, allocations are not recorded");
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain)
+            throws ServletException, IOException {
+
+        if (!supported) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        long before = threadMXBean.getCurrentThreadAllocatedBytes();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long allocated = threadMXBean.getCurrentThreadAllocatedBytes() - before;
+            summary(handlerName(request)).record(allocated);
+
+            // QueryCountFilter buffers the body in debug mode, so the response is still open here
+            if (debugHeaders && !response.isCommitted()) {
+                response.setHeader(HEADER, Long.toString(allocated));
+            }
+        }
+    }
+
+    // e.g. "ContactController.getAllContactsForUser"
+    private static String handlerName(HttpServletRequest request) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (handler instanceof HandlerMethod handlerMethod) {
+            return handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+        }
+        return UNMAPPED;
+    }
+
+    private DistributionSummary summary(String handler) {
+        return summaries.computeIfAbsent(handler, name -> DistributionSummary.builder("http.server.requests.allocated")
+                                                                              .description("Bytes allocated by the request thread")
+                                                                              .baseUnit("bytes")
+                                                                              .tag("handler", name)
+                                                                              .publishPercentiles(0.5, 0.99)
+                                                                              .register(meterRegistry));
+    }
+}
@@ -0,0 +1,155 @@
+package com.internship.contact_management_backend.filter;
+
+import com.internship.contact_management_backend.limit.GradientConcurrencyLimit;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Load shedding in front of authentication: requests above the adaptive
+ * concurrency limit are rejected with 503 instead of queueing in Tomcat.
+ *
+ * Each priority class may only use its share of the limit. By default
+ * {@code /auth/**} (BCrypt heavy) gets half of it, so a login storm cannot
+ * starve contact traffic, while {@code /contacts/**} may use all of it.
+ */
+@Component
+@Slf4j
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    enum Priority {
+        AUTH, CONTACTS, OTHER;
+
+        static Priority of(String path) {
+            if (path.startsWith("/auth/")) {
+                return AUTH;
+            }
+            if (path.startsWith("/contacts/")) {
+                return CONTACTS;
+            }
+            return OTHER;
+        }
+    }
+
+    private final boolean enabled;
+    private final GradientConcurrencyLimit limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Map<Priority, AtomicInteger> inFlightByPriority = new EnumMap<>(Priority.class);
+    private final Map<Priority, Double> shares = new EnumMap<>(Priority.class);
+    private final Map<Priority, Counter> rejected = new EnumMap<>(Priority.class);
+
+    public ConcurrencyLimitFilter(MeterRegistry meterRegistry,
+                                  @Value("${concurrency.limit.enabled:true}") boolean enabled,
+                                  @Value("${concurrency.limit.initial:20}") int initialLimit,
+                                  @Value("${concurrency.limit.min:4}") int minLimit,
+                                  @Value("${concurrency.limit.max:200}") int maxLimit,
+                                  @Value("${concurrency.limit.tolerance:1.5}") double tolerance,
+                                  @Value("${concurrency.limit.smoothing:0.2}") double smoothing,
+                                  @Value("${concurrency.limit.window:50}") int windowSize,
+                                  @Value("${concurrency.limit.auth-share:0.5}") double authShare,
+                                  @Value("${concurrency.limit.contacts-share:1.0}") double contactsShare,
+                                  @Value("${concurrency.limit.other-share:0.5}") double otherShare) {
+        this.enabled = enabled;
+        this.limit = new GradientConcurrencyLimit(initialLimit, minLimit, maxLimit, tolerance, smoothing, windowSize);
+        shares.put(Priority.AUTH, share(authShare));
+        shares.put(Priority.CONTACTS, share(contactsShare));
+        shares.put(Priority.OTHER, share(otherShare));
+
+        Gauge.builder("http.concurrency.limit", limit, GradientConcurrencyLimit::getLimit)
+             .description("Current adaptive concurrency limit")
+             .register(meterRegistry);
+        for (Priority priority : Priority.values()) {
+            String tag = priority.name().toLowerCase();
+            AtomicInteger counter = new AtomicInteger();
+            inFlightByPriority.put(priority, counter);
+            Gauge.builder("http.concurrency.in_flight", counter, AtomicInteger::get)
+                 .description("Requests currently admitted by the concurrency limiter")
+                 .tag("priority", tag)
+                 .register(meterRegistry);
+            rejected.put(priority, Counter.builder("http.concurrency.rejected")
+                                          .description("Requests shed with 503 by the concurrency limiter")
+                                          .tag("priority", tag)
+                                          .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // health checks must keep answering while the service sheds load
+        return !enabled || request.getServletPath().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain)
+            throws ServletException, IOException {
+
+        Priority priority = Priority.of(request.getServletPath());
+        int admittedAt = tryAcquire(priority);
+        if (admittedAt < 0) {
+            rejected.get(priority).increment();
+            log.debug("Shedding {} {} (limit={})", request.getMethod(), request.getRequestURI(), limit.getLimit());
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader("Retry-After", "1");
+            response.setContentType("application/json");
+            response.getWriter().write("""
+                {
+                  "status": 503,
+                  "error": "Service Unavailable",
+                  "message": "Server is overloaded, retry later"
+                }
+            """);
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            limit.onSample(System.nanoTime() - start, admittedAt);
+            inFlightByPriority.get(priority).decrementAndGet();
+            inFlight.decrementAndGet();
+        }
+    }
+
+    // in-flight count including this request, or -1 when the request must be shed
+    private int tryAcquire(Priority priority) {
+        int current = limit.getLimit();
+        int classLimit = Math.max(1, (int) (current * shares.get(priority)));
+
+        AtomicInteger byPriority = inFlightByPriority.get(priority);
+        if (byPriority.incrementAndGet() > classLimit) {
+            byPriority.decrementAndGet();
+            return -1;
+        }
+        int total = inFlight.incrementAndGet();
+        if (total > current) {
+            inFlight.decrementAndGet();
+            byPriority.decrementAndGet();
+            return -1;
+        }
+        return total;
+    }
+
+    private static double share(double share) {
+        if (share <= 0.0 || share > 1.0) {
+            throw new IllegalArgumentException("Concurrency limit share must be in (0, 1]: " + share);
+        }
+        return share;
+    }
+}
@@ -1,11 +1,16 @@
 package com.internship.contact_management_backend.filter;
 
-import com.internship.contact_management_backend.service.UserDetailsServiceImpl;
-import com.internship.contact_management_backend.utils.JwtUtil;
+import com.internship.contact_management_backend.cache.HeavyHitterTracker;
+import com.internship.contact_management_backend.jfr.JwtVerificationEvent;
+import com.internship.contact_management_backend.service.TokenRevocationService;
+import com.internship.contact_management_backend.service.UserDetailsCache;
+import com.internship.contact_management_backend.utils.Hs256TokenVerifier;
+import com.internship.contact_management_backend.utils.Hs256TokenVerifier.VerifiedToken;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -18,12 +23,20 @@ import java.io.IOException;
 @Component
 public class JwtFilter extends OncePerRequestFilter {
 
-    private final JwtUtil jwtUtil;
-    private final UserDetailsServiceImpl userDetailsService;
+    // VerifiedToken of this request when RateLimitFilter already checked it
+    public static final String VERIFIED_TOKEN = JwtFilter.class.getName() + ".verifiedToken";
 
-    public JwtFilter(JwtUtil jwtUtil, UserDetailsServiceImpl userDetailsService) {
-        this.jwtUtil = jwtUtil;
-        this.userDetailsService = userDetailsService;
+    private final Hs256TokenVerifier tokenVerifier;
+    private final UserDetailsCache userDetailsCache;
+    private final TokenRevocationService tokenRevocationService;
+    private final HeavyHitterTracker heavyHitterTracker;
+
+    public JwtFilter(Hs256TokenVerifier tokenVerifier, UserDetailsCache userDetailsCache,
+                     TokenRevocationService tokenRevocationService, HeavyHitterTracker heavyHitterTracker) {
+        this.tokenVerifier = tokenVerifier;
+        this.userDetailsCache = userDetailsCache;
+        this.tokenRevocationService = tokenRevocationService;
+        this.heavyHitterTracker = heavyHitterTracker;
     }
 
     @Override
@@ -35,37 +48,41 @@ public class JwtFilter extends OncePerRequestFilter {
 
         final String authHeader = request.getHeader("Authorization");
 
-        String jwt = null;
         String email = null;
 
         try {
             //Extract token
             if (authHeader != null && authHeader.startsWith("Bearer ")) {
-                jwt = authHeader.substring(7);
-                email = jwtUtil.extractEmail(jwt);
+                VerifiedToken token = verified(request, authHeader.substring(7));
+                email = token.subject();
+
+                // in-memory revocation list, no query
+                if (tokenRevocationService.isRevoked(token.id(), email, token.issuedAt())) {
+                    throw new BadCredentialsException("Token revoked");
+                }
+
+                // counts towards the user's request frequency, for cache admission
+                heavyHitterTracker.record(email);
             }
 
-            //Validate token & set security context
+            //Token is verified above, set security context
             if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
 
-                UserDetails userDetails =
-                        userDetailsService.loadUserByUsername(email);
+                // cached per email, so most requests do not query the users table
+                UserDetails userDetails = userDetailsCache.get(email);
 
-                if (jwtUtil.validateToken(jwt)) {
+                UsernamePasswordAuthenticationToken authToken =
+                        new UsernamePasswordAuthenticationToken(
+                                userDetails,
+                                null,
+                                userDetails.getAuthorities()
+                        );
 
-                    UsernamePasswordAuthenticationToken authToken =
-                            new UsernamePasswordAuthenticationToken(
-                                    userDetails,
-                                    null,
-                                    userDetails.getAuthorities()
-                            );
+                authToken.setDetails(
+                        new WebAuthenticationDetailsSource().buildDetails(request)
+                );
 
-                    authToken.setDetails(
-                            new WebAuthenticationDetailsSource().buildDetails(request)
-                    );
-
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
-                }
+                SecurityContextHolder.getContext().setAuthentication(authToken);
             }
 
         } catch (Exception e) {
@@ -84,4 +101,12 @@ public class JwtFilter extends OncePerRequestFilter {
         //Continue filter chain
         filterChain.doFilter(request, response);
     }
+
+    // verified once per request, the rate limiter may have done it already
+    private VerifiedToken verified(HttpServletRequest request, String jwt) {
+        if (request.getAttribute(VERIFIED_TOKEN) instanceof VerifiedToken token) {
+            return token;
+        }
+        return JwtVerificationEvent.verify(tokenVerifier, jwt);
+    }
 }
@@ -0,0 +1,43 @@
+package com.internship.contact_management_backend.filter;
+
+import com.internship.contact_management_backend.jdbc.QueryCounter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+
+// Debug only: reports the number of SQL statements a request issued
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "debug.headers.enabled", havingValue = "true")
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Debug-Query-Count";
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain)
+            throws ServletException, IOException {
+
+        // buffer the body so the header can still be set after the handler ran
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        QueryCounter.reset();
+        try {
+            filterChain.doFilter(request, wrapper);
+        } finally {
+            wrapper.setHeader(HEADER, Long.toString(QueryCounter.current()));
+            QueryCounter.clear();
+            wrapper.copyBodyToResponse();
+        }
+    }
+}
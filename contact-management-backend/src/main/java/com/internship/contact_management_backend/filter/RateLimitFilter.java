@@ -0,0 +1,158 @@
+package com.internship.contact_management_backend.filter;
+
+import com.internship.contact_management_backend.config.RateLimitProperties;
+import com.internship.contact_management_backend.jfr.JwtVerificationEvent;
+import com.internship.contact_management_backend.limit.RateLimiter;
+import com.internship.contact_management_backend.utils.Hs256TokenVerifier;
+import com.internship.contact_management_backend.utils.Hs256TokenVerifier.VerifiedToken;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-route token bucket rate limiting, first filter of the security chain so
+ * a rejected request costs neither BCrypt nor a query.
+ *
+ * Rules are keyed by client IP unless they are {@code key: USER}. Those key
+ * by the subject of the bearer token, but only once its signature has been
+ * checked: an unsigned subject is attacker-chosen and would give every
+ * request a fresh bucket. The HS256 check is cheap, and the verified token is
+ * left on the request for {@link JwtFilter}. Requests without a valid token
+ * fall back to the IP key.
+ */
+@Component
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private record Route(String method, String pattern, RateLimitProperties.Key key, RateLimiter limiter,
+                         Counter rejected) {
+    }
+
+    private final boolean enabled;
+    private final List<Route> routes = new ArrayList<>();
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Hs256TokenVerifier tokenVerifier;
+
+    public RateLimitFilter(RateLimitProperties properties, Hs256TokenVerifier tokenVerifier,
+                           MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.tokenVerifier = tokenVerifier;
+        for (RateLimitProperties.Rule rule : properties.getRules()) {
+            if (!StringUtils.hasText(rule.getPath())) {
+                throw new IllegalArgumentException("Rate limit rule without a path");
+            }
+            int burst = rule.getBurst() > 0 ? rule.getBurst() : rule.getLimit();
+            RateLimiter limiter = new RateLimiter(rule.getLimit(), rule.getPeriod(), burst, properties.getMaxKeys());
+            String method = StringUtils.hasText(rule.getMethod()) ? rule.getMethod().toUpperCase() : null;
+            String name = (method != null ? method + " " : "") + rule.getPath();
+
+            Gauge.builder("http.ratelimit.keys", limiter, RateLimiter::size)
+                 .description("Keys currently tracked by the rate limiter")
+                 .tag("rule", name)
+                 .register(meterRegistry);
+            Counter rejected = Counter.builder("http.ratelimit.rejected")
+                                      .description("Requests rejected with 429")
+                                      .tag("rule", name)
+                                      .register(meterRegistry);
+            routes.add(new Route(method, rule.getPath(), rule.getKey(), limiter, rejected));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || routes.isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain)
+            throws ServletException, IOException {
+
+        Route route = match(request);
+        if (route != null) {
+            long wait = route.limiter().tryAcquire(key(request, route), System.nanoTime());
+            if (wait > 0) {
+                route.rejected().increment();
+                log.debug("Rate limited {} {} from {}", request.getMethod(), request.getRequestURI(), request.getRemoteAddr());
+                long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(wait + TimeUnit.SECONDS.toNanos(1) - 1));
+                response.setStatus(429);
+                response.setHeader("Retry-After", Long.toString(retryAfter));
+                response.setContentType("application/json");
+                response.getWriter().write("""
+                    {
+                      "status": 429,
+                      "error": "Too Many Requests",
+                      "message": "Rate limit exceeded, retry later"
+                    }
+                """);
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    @Scheduled(fixedDelayString = "${rate-limit.eviction-interval:PT1M}")
+    public void evictIdleKeys() {
+        long now = System.nanoTime();
+        int evicted = 0;
+        for (Route route : routes) {
+            evicted += route.limiter().evictIdle(now);
+        }
+        if (evicted > 0) {
+            log.debug("Evicted {} idle rate limit keys", evicted);
+        }
+    }
+
+    private Route match(HttpServletRequest request) {
+        String path = request.getServletPath();
+        for (Route route : routes) {
+            if ((route.method() == null || route.method().equals(request.getMethod()))
+                    && pathMatcher.match(route.pattern(), path)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    private String key(HttpServletRequest request, Route route) {
+        if (route.key() == RateLimitProperties.Key.USER) {
+            VerifiedToken token = verifiedToken(request);
+            if (token != null) {
+                return "user:" + token.subject();
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    // null without a bearer token or when it does not verify, JwtFilter rejects those
+    private VerifiedToken verifiedToken(HttpServletRequest request) {
+        String authHeader = request.getHeader("Authorization");
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            return null;
+        }
+        try {
+            VerifiedToken token = JwtVerificationEvent.verify(tokenVerifier, authHeader.substring(7));
+            request.setAttribute(JwtFilter.VERIFIED_TOKEN, token);
+            return token;
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+}
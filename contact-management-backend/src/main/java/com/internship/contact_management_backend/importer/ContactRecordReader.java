@@ -0,0 +1,11 @@
+package com.internship.contact_management_backend.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+// Pull parser over an import file, one record in memory at a time
+public interface ContactRecordReader extends Closeable {
+
+    // next record, null at the end of the file
+    ImportRow next() throws IOException;
+}
@@ -0,0 +1,210 @@
+package com.internship.contact_management_backend.importer;
+
+import com.internship.contact_management_backend.dto.ContactDto;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Streaming RFC 4180 reader for contact CSV files.
+ *
+ * The first record is the header. Columns are matched by name ignoring case,
+ * spaces, '_' and '-' (firstName, first_name and "First Name" all work) and
+ * unknown columns are ignored. Quoted fields may contain commas, doubled
+ * quotes and line breaks. A record longer than {@link #MAX_RECORD_CHARS} or
+ * with more than {@link #MAX_FIELDS} fields is reported as an error and
+ * skipped, so a broken file cannot grow memory.
+ */
+public class CsvContactReader implements ContactRecordReader {
+
+    static final int MAX_RECORD_CHARS = 8192;
+    static final int MAX_FIELDS = 256;
+
+    private static final int FIRST_NAME = 0;
+    private static final int LAST_NAME = 1;
+    private static final int EMAIL = 2;
+    private static final int EMAIL_LABEL = 3;
+    private static final int PHONE_NUMBER = 4;
+    private static final int PHONE_NUMBER_LABEL = 5;
+    private static final List<String> PROPERTIES =
+            List.of("firstName", "lastName", "email", "emailLabel", "phoneNumber", "phoneNumberLabel");
+
+    private static final Map<String, Integer> HEADERS = Map.of(
+            "firstname", FIRST_NAME,
+            "lastname", LAST_NAME,
+            "email", EMAIL,
+            "emailaddress", EMAIL,
+            "emaillabel", EMAIL_LABEL,
+            "phonenumber", PHONE_NUMBER,
+            "phone", PHONE_NUMBER,
+            "phonenumberlabel", PHONE_NUMBER_LABEL,
+            "phonelabel", PHONE_NUMBER_LABEL);
+
+    private final Reader reader;
+    private final char[] buffer = new char[8192];
+    private int position;
+    private int limit;
+    // physical line of the next character
+    private long line = 1;
+
+    private final List<String> fields = new ArrayList<>();
+    private final StringBuilder field = new StringBuilder();
+    private long recordLine;
+    private String recordError;
+    private int[] columns;
+
+    public CsvContactReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        if (columns == null) {
+            readHeader();
+        }
+        if (!readRecord()) {
+            return null;
+        }
+        if (recordError != null) {
+            return ImportRow.invalid(recordLine, recordError);
+        }
+        return ImportRow.of(recordLine, ContactDto.builder()
+                                                  .firstName(value(FIRST_NAME))
+                                                  .lastName(value(LAST_NAME))
+                                                  .email(value(EMAIL))
+                                                  .emailLabel(value(EMAIL_LABEL))
+                                                  .phoneNumber(value(PHONE_NUMBER))
+                                                  .phoneNumberLabel(value(PHONE_NUMBER_LABEL))
+                                                  .build());
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void readHeader() throws IOException {
+        if (!readRecord() || recordError != null) {
+            throw new IllegalArgumentException("CSV file has no header row");
+        }
+        columns = new int[PROPERTIES.size()];
+        Arrays.fill(columns, -1);
+        for (int i = 0; i < fields.size(); i++) {
+            String name = fields.get(i);
+            if (i == 0 && name.startsWith("\uFEFF")) {
+                name = name.substring(1);
+            }
+            Integer property = HEADERS.get(name.toLowerCase(Locale.ROOT).replaceAll("[\\s_-]", ""));
+            if (property != null && columns[property] < 0) {
+                columns[property] = i;
+            }
+        }
+        for (int i = 0; i < columns.length; i++) {
+            if (columns[i] < 0) {
+                throw new IllegalArgumentException("CSV header is missing column " + PROPERTIES.get(i));
+            }
+        }
+    }
+
+    // blank cells are null so validation reports them as missing
+    private String value(int property) {
+        int index = columns[property];
+        if (index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    // Fields of the next record, false at the end of input; blank lines are skipped
+    private boolean readRecord() throws IOException {
+        fields.clear();
+        field.setLength(0);
+        recordError = null;
+
+        int c = read();
+        while (c == '\n' || c == '\r') {
+            c = read();
+        }
+        if (c < 0) {
+            return false;
+        }
+        recordLine = line;
+
+        int length = 0;
+        boolean quoted = false;
+        boolean fieldStart = true;
+        while (true) {
+            if (c < 0) {
+                if (quoted) {
+                    recordError = "Unterminated quoted field";
+                }
+                endField();
+                return true;
+            }
+            if (quoted) {
+                if (c == '"') {
+                    c = read();
+                    if (c != '"') {
+                        quoted = false;
+                        continue;
+                    }
+                }
+                length = append(c, length);
+            } else if (c == '"' && fieldStart) {
+                quoted = true;
+                fieldStart = false;
+            } else if (c == ',') {
+                if (fields.size() < MAX_FIELDS) {
+                    endField();
+                } else if (recordError == null) {
+                    recordError = "Record has more than " + MAX_FIELDS + " fields";
+                }
+                field.setLength(0);
+                fieldStart = true;
+            } else if (c == '\n') {
+                endField();
+                return true;
+            } else if (c != '\r') {
+                length = append(c, length);
+                fieldStart = false;
+            }
+            c = read();
+        }
+    }
+
+    private int append(int c, int length) {
+        if (length < MAX_RECORD_CHARS) {
+            field.append((char) c);
+        } else if (recordError == null) {
+            recordError = "Record longer than " + MAX_RECORD_CHARS + " characters";
+        }
+        return length + 1;
+    }
+
+    private void endField() {
+        fields.add(field.toString());
+        field.setLength(0);
+    }
+
+    private int read() throws IOException {
+        if (position == limit) {
+            limit = reader.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        char c = buffer[position++];
+        if (c == '\n') {
+            line++;
+        }
+        return c;
+    }
+}
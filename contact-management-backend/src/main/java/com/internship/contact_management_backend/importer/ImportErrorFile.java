@@ -0,0 +1,36 @@
+package com.internship.contact_management_backend.importer;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// Rejected rows as CSV (line,error), written by the parser and the writer threads
+public class ImportErrorFile implements Closeable {
+
+    private final BufferedWriter writer;
+
+    public ImportErrorFile(Path path) throws IOException {
+        this.writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+        writer.write("line,error\n");
+    }
+
+    public synchronized void write(long line, String error) {
+        try {
+            writer.write(Long.toString(line));
+            writer.write(",\"");
+            writer.write(error == null ? "" : error.replace("\"", "\"\"").replace('\n', ' '));
+            writer.write("\"\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        writer.close();
+    }
+}
@@ -0,0 +1,36 @@
+package com.internship.contact_management_backend.importer;
+
+import java.io.Reader;
+import java.util.Locale;
+
+public enum ImportFormat {
+    CSV(".csv"),
+    VCARD(".vcf");
+
+    private final String extension;
+
+    ImportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public ContactRecordReader open(Reader reader) {
+        return this == CSV ? new CsvContactReader(reader) : new VCardContactReader(reader);
+    }
+
+    // Explicit format parameter first, then the file name
+    public static ImportFormat detect(String format, String fileName) {
+        String name = format != null ? format : fileName;
+        String lower = name == null ? "" : name.toLowerCase(Locale.ROOT);
+        if (lower.equals("csv") || lower.endsWith(".csv")) {
+            return CSV;
+        }
+        if (lower.equals("vcard") || lower.equals("vcf") || lower.endsWith(".vcf") || lower.endsWith(".vcard")) {
+            return VCARD;
+        }
+        throw new IllegalArgumentException("Unsupported import format, expected csv or vcard");
+    }
+}
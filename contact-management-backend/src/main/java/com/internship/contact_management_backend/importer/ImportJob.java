@@ -0,0 +1,64 @@
+package com.internship.contact_management_backend.importer;
+
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Progress of one import, updated by the parser and the writer threads
+@Getter
+public class ImportJob {
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    private final String id;
+    private final String owner;
+    private final String fileName;
+    private final ImportFormat format;
+    private final long totalBytes;
+    private final Path errorFile;
+    private final Instant createdAt = Instant.now();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile String message;
+    private volatile Instant finishedAt;
+
+    private final AtomicLong bytesRead = new AtomicLong();
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong imported = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    public ImportJob(String id, String owner, String fileName, ImportFormat format, long totalBytes, Path errorFile) {
+        this.id = id;
+        this.owner = owner;
+        this.fileName = fileName;
+        this.format = format;
+        this.totalBytes = totalBytes;
+        this.errorFile = errorFile;
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    public void started() {
+        status = Status.RUNNING;
+    }
+
+    public void completed() {
+        finishedAt = Instant.now();
+        status = Status.COMPLETED;
+    }
+
+    public void failed(String reason) {
+        message = reason;
+        finishedAt = Instant.now();
+        status = Status.FAILED;
+    }
+}
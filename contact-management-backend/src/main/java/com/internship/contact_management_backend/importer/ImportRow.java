@@ -0,0 +1,15 @@
+package com.internship.contact_management_backend.importer;
+
+import com.internship.contact_management_backend.dto.ContactDto;
+
+// One record of an import file: the parsed contact, or why it could not be parsed
+public record ImportRow(long line, ContactDto contact, String error) {
+
+    public static ImportRow of(long line, ContactDto contact) {
+        return new ImportRow(line, contact, null);
+    }
+
+    public static ImportRow invalid(long line, String error) {
+        return new ImportRow(line, null, error);
+    }
+}
@@ -0,0 +1,66 @@
+package com.internship.contact_management_backend.importer;
+
+import org.springframework.core.NestedExceptionUtils;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Field-level message for a row the database rejected, for the import error
+ * file. The driver's message names tables, constraints and values, so it is
+ * only logged on the server; anything not recognized here becomes
+ * "Could not be saved".
+ */
+public final class ImportRowErrors {
+
+    private static final String UNKNOWN = "Could not be saved";
+    private static final Pattern CONSTRAINT = Pattern.compile("constraint '(\\w+)'", Pattern.CASE_INSENSITIVE);
+    private static final Pattern COLUMN = Pattern.compile("column '(\\w+)'", Pattern.CASE_INSENSITIVE);
+
+    // check constraints of the contacts table, worded like the ContactDto validation messages
+    private static final Map<String, String> CONSTRAINTS = Map.of(
+            "chk_first_name_length", "First name must be 3–100 characters",
+            "chk_last_name_length", "Last name must be 3–100 characters",
+            "chk_email_format", "Email must be valid",
+            "chk_phone_format", "Phone number must be in international format (E.164)");
+
+    private static final Map<String, String> FIELDS = Map.of(
+            "first_name", "First name",
+            "last_name", "Last name",
+            "email", "Email",
+            "email_label", "Email label",
+            "phone_number", "Phone number",
+            "phone_number_label", "Phone label");
+
+    private ImportRowErrors() {
+    }
+
+    public static String describe(Throwable failure) {
+        String message = NestedExceptionUtils.getMostSpecificCause(failure).getMessage();
+        if (message == null) {
+            return UNKNOWN;
+        }
+        Matcher constraint = CONSTRAINT.matcher(message);
+        if (constraint.find()) {
+            return CONSTRAINTS.getOrDefault(constraint.group(1).toLowerCase(Locale.ROOT), UNKNOWN);
+        }
+        Matcher column = COLUMN.matcher(message);
+        String field = column.find() ? FIELDS.get(column.group(1).toLowerCase(Locale.ROOT)) : null;
+        if (field == null) {
+            return UNKNOWN;
+        }
+        String lower = message.toLowerCase(Locale.ROOT);
+        if (lower.contains("too long")) {
+            return field + " is too long";
+        }
+        if (lower.contains("cannot be null")) {
+            return field + " is required";
+        }
+        if (lower.contains("incorrect string value")) {
+            return field + " contains unsupported characters";
+        }
+        return field + " is invalid";
+    }
+}
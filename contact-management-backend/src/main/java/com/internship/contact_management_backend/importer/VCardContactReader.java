@@ -0,0 +1,348 @@
+package com.internship.contact_management_backend.importer;
+
+import com.internship.contact_management_backend.dto.ContactDto;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Streaming reader for vCard 3.0 and 4.0 files, one card per record.
+ *
+ * Folded lines are unfolded, property groups (item1.EMAIL) are ignored, and
+ * the name comes from N, or from FN when N is empty. The first EMAIL and TEL
+ * are used unless a later one is marked pref; their TYPE becomes the label.
+ * Lines and cards are capped at {@link #MAX_LINE_CHARS} and
+ * {@link #MAX_CARD_CHARS}, an oversized card is reported as an error.
+ */
+public class VCardContactReader implements ContactRecordReader {
+
+    static final int MAX_LINE_CHARS = 8192;
+    static final int MAX_CARD_CHARS = 65536;
+
+    private static final String DEFAULT_LABEL = "Other";
+
+    private final Reader reader;
+    private final char[] buffer = new char[8192];
+    private int position;
+    private int limit;
+
+    private final StringBuilder physical = new StringBuilder();
+    private long physicalLine;
+    // physical lookahead to detect folded continuation lines, null at the end of input
+    private String pending;
+    private long pendingLine;
+    private boolean hasPending;
+    // logical line handed back after reading one line too far
+    private String pushedBack;
+    private long pushedBackLine;
+    private long logicalLine;
+
+    public VCardContactReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        String line;
+        while ((line = readLogicalLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            if (!line.trim().equalsIgnoreCase("BEGIN:VCARD")) {
+                long start = logicalLine;
+                // skip to the next card, one error for the whole stretch
+                while ((line = readLogicalLine()) != null && !line.trim().equalsIgnoreCase("BEGIN:VCARD")) {
+                    // skipped
+                }
+                if (line != null) {
+                    pushBack(line, logicalLine);
+                }
+                return ImportRow.invalid(start, "Expected BEGIN:VCARD");
+            }
+            return readCard(logicalLine);
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private ImportRow readCard(long start) throws IOException {
+        Card card = new Card();
+        int chars = 0;
+        String line;
+        while ((line = readLogicalLine()) != null) {
+            if (line.trim().equalsIgnoreCase("END:VCARD")) {
+                return card.toRow(start);
+            }
+            if (line.trim().equalsIgnoreCase("BEGIN:VCARD")) {
+                pushBack(line, logicalLine);
+                return ImportRow.invalid(start, "Missing END:VCARD");
+            }
+            chars += line.length();
+            if (chars > MAX_CARD_CHARS) {
+                while ((line = readLogicalLine()) != null && !line.trim().equalsIgnoreCase("END:VCARD")) {
+                    // skipped
+                }
+                return ImportRow.invalid(start, "vCard longer than " + MAX_CARD_CHARS + " characters");
+            }
+            card.accept(line);
+        }
+        return ImportRow.invalid(start, "Missing END:VCARD");
+    }
+
+    private static final class Card {
+        private String givenName;
+        private String familyName;
+        private String formattedName;
+        private String email;
+        private String emailLabel;
+        private boolean emailPreferred;
+        private String phone;
+        private String phoneLabel;
+        private boolean phonePreferred;
+
+        void accept(String line) {
+            int colon = valueSeparator(line);
+            if (colon < 0) {
+                return;
+            }
+            String[] head = line.substring(0, colon).split(";");
+            String value = line.substring(colon + 1);
+            String name = head[0];
+            name = name.substring(name.lastIndexOf('.') + 1).toUpperCase(Locale.ROOT);
+
+            List<String> types = new ArrayList<>();
+            for (int i = 1; i < head.length; i++) {
+                String param = head[i];
+                int eq = param.indexOf('=');
+                if (eq < 0) {
+                    // vCard 2.1 style bare type: EMAIL;WORK:...
+                    types.add(param.toLowerCase(Locale.ROOT));
+                } else if (param.substring(0, eq).equalsIgnoreCase("TYPE")) {
+                    for (String type : param.substring(eq + 1).replace("\"", "").split(",")) {
+                        types.add(type.trim().toLowerCase(Locale.ROOT));
+                    }
+                } else if (param.substring(0, eq).equalsIgnoreCase("PREF")) {
+                    types.add("pref");
+                }
+            }
+            boolean preferred = types.contains("pref");
+
+            switch (name) {
+                case "N" -> {
+                    List<String> parts = split(value, ';');
+                    familyName = !parts.isEmpty() ? blankToNull(unescape(parts.get(0))) : null;
+                    givenName = parts.size() > 1 ? blankToNull(unescape(parts.get(1))) : null;
+                }
+                case "FN" -> formattedName = blankToNull(unescape(value));
+                case "EMAIL" -> {
+                    if (email == null || (preferred && !emailPreferred)) {
+                        email = blankToNull(unescape(value));
+                        emailLabel = label(types);
+                        emailPreferred = preferred;
+                    }
+                }
+                case "TEL" -> {
+                    if (phone == null || (preferred && !phonePreferred)) {
+                        phone = normalizePhone(unescape(value));
+                        phoneLabel = label(types);
+                        phonePreferred = preferred;
+                    }
+                }
+                default -> {
+                    // other properties are not imported
+                }
+            }
+        }
+
+        ImportRow toRow(long line) {
+            String first = givenName;
+            String last = familyName;
+            if (first == null && last == null && formattedName != null) {
+                int space = formattedName.lastIndexOf(' ');
+                first = space < 0 ? formattedName : formattedName.substring(0, space).trim();
+                last = space < 0 ? null : formattedName.substring(space + 1);
+            }
+            return ImportRow.of(line, ContactDto.builder()
+                                                .firstName(first)
+                                                .lastName(last)
+                                                .email(email)
+                                                .emailLabel(email != null ? emailLabel : null)
+                                                .phoneNumber(phone)
+                                                .phoneNumberLabel(phone != null ? phoneLabel : null)
+                                                .build());
+        }
+    }
+
+    // First type that says where the value belongs, e.g. work, home, cell
+    private static String label(List<String> types) {
+        for (String type : types) {
+            switch (type) {
+                case "pref", "internet", "voice", "text", "x400", "" -> {
+                    // not a label
+                }
+                case "cell", "mobile" -> {
+                    return "Mobile";
+                }
+                default -> {
+                    String label = type.startsWith("x-") ? type.substring(2) : type;
+                    if (label.isEmpty()) {
+                        continue;
+                    }
+                    label = Character.toUpperCase(label.charAt(0)) + label.substring(1);
+                    return label.length() > 20 ? label.substring(0, 20) : label;
+                }
+            }
+        }
+        return DEFAULT_LABEL;
+    }
+
+    // tel: URIs (4.0) and the usual separators removed, 00 prefix as +
+    private static String normalizePhone(String value) {
+        String phone = value.trim();
+        if (phone.regionMatches(true, 0, "tel:", 0, 4)) {
+            phone = phone.substring(4);
+        }
+        int parameters = phone.indexOf(';');
+        if (parameters >= 0) {
+            phone = phone.substring(0, parameters);
+        }
+        phone = phone.replaceAll("[\\s().-]", "");
+        if (phone.startsWith("00")) {
+            phone = "+" + phone.substring(2);
+        }
+        return blankToNull(phone);
+    }
+
+    // first ':' outside a quoted parameter value
+    private static int valueSeparator(String line) {
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (c == ':' && !quoted) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // split on an unescaped separator, escapes are kept for unescape()
+    private static List<String> split(String value, char separator) {
+        List<String> parts = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == separator) {
+                parts.add(value.substring(start, i));
+                start = i + 1;
+            }
+        }
+        parts.add(value.substring(start));
+        return parts;
+    }
+
+    private static String unescape(String value) {
+        if (value.indexOf('\\') < 0) {
+            return value;
+        }
+        StringBuilder out = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                char next = value.charAt(++i);
+                out.append(next == 'n' || next == 'N' ? '\n' : next);
+            } else {
+                out.append(c);
+            }
+        }
+        return out.toString();
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    private void pushBack(String line, long number) {
+        pushedBack = line;
+        pushedBackLine = number;
+    }
+
+    // Next line with folded continuation lines appended, null at the end of input
+    private String readLogicalLine() throws IOException {
+        if (pushedBack != null) {
+            String line = pushedBack;
+            logicalLine = pushedBackLine;
+            pushedBack = null;
+            return line;
+        }
+        String line;
+        if (hasPending) {
+            line = pending;
+            logicalLine = pendingLine;
+            hasPending = false;
+        } else {
+            line = readPhysicalLine();
+            logicalLine = physicalLine;
+        }
+        if (line == null) {
+            return null;
+        }
+        StringBuilder unfolded = null;
+        while (true) {
+            String next = readPhysicalLine();
+            if (next != null && !next.isEmpty() && (next.charAt(0) == ' ' || next.charAt(0) == '\t')) {
+                if (unfolded == null) {
+                    unfolded = new StringBuilder(line);
+                }
+                if (unfolded.length() < MAX_LINE_CHARS) {
+                    unfolded.append(next, 1, Math.min(next.length(), 1 + MAX_LINE_CHARS - unfolded.length()));
+                }
+                continue;
+            }
+            pending = next;
+            pendingLine = physicalLine;
+            hasPending = true;
+            break;
+        }
+        return unfolded == null ? line : unfolded.toString();
+    }
+
+    // Physical line without its terminator, truncated at MAX_LINE_CHARS
+    private String readPhysicalLine() throws IOException {
+        physical.setLength(0);
+        int c = read();
+        if (c < 0) {
+            return null;
+        }
+        physicalLine++;
+        while (c >= 0 && c != '\n') {
+            if (c != '\r' && physical.length() < MAX_LINE_CHARS) {
+                physical.append((char) c);
+            }
+            c = read();
+        }
+        return physical.toString();
+    }
+
+    private int read() throws IOException {
+        if (position == limit) {
+            limit = reader.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        return buffer[position++];
+    }
+}
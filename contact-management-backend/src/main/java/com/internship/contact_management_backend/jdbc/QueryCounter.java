@@ -0,0 +1,26 @@
+package com.internship.contact_management_backend.jdbc;
+
+// Per-thread count of JDBC statements, reset at the start of every request
+public final class QueryCounter {
+
+    private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+    private QueryCounter() {
+    }
+
+    public static void reset() {
+        COUNT.get()[0] = 0;
+    }
+
+    public static long current() {
+        return COUNT.get()[0];
+    }
+
+    static void increment() {
+        COUNT.get()[0]++;
+    }
+
+    public static void clear() {
+        COUNT.remove();
+    }
+}
@@ -0,0 +1,39 @@
+package com.internship.contact_management_backend.jdbc;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+// Reduces SQL to a stable shape so statements differing only in literals or list sizes group together
+public final class SqlNormalizer {
+
+    private static final int MAX_CACHED = 2_000;
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?(?!\\w)");
+    private static final Pattern PLACEHOLDER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern REPEATED_LIST = Pattern.compile("\\(\\?\\.\\.\\.\\)(?:\\s*,\\s*\\(\\?\\.\\.\\.\\))+");
+
+    // the same handful of Hibernate statements repeat all day, so remember them
+    private static final Map<String, String> CACHE = new ConcurrentHashMap<>();
+
+    private SqlNormalizer() {
+    }
+
+    public static String normalize(String sql) {
+        String cached = CACHE.get(sql);
+        if (cached != null) {
+            return cached;
+        }
+        String normalized = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        normalized = STRING_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = PLACEHOLDER_LIST.matcher(normalized).replaceAll("(?...)");
+        normalized = REPEATED_LIST.matcher(normalized).replaceAll("(?...)");
+        if (CACHE.size() < MAX_CACHED) {
+            CACHE.put(sql, normalized);
+        }
+        return normalized;
+    }
+}
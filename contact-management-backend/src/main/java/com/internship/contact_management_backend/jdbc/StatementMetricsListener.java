@@ -0,0 +1,232 @@
+package com.internship.contact_management_backend.jdbc;
+
+import com.internship.contact_management_backend.utils.RequestAttribution;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ConnectionInfo;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.proxy.ProxyConfig;
+import net.ttddyy.dsproxy.proxy.ProxyLogicSupport;
+import net.ttddyy.dsproxy.proxy.ResultSetProxyLogic;
+import net.ttddyy.dsproxy.proxy.ResultSetProxyLogicFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Records a latency histogram per normalized statement and logs statements
+ * slower than {@code jdbc.slow-query.threshold-ms} together with the endpoint
+ * and the id of the user that issued them. Bind values are never logged, only
+ * their types.
+ *
+ * The rows a slow query returned are counted as the caller reads them and
+ * the query is logged when its ResultSet is closed. Every ResultSet is
+ * proxied for that, but only those of slow queries count anything; with
+ * {@code jdbc.slow-query.count-rows=false} nothing is proxied and the rows
+ * of a slow select are left out of the log.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "jdbc.slow-query.enabled", havingValue = "true", matchIfMissing = true)
+public class StatementMetricsListener implements QueryExecutionListener, ResultSetProxyLogicFactory {
+
+    private static final int MAX_DISTINCT_STATEMENTS = 500;
+    private static final String OTHER = "other";
+
+    private final MeterRegistry meterRegistry;
+    private final long thresholdMs;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    // ResultSet opened by the statement now executing on this thread
+    private final ThreadLocal<CountingResultSetLogic> opened = new ThreadLocal<>();
+    // slow query whose rows are still being read by the caller
+    private final ThreadLocal<SlowStatement> pending = new ThreadLocal<>();
+
+    public StatementMetricsListener(MeterRegistry meterRegistry,
+                                    @Value("${jdbc.slow-query.threshold-ms:200}") long thresholdMs) {
+        this.meterRegistry = meterRegistry;
+        this.thresholdMs = thresholdMs;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        opened.remove();
+        flushPending();
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        String sql = queryInfoList.size() == 1
+                ? queryInfoList.get(0).getQuery()
+                : queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; "));
+        String normalized = SqlNormalizer.normalize(sql);
+        timer(normalized).record(execInfo.getElapsedTime(), TimeUnit.MILLISECONDS);
+
+        CountingResultSetLogic resultSet = opened.get();
+        opened.remove();
+        if (execInfo.getElapsedTime() < thresholdMs) {
+            return;
+        }
+        SlowStatement slow = new SlowStatement(sql, parameterShape(execInfo, queryInfoList),
+                RequestAttribution.endpoint(), RequestAttribution.userId(), execInfo.getElapsedTime());
+        Object result = execInfo.getResult();
+        if (result instanceof ResultSet && resultSet != null) {
+            // rows are only known once the caller has read the result set
+            slow.rows = 0;
+            resultSet.slow = slow;
+            pending.set(slow);
+        } else {
+            slow.rows = updateCount(result);
+            log(slow);
+        }
+    }
+
+    // called by the proxy for each ResultSet, right before afterQuery on the same thread
+    @Override
+    public ResultSetProxyLogic create(ResultSet resultSet, ConnectionInfo connectionInfo, ProxyConfig proxyConfig) {
+        CountingResultSetLogic logic = new CountingResultSetLogic(resultSet, proxyConfig);
+        opened.set(logic);
+        return logic;
+    }
+
+    private void flushPending() {
+        SlowStatement slow = pending.get();
+        if (slow != null) {
+            pending.remove();
+            log(slow);
+        }
+    }
+
+    private void finish(SlowStatement slow) {
+        if (pending.get() == slow) {
+            pending.remove();
+        }
+        log(slow);
+    }
+
+    private void log(SlowStatement slow) {
+        if (slow.logged) {
+            return;
+        }
+        slow.logged = true;
+        if (slow.rows < 0) {
+            log.warn("Slow query {}ms endpoint={} userId={} params={} sql={}",
+                    slow.elapsedMs, slow.endpoint, slow.userId, slow.parameterShape, slow.sql);
+        } else {
+            log.warn("Slow query {}ms rows={} endpoint={} userId={} params={} sql={}",
+                    slow.elapsedMs, slow.rows, slow.endpoint, slow.userId, slow.parameterShape, slow.sql);
+        }
+    }
+
+    private Timer timer(String normalizedSql) {
+        Timer timer = timers.get(normalizedSql);
+        if (timer != null) {
+            return timer;
+        }
+        // bound the tag cardinality in case something generates unbounded SQL shapes
+        String tag = timers.size() < MAX_DISTINCT_STATEMENTS ? normalizedSql : OTHER;
+        return timers.computeIfAbsent(tag, sql -> Timer.builder("jdbc.statement")
+                                                       .description("JDBC statement execution time")
+                                                       .tag("sql", sql)
+                                                       .publishPercentileHistogram()
+                                                       .register(meterRegistry));
+    }
+
+    // e.g. "[Long, String]" or "[Long, String] x 50" for batches
+    private static String parameterShape(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (queryInfoList.isEmpty() || queryInfoList.get(0).getParametersList().isEmpty()) {
+            return "[]";
+        }
+        List<ParameterSetOperation> parameters = queryInfoList.get(0).getParametersList().get(0);
+        StringJoiner shape = new StringJoiner(", ", "[", "]");
+        for (ParameterSetOperation operation : parameters) {
+            Object[] args = operation.getArgs();
+            Object value = args.length > 1 ? args[1] : null;
+            boolean isNull = "setNull".equals(operation.getMethod().getName()) || value == null;
+            shape.add(isNull ? "null" : value.getClass().getSimpleName());
+        }
+        return execInfo.isBatch() ? shape + " x " + execInfo.getBatchSize() : shape.toString();
+    }
+
+    private static long updateCount(Object result) {
+        if (result instanceof Number number) {
+            return number.longValue();
+        }
+        if (result instanceof int[] counts) {
+            long sum = 0;
+            for (int count : counts) {
+                sum += Math.max(count, 0);
+            }
+            return sum;
+        }
+        return -1;
+    }
+
+    private static final class SlowStatement {
+        private final String sql;
+        private final String parameterShape;
+        private final String endpoint;
+        private final String userId;
+        private final long elapsedMs;
+        // -1 when unknown
+        private long rows = -1;
+        private boolean logged;
+
+        private SlowStatement(String sql, String parameterShape, String endpoint, String userId, long elapsedMs) {
+            this.sql = sql;
+            this.parameterShape = parameterShape;
+            this.endpoint = endpoint;
+            this.userId = userId;
+            this.elapsedMs = elapsedMs;
+        }
+    }
+
+    // Passes every call through, counting next() and logging on close() once the query turned out slow
+    private final class CountingResultSetLogic extends ProxyLogicSupport implements ResultSetProxyLogic {
+        private final ResultSet resultSet;
+        private final ProxyConfig proxyConfig;
+        private SlowStatement slow;
+
+        private CountingResultSetLogic(ResultSet resultSet, ProxyConfig proxyConfig) {
+            this.resultSet = resultSet;
+            this.proxyConfig = proxyConfig;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (isCommonMethod(name)) {
+                return handleCommonMethod(name, resultSet, proxyConfig, args);
+            }
+            Object result = proceedExecution(method, resultSet, args);
+            if (slow != null) {
+                if ("next".equals(name) && Boolean.TRUE.equals(result)) {
+                    slow.rows++;
+                } else if ("close".equals(name)) {
+                    finish(slow);
+                }
+            }
+            return result;
+        }
+
+        @Override
+        protected Object performProxyLogic(Object proxy, Method method, Object[] args,
+                                           MethodExecutionContext methodContext) throws Throwable {
+            return invoke(proxy, method, args);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.internship.contact_management_backend.jfr;
+
+import com.internship.contact_management_backend.utils.Hs256TokenVerifier;
+import com.internship.contact_management_backend.utils.Hs256TokenVerifier.VerifiedToken;
+import com.internship.contact_management_backend.utils.RequestAttribution;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("contactmanagement.JwtVerification")
+@Label("JWT Verification")
+@Category({"Contact Management", "Authentication"})
+@Description("Bearer token parsing and signature check in JwtFilter or RateLimitFilter")
+@StackTrace(false)
+public class JwtVerificationEvent extends Event {
+
+    @Label("Endpoint")
+    String endpoint;
+
+    @Label("User")
+    String user;
+
+    @Label("Valid")
+    boolean valid;
+
+    // Signature, expiry and claims check, recorded as an event
+    public static VerifiedToken verify(Hs256TokenVerifier verifier, String jwt) {
+        JwtVerificationEvent event = new JwtVerificationEvent();
+        event.begin();
+        VerifiedToken token = null;
+        try {
+            token = verifier.verify(jwt);
+            event.setValid(true);
+            return token;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.setEndpoint(RequestAttribution.endpoint());
+                event.setUser(token != null ? token.subject() : null);
+                event.commit();
+            }
+        }
+    }
+
+    public void setEndpoint(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public void setUser(String user) {
+        this.user = user;
+    }
+
+    public void setValid(boolean valid) {
+        this.valid = valid;
+    }
+}
@@ -0,0 +1,72 @@
+package com.internship.contact_management_backend.jfr;
+
+import com.internship.contact_management_backend.utils.RequestAttribution;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+@Name("contactmanagement.RepositoryCall")
+@Label("Repository Call")
+@Category({"Contact Management", "Persistence"})
+@Description("A ContactRepository or UserRepository call made by a service")
+@StackTrace(false)
+public class RepositoryCallEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Endpoint")
+    String endpoint;
+
+    @Label("User Id")
+    String userId;
+
+    @Label("Rows")
+    long rows;
+
+    // Runs the call and records it; attribution is only looked up when the event is enabled
+    public static <T> T record(String operation, Supplier<T> call) {
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        if (!event.isEnabled()) {
+            return call.get();
+        }
+        event.begin();
+        T result = call.get();
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = operation;
+            event.endpoint = RequestAttribution.endpoint();
+            event.userId = RequestAttribution.userId();
+            event.rows = rows(result);
+            event.commit();
+        }
+        return result;
+    }
+
+    public static void run(String operation, Runnable call) {
+        record(operation, () -> {
+            call.run();
+            return null;
+        });
+    }
+
+    private static long rows(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        if (result instanceof Number number) {
+            return number.longValue();
+        }
+        return result != null ? 1 : 0;
+    }
+}
@@ -0,0 +1,98 @@
+package com.internship.contact_management_backend.jfr;
+
+import com.internship.contact_management_backend.utils.RequestAttribution;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+@Name("contactmanagement.ResponseWrite")
+@Label("Response Write")
+@Category({"Contact Management", "Serialization"})
+@Description("Serialization of a response body by an HTTP message converter")
+@StackTrace(false)
+public class ResponseWriteEvent extends Event {
+
+    @Label("Endpoint")
+    String endpoint;
+
+    @Label("User Id")
+    String userId;
+
+    @Label("Media Type")
+    String mediaType;
+
+    @Label("Body Type")
+    String bodyType;
+
+    @Label("Bytes")
+    @DataAmount
+    long bytes;
+
+    // a converter's write of the body to the given message
+    @FunctionalInterface
+    public interface Write {
+        void to(HttpOutputMessage outputMessage) throws IOException;
+    }
+
+    // Runs the write against a counting body and records it; nothing is wrapped when the event is disabled
+    public static void record(Object body, HttpOutputMessage outputMessage, Write write) throws IOException {
+        ResponseWriteEvent event = new ResponseWriteEvent();
+        if (!event.isEnabled()) {
+            write.to(outputMessage);
+            return;
+        }
+
+        CountingOutputStream counting = new CountingOutputStream(outputMessage.getBody());
+        event.begin();
+        write.to(new HttpOutputMessage() {
+            @Override
+            public OutputStream getBody() {
+                return counting;
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return outputMessage.getHeaders();
+            }
+        });
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.setEndpoint(RequestAttribution.endpoint());
+            event.setUserId(RequestAttribution.userId());
+            event.setMediaType(String.valueOf(outputMessage.getHeaders().getContentType()));
+            event.setBodyType(body.getClass().getSimpleName());
+            event.setBytes(counting.getCount());
+            event.commit();
+        }
+    }
+
+    public void setEndpoint(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    public void setMediaType(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public void setBodyType(String bodyType) {
+        this.bodyType = bodyType;
+    }
+
+    public void setBytes(long bytes) {
+        this.bytes = bytes;
+    }
+}
@@ -0,0 +1,89 @@
+package com.internship.contact_management_backend.limit;
+
+/**
+ * Latency based concurrency limit (gradient algorithm).
+ *
+ * Request latencies are averaged over a window of samples and compared with a
+ * slowly moving long-term average. While the short-term latency stays within
+ * {@code tolerance} of the long-term one the limit grows by about sqrt(limit)
+ * per window; once requests start queueing the latency ratio drops below one
+ * and the limit shrinks proportionally. The limit never grows while the
+ * window's peak concurrency stayed below half of it, so an idle service does
+ * not drift to {@code maxLimit}.
+ */
+public class GradientConcurrencyLimit {
+
+    // weight of one window in the long-term latency average
+    private static final double LONG_RTT_WEIGHT = 0.05;
+    private static final double MIN_GRADIENT = 0.5;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final int windowSize;
+
+    private volatile double limit;
+
+    // guarded by this
+    private double longRtt;
+    private long windowRttSum;
+    private int windowSamples;
+    private int windowMaxInFlight;
+
+    public GradientConcurrencyLimit(int initialLimit, int minLimit, int maxLimit,
+                                    double tolerance, double smoothing, int windowSize) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Concurrency limits must satisfy 1 <= min <= initial <= max");
+        }
+        if (tolerance < 1.0 || smoothing <= 0.0 || smoothing > 1.0 || windowSize < 1) {
+            throw new IllegalArgumentException("Invalid concurrency limit tuning");
+        }
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.windowSize = windowSize;
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    // rtt of one completed request and the number of requests in flight when it started
+    public synchronized void onSample(long rttNanos, int inFlight) {
+        windowRttSum += Math.max(rttNanos, 1);
+        windowSamples++;
+        windowMaxInFlight = Math.max(windowMaxInFlight, inFlight);
+        if (windowSamples < windowSize) {
+            return;
+        }
+
+        double shortRtt = (double) windowRttSum / windowSamples;
+        int peakInFlight = windowMaxInFlight;
+        windowRttSum = 0;
+        windowSamples = 0;
+        windowMaxInFlight = 0;
+
+        if (longRtt == 0) {
+            longRtt = shortRtt;
+        } else {
+            longRtt = longRtt * (1 - LONG_RTT_WEIGHT) + shortRtt * LONG_RTT_WEIGHT;
+        }
+        // latency dropped for good (e.g. after a slow warm-up), let the baseline follow quickly
+        if (longRtt > shortRtt * 2) {
+            longRtt *= 0.95;
+        }
+
+        double current = limit;
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * longRtt / shortRtt));
+        double target = current * gradient + Math.sqrt(current);
+        double next = current * (1 - smoothing) + target * smoothing;
+
+        if (next > current && peakInFlight < current / 2) {
+            return;
+        }
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+}
@@ -0,0 +1,99 @@
+package com.internship.contact_management_backend.limit;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keyed token bucket rate limiter, implemented as GCRA (generic cell rate
+ * algorithm): each key only stores the theoretical arrival time of its next
+ * request in an {@link AtomicLong} and a request is admitted with a single CAS,
+ * so there are no locks and no refill threads.
+ *
+ * Memory is bounded by {@code maxKeys}. Once the map is full, an unknown key
+ * takes the place of the most idle of a few sampled buckets, so a flood of
+ * new keys cannot throttle a well-behaved one. {@link #evictIdle(long)} removes
+ * keys whose bucket has refilled completely (an evicted key loses nothing).
+ */
+public class RateLimiter {
+
+    // buckets looked at to find an eviction victim when the map is full
+    private static final int EVICTION_SAMPLES = 8;
+
+    private final long emissionIntervalNanos;
+    private final long burstWindowNanos;
+    private final int maxKeys;
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+    // limit requests per period, at most burst of them back to back
+    public RateLimiter(int limit, Duration period, int burst, int maxKeys) {
+        if (limit < 1 || burst < 1 || maxKeys < 1 || period.isZero() || period.isNegative()) {
+            throw new IllegalArgumentException("Rate limit, burst, period and max keys must be positive");
+        }
+        this.emissionIntervalNanos = Math.max(1, period.toNanos() / limit);
+        this.burstWindowNanos = emissionIntervalNanos * burst;
+        this.maxKeys = maxKeys;
+    }
+
+    // 0 when the request is admitted, otherwise the nanos until it would be
+    public long tryAcquire(String key, long nowNanos) {
+        AtomicLong bucket = bucket(key, nowNanos);
+        while (true) {
+            long tat = bucket.get();
+            // nanoTime values may be negative, so compare by difference
+            long newTat = (tat - nowNanos > 0 ? tat : nowNanos) + emissionIntervalNanos;
+            long wait = newTat - nowNanos - burstWindowNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.compareAndSet(tat, newTat)) {
+                return 0;
+            }
+        }
+    }
+
+    // drops keys whose bucket is full again, returns the number removed
+    public int evictIdle(long nowNanos) {
+        int before = buckets.size();
+        buckets.values().removeIf(tat -> tat.get() - nowNanos <= 0);
+        return before - buckets.size();
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    private AtomicLong bucket(String key, long nowNanos) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= maxKeys) {
+            evictOne(nowNanos);
+        }
+        return buckets.computeIfAbsent(key, k -> new AtomicLong(nowNanos));
+    }
+
+    // the sampled bucket closest to full loses the least when dropped
+    private void evictOne(long nowNanos) {
+        Map.Entry<String, AtomicLong> victim = null;
+        long victimTat = 0;
+        Iterator<Map.Entry<String, AtomicLong>> entries = buckets.entrySet().iterator();
+        for (int i = 0; i < EVICTION_SAMPLES && entries.hasNext(); i++) {
+            Map.Entry<String, AtomicLong> entry = entries.next();
+            long tat = entry.getValue().get();
+            if (victim == null || tat - victimTat < 0) {
+                victim = entry;
+                victimTat = tat;
+            }
+            if (tat - nowNanos <= 0) {
+                break;
+            }
+        }
+        if (victim != null) {
+            buckets.remove(victim.getKey(), victim.getValue());
+        }
+    }
+}
@@ -1,13 +1,21 @@
 package com.internship.contact_management_backend.repository;
 
 import com.internship.contact_management_backend.entity.Contact;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface ContactRepository extends JpaRepository<Contact,Long> {
+// Contact queries only see live rows (see Contact); the native queries below are the way into the trash
+public interface ContactRepository extends JpaRepository<Contact,Long>, ContactRepositoryCustom {
     // Find all contacts of a specific user
     List<Contact> findByUserId(Long userId);
 
@@ -22,4 +30,73 @@ AND (LOWER(c.firstName) LIKE LOWER(CONCAT('%', :keyword, '%'))
 """)
     List<Contact> searchContacts(Long userId, String keyword);
 
+    // The user's contacts among the given ids, others are left out
+    @Query("SELECT c FROM Contact c WHERE c.user.id = :userId AND c.id IN :ids")
+    List<Contact> findOwned(Long userId, Collection<Long> ids);
+
+    // Ids among the given ones that belong to the user, locked until the transaction ends
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c.id FROM Contact c WHERE c.user.id = :userId AND c.id IN :ids")
+    List<Long> lockOwnedIds(Long userId, Collection<Long> ids);
+
+    // Next page of the user's contacts matching the keyword, by id, locked until the transaction ends
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+SELECT c.id FROM Contact c
+WHERE c.user.id = :userId
+AND c.id > :afterId
+AND (LOWER(c.firstName) LIKE LOWER(CONCAT('%', :keyword, '%'))
+     OR LOWER(c.lastName) LIKE LOWER(CONCAT('%', :keyword, '%')))
+ORDER BY c.id
+""")
+    List<Long> lockOwnedIdsMatching(Long userId, String keyword, long afterId, Pageable pageable);
+
+    // Moves the user's contacts among the ids to the trash
+    @Modifying
+    @Query("""
+UPDATE Contact c
+SET c.deletedAt = CURRENT_TIMESTAMP
+WHERE c.user.id = :userId AND c.id IN :ids AND c.deletedAt IS NULL
+""")
+    int deleteOwned(Long userId, Collection<Long> ids);
+
+    // null labels keep their current value
+    @Modifying
+    @Query("""
+UPDATE Contact c
+SET c.emailLabel = COALESCE(:emailLabel, c.emailLabel),
+    c.phoneNumberLabel = COALESCE(:phoneNumberLabel, c.phoneNumberLabel),
+    c.updatedAt = :now
+WHERE c.user.id = :userId AND c.id IN :ids AND c.deletedAt IS NULL
+""")
+    int updateLabels(Long userId, Collection<Long> ids, String emailLabel, String phoneNumberLabel,
+                     LocalDateTime now);
+
+    // The user's deleted contacts, most recently deleted first
+    @Query(value = """
+SELECT * FROM contacts
+WHERE user_id = :userId AND deleted_at IS NOT NULL
+ORDER BY deleted_at DESC, id DESC
+""", nativeQuery = true)
+    List<Contact> findTrash(Long userId);
+
+    @Query(value = "SELECT * FROM contacts WHERE id = :id AND deleted_at IS NOT NULL", nativeQuery = true)
+    Optional<Contact> findTrashedById(Long id);
+
+    // 0 when the contact is no longer in the trash
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE contacts SET deleted_at = NULL WHERE id = :id AND deleted_at IS NOT NULL", nativeQuery = true)
+    int restore(Long id);
+
+    // One batch of contacts deleted more than the given seconds ago, oldest first, in its own transaction
+    @Modifying
+    @Transactional
+    @Query(value = """
+DELETE FROM contacts
+WHERE deleted_at < CURRENT_TIMESTAMP - INTERVAL :retentionSeconds SECOND
+ORDER BY deleted_at
+LIMIT :batchSize
+""", nativeQuery = true)
+    int purgeDeleted(long retentionSeconds, int batchSize);
 }
@@ -0,0 +1,13 @@
+package com.internship.contact_management_backend.repository;
+
+import com.internship.contact_management_backend.dto.ContactField;
+import com.internship.contact_management_backend.dto.ContactDto;
+
+import java.util.List;
+import java.util.Set;
+
+public interface ContactRepositoryCustom {
+
+    // Selects only the requested columns; keyword filters on first/last name like searchContacts
+    List<ContactDto> findProjected(Long userId, String keyword, Set<ContactField> fields);
+}
@@ -0,0 +1,69 @@
+package com.internship.contact_management_backend.repository;
+
+import com.internship.contact_management_backend.dto.ContactDto;
+import com.internship.contact_management_backend.dto.ContactField;
+import com.internship.contact_management_backend.dto.SparseContactDto;
+import com.internship.contact_management_backend.entity.Contact;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.ParameterExpression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+public class ContactRepositoryCustomImpl implements ContactRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ContactDto> findProjected(Long userId, String keyword, Set<ContactField> fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Contact> contact = query.from(Contact.class);
+
+        // select only the requested columns, no entity is loaded or managed
+        List<Selection<?>> selections = new ArrayList<>(fields.size());
+        for (ContactField field : fields) {
+            selections.add(contact.get(field.attribute()).alias(field.attribute()));
+        }
+
+        ParameterExpression<Long> userParam = cb.parameter(Long.class, "userId");
+        Predicate predicate = cb.equal(contact.get("user").get("id"), userParam);
+
+        ParameterExpression<String> keywordParam = cb.parameter(String.class, "keyword");
+        if (keyword != null) {
+            Expression<String> pattern = cb.lower(cb.concat(cb.concat("%", keywordParam), "%"));
+            predicate = cb.and(predicate, cb.or(
+                    cb.like(cb.lower(contact.get("firstName")), pattern),
+                    cb.like(cb.lower(contact.get("lastName")), pattern)));
+        }
+        query.multiselect(selections).where(predicate);
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query)
+                                                    .setParameter(userParam, userId);
+        if (keyword != null) {
+            typedQuery.setParameter(keywordParam, keyword);
+        }
+
+        List<Tuple> rows = typedQuery.getResultList();
+        List<ContactDto> contacts = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            ContactDto dto = new SparseContactDto();
+            for (ContactField field : fields) {
+                field.apply(dto, row.get(field.attribute()));
+            }
+            contacts.add(dto);
+        }
+        return contacts;
+    }
+}
@@ -0,0 +1,44 @@
+package com.internship.contact_management_backend.repository;
+
+import com.internship.contact_management_backend.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    // Token with its user, in one query
+    @Query("select t from RefreshToken t join fetch t.user where t.tokenHash = :tokenHash")
+    Optional<RefreshToken> findByTokenHash(@Param("tokenHash") String tokenHash);
+
+    // Issue a token for a user known only by email, without loading the user first
+    @Modifying
+    @Query(value = """
+            insert into refresh_tokens (token_hash, family_id, user_id, expires_at)
+            select :tokenHash, :familyId, u.id, :expiresAt from users u where u.email = :email
+            """, nativeQuery = true)
+    int insertForEmail(@Param("tokenHash") String tokenHash, @Param("familyId") String familyId,
+                       @Param("email") String email, @Param("expiresAt") LocalDateTime expiresAt);
+
+    // Conditional so that only one of two concurrent rotations of the same token wins
+    @Modifying
+    @Query("update RefreshToken t set t.revokedAt = :now where t.id = :id and t.revokedAt is null")
+    int revokeIfActive(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("update RefreshToken t set t.revokedAt = :now where t.familyId = :familyId and t.revokedAt is null")
+    int revokeFamily(@Param("familyId") String familyId, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("update RefreshToken t set t.revokedAt = :now where t.revokedAt is null"
+            + " and t.user.id in (select u.id from User u where u.email = :email)")
+    int revokeAllForEmail(@Param("email") String email, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("delete from RefreshToken t where t.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
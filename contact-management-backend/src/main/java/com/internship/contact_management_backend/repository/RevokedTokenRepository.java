@@ -0,0 +1,32 @@
+package com.internship.contact_management_backend.repository;
+
+import com.internship.contact_management_backend.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    // Revoke by email without loading the user first, in its own transaction so a duplicate can be ignored
+    @Modifying
+    @Transactional
+    @Query(value = """
+            insert into revoked_tokens (jti, user_id, expires_at, revoked_at)
+            select :jti, u.id, :expiresAt, :revokedAt from users u where u.email = :email
+            """, nativeQuery = true)
+    int insertForEmail(@Param("jti") String jti, @Param("email") String email,
+                       @Param("expiresAt") LocalDateTime expiresAt, @Param("revokedAt") LocalDateTime revokedAt);
+
+    // (jti, expiresAt) pairs of unexpired tokens revoked after the given instant
+    @Query("select t.jti, t.expiresAt from RevokedToken t where t.revokedAt > :since and t.expiresAt > :now")
+    List<Object[]> findRevokedSince(@Param("since") LocalDateTime since, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("delete from RevokedToken t where t.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -1,8 +1,14 @@
 package com.internship.contact_management_backend.repository;
 
 import com.internship.contact_management_backend.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User,Long> {
@@ -13,4 +19,21 @@ public interface UserRepository extends JpaRepository<User,Long> {
     // Check if email already exists
     boolean existsByEmail(String email);
 
+    // Keyset page of (id, email) rows for rebuilding the registered email filter
+    @Query("select u.id, u.email from User u where u.id > :afterId order by u.id")
+    List<Object[]> findEmailsAfter(@Param("afterId") long afterId, Pageable page);
+
+    // Emails registered since the given instant, for the email filters of every instance
+    @Query("select u.email from User u where u.createdAt > :since")
+    List<String> findEmailsCreatedSince(@Param("since") LocalDateTime since);
+
+    // Revoke every access token issued to the user so far
+    @Modifying
+    @Query(value = "update users set tokens_revoked_before = :cutoff where email = :email", nativeQuery = true)
+    int revokeTokensIssuedBefore(@Param("email") String email, @Param("cutoff") LocalDateTime cutoff);
+
+    // (email, cutoff) pairs set after the given instant, for the in-memory revocation list
+    @Query("select u.email, u.tokensRevokedBefore from User u where u.tokensRevokedBefore > :since")
+    List<Object[]> findTokenCutoffsSince(@Param("since") LocalDateTime since);
+
 }
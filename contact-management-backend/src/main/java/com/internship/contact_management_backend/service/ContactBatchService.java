@@ -0,0 +1,184 @@
+package com.internship.contact_management_backend.service;
+
+import com.internship.contact_management_backend.dto.BatchOperationDto;
+import com.internship.contact_management_backend.dto.BatchOperationResultDto;
+import com.internship.contact_management_backend.dto.ContactDto;
+import com.internship.contact_management_backend.entity.Contact;
+import com.internship.contact_management_backend.entity.User;
+import com.internship.contact_management_backend.exception.ResourceNotFoundException;
+import com.internship.contact_management_backend.jfr.RepositoryCallEvent;
+import com.internship.contact_management_backend.repository.ContactRepository;
+import com.internship.contact_management_backend.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Ordered create/update/delete operations applied in one transaction.
+ *
+ * The user is looked up once and every contact the batch updates or deletes
+ * is loaded with one query. Operations reach the database in request order:
+ * each run of consecutive operations of the same type is written before the
+ * next run starts, so only those runs become JDBC batches
+ * (hibernate.jdbc.batch_size). Inserts still run one by one because IDENTITY
+ * ids are assigned by the database. An id deleted earlier in the batch is not
+ * found by later operations. Any failing operation rolls the whole batch back.
+ */
+@Service
+@Slf4j
+public class ContactBatchService {
+
+    private static final String BAD_CREDENTIALS = "Bad Credentials";
+
+    private final ContactRepository contactRepository;
+    private final UserRepository userRepository;
+    private final ContactReadCoalescer readCoalescer;
+    private final TransactionTemplate transactionTemplate;
+
+    public ContactBatchService(ContactRepository contactRepository, UserRepository userRepository,
+                               ContactReadCoalescer readCoalescer, TransactionTemplate transactionTemplate) {
+        this.contactRepository = contactRepository;
+        this.userRepository = userRepository;
+        this.readCoalescer = readCoalescer;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    public List<BatchOperationResultDto> apply(List<BatchOperationDto> operations, String email) {
+        for (int i = 0; i < operations.size(); i++) {
+            validate(i, operations.get(i));
+        }
+        return readCoalescer.write(email, () -> transactionTemplate.execute(status -> {
+            User user = findUser(email);
+            Map<Long, Contact> owned = loadOwned(user.getId(), operations);
+
+            // consecutive operations of one type, written together
+            List<Contact> run = new ArrayList<>();
+            BatchOperationDto.Op runOp = null;
+            int created = 0;
+            int deleted = 0;
+            // completed after the inserts, when created contacts have their ids
+            List<Supplier<BatchOperationResultDto>> results = new ArrayList<>(operations.size());
+
+            for (int i = 0; i < operations.size(); i++) {
+                BatchOperationDto operation = operations.get(i);
+                int index = i;
+                if (runOp != null && runOp != operation.getOp()) {
+                    write(runOp, run);
+                    run = new ArrayList<>();
+                }
+                runOp = operation.getOp();
+                switch (operation.getOp()) {
+                    case CREATE -> {
+                        Contact contact = operation.getContact().toEntity();
+                        contact.setId(null);
+                        contact.setUser(user);
+                        run.add(contact);
+                        created++;
+                        ContactDto snapshot = contact.toDto();
+                        results.add(() -> {
+                            snapshot.setId(contact.getId());
+                            return new BatchOperationResultDto(index, operation.getOp(), HttpStatus.CREATED.value(),
+                                                               contact.getId(), snapshot);
+                        });
+                    }
+                    case UPDATE -> {
+                        Contact existing = owned(owned, index, operation.getId());
+                        ContactDto values = operation.getContact();
+                        existing.setFirstName(values.getFirstName());
+                        existing.setLastName(values.getLastName());
+                        existing.setEmail(values.getEmail());
+                        existing.setEmailLabel(values.getEmailLabel());
+                        existing.setPhoneNumber(values.getPhoneNumber());
+                        existing.setPhoneNumberLabel(values.getPhoneNumberLabel());
+                        run.add(existing);
+                        // a later update of the same id must not show up in this result
+                        BatchOperationResultDto result = new BatchOperationResultDto(index, operation.getOp(),
+                                HttpStatus.OK.value(), existing.getId(), existing.toDto());
+                        results.add(() -> result);
+                    }
+                    case DELETE -> {
+                        // later operations on the same id report not found
+                        Contact existing = owned(owned, index, operation.getId());
+                        owned.remove(operation.getId());
+                        run.add(existing);
+                        deleted++;
+                        results.add(() -> new BatchOperationResultDto(index, operation.getOp(),
+                                HttpStatus.NO_CONTENT.value(), existing.getId(), null));
+                    }
+                }
+            }
+            if (runOp != null) {
+                write(runOp, run);
+            }
+
+            List<BatchOperationResultDto> applied = results.stream().map(Supplier::get).toList();
+            log.info("Batch of {} operations applied for user={} (created={}, deleted={})",
+                     operations.size(), email, created, deleted);
+            return applied;
+        }));
+    }
+
+    // Writes a finished run before the next one starts, so the database sees the operations in request order
+    private void write(BatchOperationDto.Op op, List<Contact> run) {
+        switch (op) {
+            // IDENTITY inserts are executed right away
+            case CREATE -> RepositoryCallEvent.record("ContactRepository.saveAll", () -> contactRepository.saveAll(run));
+            // dirty checking picks the changes up at the flush
+            case UPDATE -> RepositoryCallEvent.run("ContactRepository.flush", contactRepository::flush);
+            case DELETE -> RepositoryCallEvent.run("ContactRepository.deleteAll", () -> {
+                contactRepository.deleteAll(run);
+                contactRepository.flush();
+            });
+        }
+    }
+
+    private Map<Long, Contact> loadOwned(Long userId, List<BatchOperationDto> operations) {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (BatchOperationDto operation : operations) {
+            if (operation.getOp() != BatchOperationDto.Op.CREATE) {
+                ids.add(operation.getId());
+            }
+        }
+        Map<Long, Contact> owned = new HashMap<>();
+        if (!ids.isEmpty()) {
+            RepositoryCallEvent.record("ContactRepository.findOwned", () -> contactRepository.findOwned(userId, ids))
+                               .forEach(contact -> owned.put(contact.getId(), contact));
+        }
+        return owned;
+    }
+
+    // Contacts of other users are reported as not found, the batch must not reveal them
+    private static Contact owned(Map<Long, Contact> owned, int index, Long id) {
+        Contact contact = owned.get(id);
+        if (contact == null) {
+            throw new ResourceNotFoundException("Operation " + index + ": Contact not found : " + id);
+        }
+        return contact;
+    }
+
+    private static void validate(int index, BatchOperationDto operation) {
+        boolean needsId = operation.getOp() != BatchOperationDto.Op.CREATE;
+        boolean needsContact = operation.getOp() != BatchOperationDto.Op.DELETE;
+        if (needsId && operation.getId() == null) {
+            throw new IllegalArgumentException("Operation " + index + ": id is required for " + operation.getOp());
+        }
+        if (needsContact && operation.getContact() == null) {
+            throw new IllegalArgumentException("Operation " + index + ": contact is required for " + operation.getOp());
+        }
+    }
+
+    private User findUser(String email) {
+        return RepositoryCallEvent.record("UserRepository.findByEmail", () -> userRepository.findByEmail(email))
+                                  .orElseThrow(() -> new UsernameNotFoundException(BAD_CREDENTIALS));
+    }
+}
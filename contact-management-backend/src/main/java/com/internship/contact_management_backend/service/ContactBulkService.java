@@ -0,0 +1,151 @@
+package com.internship.contact_management_backend.service;
+
+import com.internship.contact_management_backend.dto.BulkDeleteRequestDto;
+import com.internship.contact_management_backend.dto.BulkLabelUpdateDto;
+import com.internship.contact_management_backend.dto.BulkOutcome;
+import com.internship.contact_management_backend.dto.BulkResultDto;
+import com.internship.contact_management_backend.entity.User;
+import com.internship.contact_management_backend.jfr.RepositoryCallEvent;
+import com.internship.contact_management_backend.repository.ContactRepository;
+import com.internship.contact_management_backend.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Bulk delete and label update, as set-based statements scoped to the user.
+ *
+ * Ids are processed in chunks, each in its own short transaction: lock the
+ * user's rows among the chunk, then one DELETE or UPDATE for them. Row locks
+ * are therefore held for one chunk only, and the locked ids give the per-id
+ * outcome. A failure leaves earlier chunks applied; repeating the request is
+ * safe because already deleted ids simply report NOT_FOUND.
+ */
+@Service
+@Slf4j
+public class ContactBulkService {
+
+    private static final String BAD_CREDENTIALS = "Bad Credentials";
+
+    private final ContactRepository contactRepository;
+    private final UserRepository userRepository;
+    private final ContactReadCoalescer readCoalescer;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public ContactBulkService(ContactRepository contactRepository, UserRepository userRepository,
+                              ContactReadCoalescer readCoalescer, TransactionTemplate transactionTemplate,
+                              @Value("${contacts.bulk.chunk-size:500}") int chunkSize) {
+        this.contactRepository = contactRepository;
+        this.userRepository = userRepository;
+        this.readCoalescer = readCoalescer;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+    }
+
+    public BulkResultDto deleteContacts(BulkDeleteRequestDto request, String email) {
+        boolean byIds = request.getIds() != null && !request.getIds().isEmpty();
+        if (byIds == StringUtils.hasText(request.getName())) {
+            throw new IllegalArgumentException("Provide either ids or a name filter");
+        }
+        return readCoalescer.write(email, () -> {
+            User user = findUser(email);
+            Map<Long, BulkOutcome> outcomes = byIds
+                    ? applyInChunks(user.getId(), request.getIds(), BulkOutcome.DELETED,
+                                    owned -> deleteOwned(user.getId(), owned))
+                    : deleteMatching(user.getId(), request.getName());
+            BulkResultDto result = result(outcomes, BulkOutcome.DELETED);
+            log.info("Bulk deleted {} of {} contacts for user={}", result.getAffected(), outcomes.size(), email);
+            return result;
+        });
+    }
+
+    public BulkResultDto updateLabels(BulkLabelUpdateDto request, String email) {
+        if (request.getEmailLabel() == null && request.getPhoneNumberLabel() == null) {
+            throw new IllegalArgumentException("Provide an email label or a phone number label");
+        }
+        return readCoalescer.write(email, () -> {
+            User user = findUser(email);
+            LocalDateTime now = LocalDateTime.now();
+            Map<Long, BulkOutcome> outcomes = applyInChunks(user.getId(), request.getIds(), BulkOutcome.UPDATED,
+                    owned -> RepositoryCallEvent.record("ContactRepository.updateLabels",
+                            () -> contactRepository.updateLabels(user.getId(), owned, request.getEmailLabel(),
+                                                                 request.getPhoneNumberLabel(), now)));
+            BulkResultDto result = result(outcomes, BulkOutcome.UPDATED);
+            log.info("Bulk updated labels of {} of {} contacts for user={}", result.getAffected(), outcomes.size(), email);
+            return result;
+        });
+    }
+
+    // Lock the user's rows in each chunk and apply the statement to them, one transaction per chunk
+    private Map<Long, BulkOutcome> applyInChunks(Long userId, List<Long> ids, BulkOutcome success,
+                                                 Consumer<List<Long>> statement) {
+        List<Long> distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+        Map<Long, BulkOutcome> outcomes = new LinkedHashMap<>();
+        for (int from = 0; from < distinct.size(); from += chunkSize) {
+            List<Long> chunk = distinct.subList(from, Math.min(from + chunkSize, distinct.size()));
+            Set<Long> applied = transactionTemplate.execute(status -> {
+                List<Long> owned = RepositoryCallEvent.record("ContactRepository.lockOwnedIds",
+                        () -> contactRepository.lockOwnedIds(userId, chunk));
+                if (!owned.isEmpty()) {
+                    statement.accept(owned);
+                }
+                return new HashSet<>(owned);
+            });
+            for (Long id : chunk) {
+                outcomes.put(id, applied.contains(id) ? success : BulkOutcome.NOT_FOUND);
+            }
+        }
+        return outcomes;
+    }
+
+    // Keyset pages of matching ids, each page deleted in its own transaction
+    private Map<Long, BulkOutcome> deleteMatching(Long userId, String keyword) {
+        Map<Long, BulkOutcome> outcomes = new LinkedHashMap<>();
+        long afterId = 0;
+        while (true) {
+            long from = afterId;
+            List<Long> deleted = transactionTemplate.execute(status -> {
+                List<Long> page = RepositoryCallEvent.record("ContactRepository.lockOwnedIdsMatching",
+                        () -> contactRepository.lockOwnedIdsMatching(userId, keyword, from, PageRequest.of(0, chunkSize)));
+                if (!page.isEmpty()) {
+                    deleteOwned(userId, page);
+                }
+                return page;
+            });
+            deleted.forEach(id -> outcomes.put(id, BulkOutcome.DELETED));
+            if (deleted.size() < chunkSize) {
+                return outcomes;
+            }
+            afterId = deleted.get(deleted.size() - 1);
+        }
+    }
+
+    private void deleteOwned(Long userId, List<Long> ids) {
+        RepositoryCallEvent.record("ContactRepository.deleteOwned", () -> contactRepository.deleteOwned(userId, ids));
+    }
+
+    private static BulkResultDto result(Map<Long, BulkOutcome> outcomes, BulkOutcome success) {
+        int affected = (int) outcomes.values().stream().filter(success::equals).count();
+        return new BulkResultDto(affected, outcomes);
+    }
+
+    private User findUser(String email) {
+        return RepositoryCallEvent.record("UserRepository.findByEmail", () -> userRepository.findByEmail(email))
+                                  .orElseThrow(() -> new UsernameNotFoundException(BAD_CREDENTIALS));
+    }
+}
@@ -0,0 +1,214 @@
+package com.internship.contact_management_backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.internship.contact_management_backend.dto.ContactDto;
+import com.internship.contact_management_backend.entity.User;
+import com.internship.contact_management_backend.exception.ResourceNotFoundException;
+import com.internship.contact_management_backend.exporter.ContactExportWriter;
+import com.internship.contact_management_backend.exporter.ExportFormat;
+import com.internship.contact_management_backend.exporter.ExportJob;
+import com.internship.contact_management_backend.jfr.RepositoryCallEvent;
+import com.internship.contact_management_backend.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * CSV, vCard and NDJSON exports, written in the background to a temp file.
+ *
+ * Contacts are read with a keyset cursor on the id, one page per query, so
+ * no connection or transaction is held for the length of the export and a
+ * page is all that is in memory. The finished file is immutable and is served
+ * by {@link com.internship.contact_management_backend.utils.FileDownload}
+ * with range support, so an interrupted download can resume. Jobs and files
+ * only exist on this instance, see {@link JobIds} for the routing.
+ */
+@Service
+@Slf4j
+public class ContactExportService {
+
+    private static final String BAD_CREDENTIALS = "Bad Credentials";
+    private static final String COUNT_SQL = "SELECT COUNT(*) FROM contacts WHERE user_id = ? AND deleted_at IS NULL";
+    private static final String PAGE_SQL = """
+            SELECT id, first_name, last_name, email, email_label, phone_number, phone_number_label
+            FROM contacts
+            WHERE user_id = ? AND deleted_at IS NULL AND id > ?
+            ORDER BY id
+            LIMIT ?""";
+
+    private static final RowMapper<ContactDto> CONTACT_ROW = (rs, rowNum) -> ContactDto.builder()
+            .id(rs.getLong("id"))
+            .firstName(rs.getString("first_name"))
+            .lastName(rs.getString("last_name"))
+            .email(rs.getString("email"))
+            .emailLabel(rs.getString("email_label"))
+            .phoneNumber(rs.getString("phone_number"))
+            .phoneNumberLabel(rs.getString("phone_number_label"))
+            .build();
+
+    private final UserRepository userRepository;
+    private final JobIds jobIds;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final int pageSize;
+    private final Duration retention;
+
+    private final ThreadPoolExecutor jobExecutor;
+    private final ConcurrentHashMap<String, ExportJob> jobs = new ConcurrentHashMap<>();
+
+    public ContactExportService(UserRepository userRepository, JobIds jobIds, JdbcTemplate jdbcTemplate,
+                                ObjectMapper objectMapper,
+                                @Value("${contacts.export.page-size:1000}") int pageSize,
+                                @Value("${contacts.export.max-running:2}") int maxRunning,
+                                @Value("${contacts.export.retention:PT24H}") Duration retention) {
+        this.userRepository = userRepository;
+        this.jobIds = jobIds;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.pageSize = pageSize;
+        this.retention = retention;
+        // a few exports queue up behind the running ones, more are turned away
+        this.jobExecutor = new ThreadPoolExecutor(maxRunning, maxRunning, 0, TimeUnit.MILLISECONDS,
+                                                  new LinkedBlockingQueue<>(maxRunning * 4), threads("contact-export-"));
+    }
+
+    public ExportJob start(String format, boolean gzip, String email) throws IOException {
+        ExportFormat exportFormat = ExportFormat.parse(format);
+        User user = findUser(email);
+
+        Path file = Files.createTempFile("contact-export-", exportFormat.extension() + (gzip ? ".gz" : ""));
+        ExportJob job = new ExportJob(jobIds.next(), email, exportFormat, gzip, file);
+        jobs.put(job.getId(), job);
+        try {
+            jobExecutor.execute(() -> run(job, user.getId()));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            Files.deleteIfExists(file);
+            throw new IllegalArgumentException("Too many exports in progress, try again later");
+        }
+        log.info("Export {} queued for user={} format={} gzip={}", job.getId(), email, exportFormat, gzip);
+        return job;
+    }
+
+    public ExportJob getJob(String id, String email) {
+        ExportJob job = jobs.get(id);
+        if (job == null && jobIds.isForeign(id)) {
+            log.warn("Export {} was started on another instance, requests for it must be routed there", id);
+        }
+        // someone else's export is reported as missing
+        if (job == null || !job.getOwner().equals(email)) {
+            throw new ResourceNotFoundException("Export not found : " + id);
+        }
+        return job;
+    }
+
+    public ExportJob getCompletedJob(String id, String email) {
+        ExportJob job = getJob(id, email);
+        if (job.getStatus() != ExportJob.Status.COMPLETED) {
+            throw new IllegalArgumentException(job.getStatus() == ExportJob.Status.FAILED
+                    ? "Export failed: " + job.getMessage()
+                    : "Export is still running");
+        }
+        return job;
+    }
+
+    @Scheduled(fixedDelayString = "${contacts.export.cleanup-interval:PT1H}")
+    public void purgeFinished() {
+        Instant cutoff = Instant.now().minus(retention);
+        jobs.values().removeIf(job -> {
+            if (!job.isFinished() || job.getFinishedAt().isAfter(cutoff)) {
+                return false;
+            }
+            // a download still in progress keeps reading its open file
+            deleteQuietly(job.getFile());
+            return true;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
+    }
+
+    private void run(ExportJob job, Long userId) {
+        try {
+            job.started(RepositoryCallEvent.record("JdbcTemplate.queryForObject(contacts count)",
+                    () -> jdbcTemplate.queryForObject(COUNT_SQL, Long.class, userId)));
+            write(job, userId);
+            job.completed(Files.size(job.getFile()));
+            log.info("Export {} completed: rows={} bytes={}", job.getId(), job.getRowsWritten().get(), job.getSizeBytes());
+        } catch (Exception e) {
+            job.failed("Export failed after " + job.getRowsWritten().get() + " rows");
+            deleteQuietly(job.getFile());
+            log.error("Export {} failed", job.getId(), e);
+        }
+    }
+
+    private void write(ExportJob job, Long userId) throws IOException {
+        OutputStream file = new BufferedOutputStream(Files.newOutputStream(job.getFile()), 65536);
+        try (OutputStream out = job.isGzip() ? new GZIPOutputStream(file, 65536) : file;
+             ContactExportWriter writer = job.getFormat().open(new OutputStreamWriter(out, StandardCharsets.UTF_8),
+                                                               objectMapper)) {
+            long afterId = 0;
+            while (true) {
+                long cursor = afterId;
+                List<ContactDto> page = RepositoryCallEvent.record("JdbcTemplate.query(contacts)",
+                        () -> jdbcTemplate.query(PAGE_SQL, CONTACT_ROW, userId, cursor, pageSize));
+                for (ContactDto contact : page) {
+                    writer.write(contact);
+                }
+                job.getRowsWritten().addAndGet(page.size());
+                if (page.size() < pageSize) {
+                    break;
+                }
+                afterId = page.get(page.size() - 1).getId();
+            }
+        }
+    }
+
+    private User findUser(String email) {
+        return RepositoryCallEvent.record("UserRepository.findByEmail", () -> userRepository.findByEmail(email))
+                                  .orElseThrow(() -> new UsernameNotFoundException(BAD_CREDENTIALS));
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Could not delete {}", path, e);
+        }
+    }
+
+    private static ThreadFactory threads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,353 @@
+package com.internship.contact_management_backend.service;
+
+import com.internship.contact_management_backend.dto.ContactDto;
+import com.internship.contact_management_backend.entity.User;
+import com.internship.contact_management_backend.exception.ResourceNotFoundException;
+import com.internship.contact_management_backend.importer.ContactRecordReader;
+import com.internship.contact_management_backend.importer.ImportErrorFile;
+import com.internship.contact_management_backend.importer.ImportFormat;
+import com.internship.contact_management_backend.importer.ImportJob;
+import com.internship.contact_management_backend.importer.ImportRow;
+import com.internship.contact_management_backend.importer.ImportRowErrors;
+import com.internship.contact_management_backend.jfr.RepositoryCallEvent;
+import com.internship.contact_management_backend.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * CSV and vCard imports, run in the background.
+ *
+ * The upload is moved to a temp file and parsed as a stream, one record at a
+ * time, and every record is checked against the {@link ContactDto} rules.
+ * Valid rows are grouped into chunks that a shared pool of writer threads
+ * inserts with one JDBC batch per chunk; the parser blocks once
+ * {@code 2 * writer-threads} chunks are waiting, so memory stays bounded by
+ * the chunk size whatever the file size. A chunk the database rejects is
+ * retried row by row so only the bad rows fail. Rejected rows go to a
+ * per-job error file, and progress is kept on the {@link ImportJob}. Jobs and
+ * error files only exist on this instance, see {@link JobIds} for the routing.
+ */
+@Service
+@Slf4j
+public class ContactImportService {
+
+    private static final String BAD_CREDENTIALS = "Bad Credentials";
+    private static final String INSERT_SQL = """
+            INSERT INTO contacts (first_name, last_name, email, email_label, phone_number, phone_number_label,
+                                  user_id, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)""";
+
+    private final UserRepository userRepository;
+    private final JobIds jobIds;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ContactReadCoalescer readCoalescer;
+    private final int chunkSize;
+    private final int maxChunksInFlight;
+    private final Duration retention;
+
+    private final ThreadPoolExecutor jobExecutor;
+    private final ExecutorService writerExecutor;
+    private final ConcurrentHashMap<String, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    public ContactImportService(UserRepository userRepository, JobIds jobIds, JdbcTemplate jdbcTemplate,
+                                TransactionTemplate transactionTemplate, Validator validator,
+                                ContactReadCoalescer readCoalescer,
+                                @Value("${contacts.import.chunk-size:1000}") int chunkSize,
+                                @Value("${contacts.import.writer-threads:4}") int writerThreads,
+                                @Value("${contacts.import.max-running:2}") int maxRunning,
+                                @Value("${contacts.import.retention:PT24H}") Duration retention) {
+        this.userRepository = userRepository;
+        this.jobIds = jobIds;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.readCoalescer = readCoalescer;
+        this.chunkSize = chunkSize;
+        this.maxChunksInFlight = writerThreads * 2;
+        this.retention = retention;
+        // a few imports queue up behind the running ones, more are turned away
+        this.jobExecutor = new ThreadPoolExecutor(maxRunning, maxRunning, 0, TimeUnit.MILLISECONDS,
+                                                  new LinkedBlockingQueue<>(maxRunning * 4), threads("contact-import-"));
+        this.writerExecutor = Executors.newFixedThreadPool(writerThreads, threads("contact-import-writer-"));
+    }
+
+    public ImportJob start(MultipartFile file, String format, String email) throws IOException {
+        ImportFormat importFormat = ImportFormat.detect(format, file.getOriginalFilename());
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("Import file is empty");
+        }
+        User user = findUser(email);
+
+        // the multipart copy is deleted when the request ends, keep our own
+        Path upload = Files.createTempFile("contact-import-", importFormat.extension());
+        Path errorFile = Files.createTempFile("contact-import-", "-errors.csv");
+        file.transferTo(upload);
+
+        ImportJob job = new ImportJob(jobIds.next(), email, file.getOriginalFilename(),
+                                      importFormat, Files.size(upload), errorFile);
+        jobs.put(job.getId(), job);
+        try {
+            jobExecutor.execute(() -> run(job, user.getId(), upload));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            Files.deleteIfExists(upload);
+            Files.deleteIfExists(errorFile);
+            throw new IllegalArgumentException("Too many imports in progress, try again later");
+        }
+        log.info("Import {} queued for user={} file={} bytes={}", job.getId(), email, job.getFileName(), job.getTotalBytes());
+        return job;
+    }
+
+    public ImportJob getJob(String id, String email) {
+        ImportJob job = jobs.get(id);
+        if (job == null && jobIds.isForeign(id)) {
+            log.warn("Import {} was started on another instance, requests for it must be routed there", id);
+        }
+        // someone else's import is reported as missing
+        if (job == null || !job.getOwner().equals(email)) {
+            throw new ResourceNotFoundException("Import not found : " + id);
+        }
+        return job;
+    }
+
+    public Path getErrorFile(String id, String email) {
+        ImportJob job = getJob(id, email);
+        if (!job.isFinished()) {
+            throw new IllegalArgumentException("Import is still running");
+        }
+        return job.getErrorFile();
+    }
+
+    @Scheduled(fixedDelayString = "${contacts.import.cleanup-interval:PT1H}")
+    public void purgeFinished() {
+        Instant cutoff = Instant.now().minus(retention);
+        jobs.values().removeIf(job -> {
+            if (!job.isFinished() || job.getFinishedAt().isAfter(cutoff)) {
+                return false;
+            }
+            deleteQuietly(job.getErrorFile());
+            return true;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
+        writerExecutor.shutdownNow();
+    }
+
+    private void run(ImportJob job, Long userId, Path upload) {
+        job.started();
+        Semaphore inFlight = new Semaphore(maxChunksInFlight);
+        try (ImportErrorFile errors = new ImportErrorFile(job.getErrorFile())) {
+            try {
+                parse(job, userId, upload, errors, inFlight);
+            } finally {
+                // every chunk has to finish before the error file is closed
+                inFlight.acquireUninterruptibly(maxChunksInFlight);
+            }
+            job.completed();
+            log.info("Import {} completed: rows={} imported={} failed={}", job.getId(),
+                     job.getRowsRead().get(), job.getImported().get(), job.getFailed().get());
+        } catch (IllegalArgumentException e) {
+            job.failed(e.getMessage());
+            log.warn("Import {} rejected: {}", job.getId(), e.getMessage());
+        } catch (Exception e) {
+            job.failed("Import failed after " + job.getRowsRead().get() + " rows");
+            log.error("Import {} failed", job.getId(), e);
+        } finally {
+            deleteQuietly(upload);
+        }
+    }
+
+    private void parse(ImportJob job, Long userId, Path upload, ImportErrorFile errors, Semaphore inFlight)
+            throws IOException, InterruptedException {
+        InputStream in = new ProgressInputStream(Files.newInputStream(upload), job);
+        try (ContactRecordReader reader = job.getFormat().open(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            List<ImportRow> chunk = new ArrayList<>(chunkSize);
+            ImportRow row;
+            while ((row = reader.next()) != null) {
+                job.getRowsRead().incrementAndGet();
+                String error = row.error() != null ? row.error() : validate(row.contact());
+                if (error != null) {
+                    errors.write(row.line(), error);
+                    job.getFailed().incrementAndGet();
+                    continue;
+                }
+                chunk.add(row);
+                if (chunk.size() == chunkSize) {
+                    submit(job, userId, chunk, errors, inFlight);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                submit(job, userId, chunk, errors, inFlight);
+            }
+        }
+    }
+
+    private void submit(ImportJob job, Long userId, List<ImportRow> chunk, ImportErrorFile errors, Semaphore inFlight)
+            throws InterruptedException {
+        // the parser waits here while the writers are behind
+        inFlight.acquire();
+        try {
+            writerExecutor.execute(() -> {
+                try {
+                    write(job, userId, chunk, errors);
+                } finally {
+                    inFlight.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.release();
+            throw e;
+        }
+    }
+
+    private void write(ImportJob job, Long userId, List<ImportRow> chunk, ImportErrorFile errors) {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            readCoalescer.write(job.getOwner(),
+                    () -> transactionTemplate.executeWithoutResult(status -> insert(userId, chunk, now)));
+            job.getImported().addAndGet(chunk.size());
+        } catch (DataAccessException e) {
+            // one row the database rejects fails the whole batch, find it row by row
+            for (ImportRow row : chunk) {
+                try {
+                    readCoalescer.write(job.getOwner(), () -> insert(userId, List.of(row), now));
+                    job.getImported().incrementAndGet();
+                } catch (DataAccessException rowFailure) {
+                    // the raw message names tables and values, it stays in the server log
+                    log.warn("Import {} line {} rejected by the database: {}", job.getId(), row.line(),
+                             NestedExceptionUtils.getMostSpecificCause(rowFailure).getMessage());
+                    errors.write(row.line(), ImportRowErrors.describe(rowFailure));
+                    job.getFailed().incrementAndGet();
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("Import {} could not write {} rows", job.getId(), chunk.size(), e);
+            for (ImportRow row : chunk) {
+                errors.write(row.line(), "Could not be saved");
+            }
+            job.getFailed().addAndGet(chunk.size());
+        }
+    }
+
+    private void insert(Long userId, List<ImportRow> rows, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        RepositoryCallEvent.record("JdbcTemplate.batchUpdate(contacts)",
+                () -> jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (statement, row) -> {
+                    ContactDto contact = row.contact();
+                    statement.setString(1, contact.getFirstName());
+                    statement.setString(2, contact.getLastName());
+                    statement.setString(3, contact.getEmail());
+                    statement.setString(4, contact.getEmailLabel());
+                    statement.setString(5, contact.getPhoneNumber());
+                    statement.setString(6, contact.getPhoneNumberLabel());
+                    statement.setLong(7, userId);
+                    statement.setTimestamp(8, timestamp);
+                    statement.setTimestamp(9, timestamp);
+                }));
+    }
+
+    // Same messages as the validation errors of POST /contacts/create
+    private String validate(ContactDto contact) {
+        var violations = validator.validate(contact);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                         .map(ConstraintViolation::getMessage)
+                         .sorted()
+                         .collect(Collectors.joining("; "));
+    }
+
+    private User findUser(String email) {
+        return RepositoryCallEvent.record("UserRepository.findByEmail", () -> userRepository.findByEmail(email))
+                                  .orElseThrow(() -> new UsernameNotFoundException(BAD_CREDENTIALS));
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Could not delete {}", path, e);
+        }
+    }
+
+    private static ThreadFactory threads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    // Counts the bytes the parser has consumed, for the progress of the job
+    private static final class ProgressInputStream extends FilterInputStream {
+
+        private final ImportJob job;
+
+        ProgressInputStream(InputStream in, ImportJob job) {
+            super(in);
+            this.job = job;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = in.read();
+            if (b >= 0) {
+                job.getBytesRead().incrementAndGet();
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = in.read(b, off, len);
+            if (n > 0) {
+                job.getBytesRead().addAndGet(n);
+            }
+            return n;
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.internship.contact_management_backend.service;
+
+import com.internship.contact_management_backend.cache.CacheRegion;
+import com.internship.contact_management_backend.cache.HeavyHitterTracker;
+import com.internship.contact_management_backend.cache.InvalidationBus;
+import com.internship.contact_management_backend.utils.SingleFlight;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * Shares one database read between identical concurrent reads of the same user.
+ *
+ * Every user maps to a write generation that is bumped before and after each
+ * of their writes, and the generation is part of the read key. A read that
+ * starts after a write has returned therefore never joins a read that started
+ * before it, so a client always sees its own writes.
+ *
+ * Results are also kept for {@code contacts.read-cache.ttl} under the same
+ * key, so a write makes them unreachable at once. Writes are published on the
+ * {@link InvalidationBus}, and invalidations from other instances bump the
+ * generation the same way a local write does.
+ *
+ * Results are handed to several threads and kept after the loading session
+ * has closed, so loaders must return unmodifiable DTOs, never entities.
+ *
+ * What is cached follows the {@link HeavyHitterTracker}: a user is admitted
+ * on a repeat request, hot users' results are kept for the longer
+ * {@code contacts.read-cache.hot-ttl}, and a full cache evicts a sampled
+ * entry only for a user seen more often than its owner, never a hot user's.
+ */
+@Component
+public class ContactReadCoalescer {
+
+    // generations are striped by email hash: bounded memory, a collision only costs a missed share
+    private static final int STRIPES = 4096;
+    // entries looked at to find an eviction victim
+    private static final int EVICTION_SAMPLE = 8;
+
+    private final SingleFlight<ReadKey, Object> singleFlight = new SingleFlight<>();
+    private final AtomicLongArray generations = new AtomicLongArray(STRIPES);
+    private final ConcurrentHashMap<ReadKey, Cached> cache = new ConcurrentHashMap<>();
+    private final InvalidationBus invalidationBus;
+    private final HeavyHitterTracker heavyHitters;
+    private final long ttlNanos;
+    private final long hotTtlNanos;
+    private final int maxEntries;
+
+    private record ReadKey(String email, long generation, List<?> query) {
+    }
+
+    private record Cached(Object value, long expiresAt) {
+    }
+
+    // coalescing only: nothing is cached or published
+    public ContactReadCoalescer() {
+        this(null, null, Duration.ZERO, Duration.ZERO, 0);
+    }
+
+    // heavyHitters may be null: every read is admitted and nothing is pinned
+    @Autowired
+    public ContactReadCoalescer(InvalidationBus invalidationBus, HeavyHitterTracker heavyHitters,
+                                @Value("${contacts.read-cache.ttl:PT30S}") Duration ttl,
+                                @Value("${contacts.read-cache.hot-ttl:PT2M}") Duration hotTtl,
+                                @Value("${contacts.read-cache.max-entries:10000}") int maxEntries) {
+        this.invalidationBus = invalidationBus;
+        this.heavyHitters = heavyHitters;
+        this.ttlNanos = ttl.toNanos();
+        this.hotTtlNanos = Math.max(ttl.toNanos(), hotTtl.toNanos());
+        this.maxEntries = maxEntries;
+        if (invalidationBus != null) {
+            invalidationBus.subscribe(CacheRegion.CONTACTS, this::invalidate);
+        }
+    }
+
+    public <T> T read(String email, List<?> query, Supplier<T> loader) {
+        return read(email, query, loader, false);
+    }
+
+    // Loads into the cache whether or not the user would be admitted yet, for predicted reads
+    public <T> T prefetch(String email, List<?> query, Supplier<T> loader) {
+        return read(email, query, loader, true);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T read(String email, List<?> query, Supplier<T> loader, boolean admit) {
+        int stripe = stripe(email);
+        ReadKey key = new ReadKey(email, generations.get(stripe), query);
+        if (ttlNanos > 0) {
+            Cached cached = cache.get(key);
+            if (cached != null && cached.expiresAt() - System.nanoTime() > 0) {
+                return (T) cached.value();
+            }
+        }
+        Object value = singleFlight.execute(key, loader::get);
+        if (ttlNanos > 0) {
+            remember(key, stripe, value, admit);
+        }
+        return (T) value;
+    }
+
+    // a fresh result is cached for this query, false when caching is off
+    public boolean isCached(String email, List<?> query) {
+        if (ttlNanos <= 0) {
+            return false;
+        }
+        Cached cached = cache.get(new ReadKey(email, generations.get(stripe(email)), query));
+        return cached != null && cached.expiresAt() - System.nanoTime() > 0;
+    }
+
+    public boolean isCaching() {
+        return ttlNanos > 0;
+    }
+
+    public <T> T write(String email, Supplier<T> mutation) {
+        int stripe = stripe(email);
+        generations.incrementAndGet(stripe);
+        try {
+            return mutation.get();
+        } finally {
+            generations.incrementAndGet(stripe);
+            if (invalidationBus != null) {
+                invalidationBus.publish(CacheRegion.CONTACTS, email);
+            }
+        }
+    }
+
+    public void write(String email, Runnable mutation) {
+        write(email, () -> {
+            mutation.run();
+            return null;
+        });
+    }
+
+    // entries of the old generation are unreachable from now on, the sweep removes them
+    public void invalidate(String email) {
+        generations.incrementAndGet(stripe(email));
+    }
+
+    @Scheduled(fixedDelayString = "${contacts.read-cache.sweep-interval:PT10S}")
+    public void sweep() {
+        long now = System.nanoTime();
+        cache.entrySet().removeIf(entry -> entry.getValue().expiresAt() - now <= 0
+                || entry.getKey().generation() != generations.get(stripe(entry.getKey().email())));
+    }
+
+    private void remember(ReadKey key, int stripe, Object value, boolean admit) {
+        // a write started while loading, the value may already be stale
+        if (generations.get(stripe) != key.generation()) {
+            return;
+        }
+        if (heavyHitters == null) {
+            if (cache.size() < maxEntries) {
+                cache.put(key, new Cached(value, System.nanoTime() + ttlNanos));
+            }
+            return;
+        }
+        // one-off readers would only push out entries that get read again
+        if (!admit && !heavyHitters.admits(key.email())) {
+            return;
+        }
+        if (cache.size() >= maxEntries && !evictFor(key.email())) {
+            return;
+        }
+        boolean hot = heavyHitters.isHot(key.email());
+        cache.put(key, new Cached(value, System.nanoTime() + (hot ? hotTtlNanos : ttlNanos)));
+    }
+
+    // TinyLFU: the least frequent of a few sampled entries leaves, if the newcomer is more frequent
+    private boolean evictFor(String email) {
+        long now = System.nanoTime();
+        int frequency = heavyHitters.frequency(email);
+        ReadKey victim = null;
+        int victimFrequency = Integer.MAX_VALUE;
+        Iterator<Map.Entry<ReadKey, Cached>> entries = cache.entrySet().iterator();
+        for (int i = 0; i < EVICTION_SAMPLE && entries.hasNext(); i++) {
+            Map.Entry<ReadKey, Cached> entry = entries.next();
+            ReadKey candidate = entry.getKey();
+            if (entry.getValue().expiresAt() - now <= 0
+                    || candidate.generation() != generations.get(stripe(candidate.email()))) {
+                // dead anyway
+                return cache.remove(candidate) != null || cache.size() < maxEntries;
+            }
+            if (heavyHitters.isHot(candidate.email())) {
+                continue;
+            }
+            int candidateFrequency = heavyHitters.frequency(candidate.email());
+            if (candidateFrequency < victimFrequency) {
+                victim = candidate;
+                victimFrequency = candidateFrequency;
+            }
+        }
+        if (victim == null || victimFrequency >= frequency) {
+            return false;
+        }
+        cache.remove(victim);
+        return true;
+    }
+
+    private static int stripe(String email) {
+        return email == null ? 0 : Math.floorMod(email.hashCode(), STRIPES);
+    }
+}
@@ -1,15 +1,20 @@
 package com.internship.contact_management_backend.service;
 
+import com.internship.contact_management_backend.dto.ContactDto;
+import com.internship.contact_management_backend.dto.ContactField;
 import com.internship.contact_management_backend.entity.Contact;
 import com.internship.contact_management_backend.entity.User;
 import com.internship.contact_management_backend.exception.ResourceNotFoundException;
+import com.internship.contact_management_backend.jfr.RepositoryCallEvent;
 import com.internship.contact_management_backend.repository.ContactRepository;
 import com.internship.contact_management_backend.repository.UserRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 
 @Service
 @Slf4j
@@ -17,87 +22,138 @@ public class ContactService {
 
     private final ContactRepository contactRepository;
     private final UserRepository userRepository;
+    private final ContactReadCoalescer readCoalescer;
 
-    public ContactService(ContactRepository contactRepository, UserRepository userRepository) {
+    public ContactService(ContactRepository contactRepository, UserRepository userRepository,
+                          ContactReadCoalescer readCoalescer) {
         this.contactRepository = contactRepository;
         this.userRepository = userRepository;
+        this.readCoalescer = readCoalescer;
     }
 
     private static final String BAD_CREDENTIALS = "Bad Credentials";
+    private static final List<String> GET_ALL = List.of("getAll");
 
     public Contact createContact(Contact contact, String email) {
+        return readCoalescer.write(email, () -> {
+            // find user by email
+            User user = findUser(email);
+            // attach contact to user
+            contact.setUser(user);
+
+            Contact saved = RepositoryCallEvent.record("ContactRepository.save", () -> contactRepository.save(contact));
+            log.info("Contact created id={} for user={}", saved.getId(), email);
+            return saved;
+        });
+    }
 
-        // find user by email
-        User user = userRepository.findByEmail(email)
-                                  .orElseThrow(() -> new UsernameNotFoundException(BAD_CREDENTIALS));
-        // attach contact to user
-        contact.setUser(user);
 
-        Contact saved = contactRepository.save(contact);
-        log.info("Contact created id={} for user={}", saved.getId(), email);
-        return saved ;
+    public List<ContactDto> getContactsByEmail(String email){
+        // identical concurrent reads share one query
+        return readCoalescer.read(email, GET_ALL, () -> loadContacts(email));
     }
 
+    // Loads the list into the read cache ahead of the request, even for a user it would not admit yet
+    public void prefetchContacts(String email) {
+        readCoalescer.prefetch(email, GET_ALL, () -> loadContacts(email));
+    }
 
-    public List<Contact> getContactsByEmail(String email){
+    // DTOs, not entities: the result is shared across requests and outlives the session
+    private List<ContactDto> loadContacts(String email) {
         // find user by email
-        User user = userRepository.findByEmail(email)
-                                  .orElseThrow(() -> new UsernameNotFoundException(BAD_CREDENTIALS));
+        User user = findUser(email);
         // fetch contacts by user id
-        List<Contact> contacts = contactRepository.findByUserId(user.getId());
+        List<Contact> contacts = RepositoryCallEvent.record("ContactRepository.findByUserId",
+                () -> contactRepository.findByUserId(user.getId()));
         log.info("Fetched {} contacts for user={}", contacts.size(), email);
-        return  contacts;
+        return contacts.stream().map(Contact::toDto).toList();
+    }
+
+    // the next getContactsByEmail(email) would be served from memory
+    public boolean isContactListCached(String email) {
+        return readCoalescer.isCached(email, GET_ALL);
     }
 
     public void deleteContact(Long contactId, String email) {
-        // find user by email
-        User user = userRepository.findByEmail(email)
-                                  .orElseThrow(() -> new UsernameNotFoundException(BAD_CREDENTIALS));
-        // find contact by id
-        Contact contact = contactRepository.findContactById(contactId)
-                                           .orElseThrow(() -> new ResourceNotFoundException("Contact not found : " + contactId));
-        // check if the contact belongs to the user
-        if (!contact.getUser().getId().equals(user.getId())) {
-            throw new BadCredentialsException(BAD_CREDENTIALS);
-        }
-        // delete the contact
-        contactRepository.delete(contact);
-        log.info("Contact deleted id={} by user={}", contactId, email);
+        readCoalescer.write(email, () -> {
+            // find user by email
+            User user = findUser(email);
+            // find contact by id
+            Contact contact = RepositoryCallEvent.record("ContactRepository.findContactById",
+                                                         () -> contactRepository.findContactById(contactId))
+                                               .orElseThrow(() -> new ResourceNotFoundException("Contact not found : " + contactId));
+            // check if the contact belongs to the user
+            if (!contact.getUser().getId().equals(user.getId())) {
+                throw new BadCredentialsException(BAD_CREDENTIALS);
+            }
+            // move the contact to the trash, ContactTrashService restores or purges it
+            RepositoryCallEvent.run("ContactRepository.delete", () -> contactRepository.delete(contact));
+            log.info("Contact moved to trash id={} by user={}", contactId, email);
+        });
     }
 
     public Contact updateContact(Long contactId, Contact updatedContact, String email) {
-        // find user by email
-        User user = userRepository.findByEmail(email)
-                                  .orElseThrow(() -> new UsernameNotFoundException(BAD_CREDENTIALS));
-
-        // find contact by id
-        Contact existingContact = contactRepository.findContactById(contactId)
-                                                   .orElseThrow(() -> new ResourceNotFoundException("Contact not found : " + contactId));
-        // check if the contact belongs to the user
-        if (!existingContact.getUser().getId().equals(user.getId())) {
-            throw new BadCredentialsException(BAD_CREDENTIALS);
-        }
-        // update contact details
-        existingContact.setFirstName(updatedContact.getFirstName());
-        existingContact.setLastName(updatedContact.getLastName());
-        existingContact.setEmail(updatedContact.getEmail());
-        existingContact.setEmailLabel(updatedContact.getEmailLabel());
-        existingContact.setPhoneNumber(updatedContact.getPhoneNumber());
-        existingContact.setPhoneNumberLabel(updatedContact.getPhoneNumberLabel());
-
-        Contact saved = contactRepository.save(existingContact);
-        log.info("Contact updated id={} by user={}", saved.getId(), email);
-        return saved;
+        return readCoalescer.write(email, () -> {
+            // find user by email
+            User user = findUser(email);
+
+            // find contact by id
+            Contact existingContact = RepositoryCallEvent.record("ContactRepository.findContactById",
+                                                                 () -> contactRepository.findContactById(contactId))
+                                                       .orElseThrow(() -> new ResourceNotFoundException("Contact not found : " + contactId));
+            // check if the contact belongs to the user
+            if (!existingContact.getUser().getId().equals(user.getId())) {
+                throw new BadCredentialsException(BAD_CREDENTIALS);
+            }
+            // update contact details
+            existingContact.setFirstName(updatedContact.getFirstName());
+            existingContact.setLastName(updatedContact.getLastName());
+            existingContact.setEmail(updatedContact.getEmail());
+            existingContact.setEmailLabel(updatedContact.getEmailLabel());
+            existingContact.setPhoneNumber(updatedContact.getPhoneNumber());
+            existingContact.setPhoneNumberLabel(updatedContact.getPhoneNumberLabel());
+
+            Contact saved = RepositoryCallEvent.record("ContactRepository.save", () -> contactRepository.save(existingContact));
+            log.info("Contact updated id={} by user={}", saved.getId(), email);
+            return saved;
+        });
     }
 
     // Search contacts by keyword in first name or last name
-    public List<Contact> searchContacts(String keyword, String email) {
+    public List<ContactDto> searchContacts(String keyword, String email) {
+        return readCoalescer.read(email, Arrays.asList("search", keyword), () -> {
+            User user = findUser(email);
+
+            List<Contact> results = RepositoryCallEvent.record("ContactRepository.searchContacts",
+                    () -> contactRepository.searchContacts(user.getId(), keyword));
+            log.info("Search returned {} results for user={}", results.size(), email);
+            return results.stream().map(Contact::toDto).toList();
+        });
+    }
 
-        User user = userRepository.findByEmail(email)
-                                  .orElseThrow(() -> new UsernameNotFoundException(BAD_CREDENTIALS));
+    // Contacts with only the requested fields, read as a projection
+    public List<ContactDto> getContactsByEmail(String email, Set<ContactField> fields) {
+        return readCoalescer.read(email, List.of("getAll", fields), () -> {
+            User user = findUser(email);
+            List<ContactDto> contacts = RepositoryCallEvent.record("ContactRepository.findProjected",
+                    () -> contactRepository.findProjected(user.getId(), null, fields));
+            log.info("Fetched {} contacts with fields={} for user={}", contacts.size(), fields, email);
+            return contacts;
+        });
+    }
+
+    public List<ContactDto> searchContacts(String keyword, String email, Set<ContactField> fields) {
+        return readCoalescer.read(email, Arrays.asList("search", keyword, fields), () -> {
+            User user = findUser(email);
+            List<ContactDto> results = RepositoryCallEvent.record("ContactRepository.findProjected",
+                    () -> contactRepository.findProjected(user.getId(), keyword, fields));
+            log.info("Search returned {} results with fields={} for user={}", results.size(), fields, email);
+            return results;
+        });
+    }
 
-        List<Contact> results =  contactRepository.searchContacts(user.getId(), keyword);
-        log.info("Search returned {} results for user={}", results.size(), email);
-        return results;
+    private User findUser(String email) {
+        return RepositoryCallEvent.record("UserRepository.findByEmail", () -> userRepository.findByEmail(email))
+                                  .orElseThrow(() -> new UsernameNotFoundException(BAD_CREDENTIALS));
     }
 }
@@ -0,0 +1,160 @@
+package com.internship.contact_management_backend.service;
+
+import com.internship.contact_management_backend.dto.TrashedContactDto;
+import com.internship.contact_management_backend.entity.Contact;
+import com.internship.contact_management_backend.entity.User;
+import com.internship.contact_management_backend.exception.ResourceNotFoundException;
+import com.internship.contact_management_backend.jfr.RepositoryCallEvent;
+import com.internship.contact_management_backend.repository.ContactRepository;
+import com.internship.contact_management_backend.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Deleted contacts: listing, restore and the purge.
+ *
+ * A delete only sets {@code deleted_at}, a cheap single-row update. Contacts
+ * stay restorable for {@code contacts.trash.retention}; after that the purge,
+ * scheduled off-peak, hard-deletes them in batches of
+ * {@code contacts.trash.purge-batch-size}, each its own short transaction with
+ * a pause in between, so locks and undo stay small. It runs on its own thread
+ * and stops at {@code purge-max-duration}, the next run picks up the rest.
+ */
+@Service
+@Slf4j
+public class ContactTrashService {
+
+    private static final String BAD_CREDENTIALS = "Bad Credentials";
+
+    private final ContactRepository contactRepository;
+    private final UserRepository userRepository;
+    private final ContactReadCoalescer readCoalescer;
+    private final Duration retention;
+    private final int purgeBatchSize;
+    private final Duration purgePause;
+    private final Duration purgeMaxDuration;
+
+    private final ExecutorService purgeExecutor;
+    private final AtomicBoolean purging = new AtomicBoolean();
+
+    public ContactTrashService(ContactRepository contactRepository, UserRepository userRepository,
+                               ContactReadCoalescer readCoalescer,
+                               @Value("${contacts.trash.retention:P30D}") Duration retention,
+                               @Value("${contacts.trash.purge-batch-size:500}") int purgeBatchSize,
+                               @Value("${contacts.trash.purge-pause:PT0.2S}") Duration purgePause,
+                               @Value("${contacts.trash.purge-max-duration:PT1H}") Duration purgeMaxDuration) {
+        this.contactRepository = contactRepository;
+        this.userRepository = userRepository;
+        this.readCoalescer = readCoalescer;
+        this.retention = retention;
+        this.purgeBatchSize = purgeBatchSize;
+        this.purgePause = purgePause;
+        this.purgeMaxDuration = purgeMaxDuration;
+        this.purgeExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "contact-purge");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+    }
+
+    public List<TrashedContactDto> getTrash(String email) {
+        User user = findUser(email);
+        return RepositoryCallEvent.record("ContactRepository.findTrash", () -> contactRepository.findTrash(user.getId()))
+                                  .stream()
+                                  .map(contact -> new TrashedContactDto(contact.toDto(), contact.getDeletedAt(),
+                                                                        contact.getDeletedAt().plus(retention)))
+                                  .toList();
+    }
+
+    public Contact restoreContact(Long contactId, String email) {
+        return readCoalescer.write(email, () -> {
+            // find user by email
+            User user = findUser(email);
+            // find the contact among the deleted ones
+            Contact contact = RepositoryCallEvent.record("ContactRepository.findTrashedById",
+                                                         () -> contactRepository.findTrashedById(contactId))
+                                               .orElseThrow(() -> new ResourceNotFoundException("Contact not in trash : " + contactId));
+            // check if the contact belongs to the user
+            if (!contact.getUser().getId().equals(user.getId())) {
+                throw new BadCredentialsException(BAD_CREDENTIALS);
+            }
+            // purged or restored since it was read
+            if (RepositoryCallEvent.record("ContactRepository.restore", () -> contactRepository.restore(contactId)) == 0) {
+                throw new ResourceNotFoundException("Contact not in trash : " + contactId);
+            }
+            contact.setDeletedAt(null);
+            log.info("Contact restored id={} by user={}", contactId, email);
+            return contact;
+        });
+    }
+
+    @Scheduled(cron = "${contacts.trash.purge-cron:0 15 3 * * *}")
+    public void schedulePurge() {
+        // the scheduler thread is shared, the purge runs on its own
+        if (!purging.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            purgeExecutor.execute(() -> {
+                try {
+                    purgeExpired();
+                } finally {
+                    purging.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            purging.set(false);
+        }
+    }
+
+    // Hard-deletes expired contacts batch by batch, returns how many
+    public int purgeExpired() {
+        long deadline = System.nanoTime() + purgeMaxDuration.toNanos();
+        int purged = 0;
+        try {
+            while (true) {
+                int batch = RepositoryCallEvent.record("ContactRepository.purgeDeleted",
+                        () -> contactRepository.purgeDeleted(retention.toSeconds(), purgeBatchSize));
+                purged += batch;
+                if (batch < purgeBatchSize) {
+                    break;
+                }
+                if (System.nanoTime() - deadline >= 0) {
+                    log.info("Contact purge stopped after {}, the rest is left for the next run", purgeMaxDuration);
+                    break;
+                }
+                // let other writers in between batches
+                Thread.sleep(purgePause.toMillis());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.warn("Contact purge failed after {} rows", purged, e);
+        }
+        log.info("Purged {} deleted contacts", purged);
+        return purged;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        purgeExecutor.shutdownNow();
+    }
+
+    private User findUser(String email) {
+        return RepositoryCallEvent.record("UserRepository.findByEmail", () -> userRepository.findByEmail(email))
+                                  .orElseThrow(() -> new UsernameNotFoundException(BAD_CREDENTIALS));
+    }
+}
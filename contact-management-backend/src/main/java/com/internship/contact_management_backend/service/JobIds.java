@@ -0,0 +1,35 @@
+package com.internship.contact_management_backend.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Ids of background import and export jobs.
+ *
+ * A job, its progress and its files only exist on the instance that started
+ * it, so with several instances every request for a job has to be routed to
+ * that instance. Ids are "{@code <instance-id>.<uuid>}", so a load balancer
+ * can route {@code /contacts/import/{id}} and {@code /contacts/export/{id}}
+ * on the path alone, without cookies or session affinity.
+ */
+@Component
+public class JobIds {
+
+    private final String prefix;
+
+    public JobIds(@Value("${contacts.jobs.instance-id:local}") String instanceId) {
+        // the id goes into URLs
+        this.prefix = instanceId.replaceAll("[^A-Za-z0-9-]", "-") + ".";
+    }
+
+    public String next() {
+        return prefix + UUID.randomUUID();
+    }
+
+    // started by another instance: the request was routed to the wrong one
+    public boolean isForeign(String id) {
+        return !id.startsWith(prefix);
+    }
+}
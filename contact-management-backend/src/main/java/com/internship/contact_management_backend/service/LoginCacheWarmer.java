@@ -0,0 +1,83 @@
+package com.internship.contact_management_backend.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Warms the caches a client reads right after logging in.
+ *
+ * The user details the login just loaded go straight into the
+ * {@link UserDetailsCache}; the contact list of GET /contacts/getAll is loaded
+ * on a small pool of low-priority threads. The queue is bounded and a full
+ * queue drops the warm-up, and a warm-up whose list is already cached when it
+ * gets a thread does nothing. A getAll that arrives while the warm-up is
+ * loading joins that load instead of running its own.
+ */
+@Component
+@Slf4j
+public class LoginCacheWarmer {
+
+    private final ContactService contactService;
+    private final ContactReadCoalescer readCoalescer;
+    private final UserDetailsCache userDetailsCache;
+    private final boolean enabled;
+    private final ThreadPoolExecutor executor;
+
+    public LoginCacheWarmer(ContactService contactService, ContactReadCoalescer readCoalescer,
+                            UserDetailsCache userDetailsCache,
+                            @Value("${cache.warm-up.enabled:true}") boolean enabled,
+                            @Value("${cache.warm-up.threads:1}") int threads,
+                            @Value("${cache.warm-up.queue-size:64}") int queueSize) {
+        this.contactService = contactService;
+        this.readCoalescer = readCoalescer;
+        this.userDetailsCache = userDetailsCache;
+        this.enabled = enabled;
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize), runnable -> {
+                    Thread thread = new Thread(runnable, "cache-warm-up-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    // request threads come first
+                    thread.setPriority(Thread.MIN_PRIORITY);
+                    return thread;
+                }, new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    public void onLogin(UserDetails userDetails) {
+        if (!enabled) {
+            return;
+        }
+        userDetailsCache.put(userDetails);
+        String email = userDetails.getUsername();
+        if (!readCoalescer.isCaching() || contactService.isContactListCached(email)) {
+            return;
+        }
+        executor.execute(() -> warm(email));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void warm(String email) {
+        // the client or another login got there first
+        if (contactService.isContactListCached(email)) {
+            return;
+        }
+        try {
+            contactService.prefetchContacts(email);
+        } catch (RuntimeException e) {
+            // only a missed warm-up, the request itself will load and report it
+            log.debug("Cache warm-up failed for user={}", email, e);
+        }
+    }
+}
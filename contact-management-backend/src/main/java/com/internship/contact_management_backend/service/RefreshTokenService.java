@@ -0,0 +1,141 @@
+package com.internship.contact_management_backend.service;
+
+import com.internship.contact_management_backend.entity.RefreshToken;
+import com.internship.contact_management_backend.jfr.RepositoryCallEvent;
+import com.internship.contact_management_backend.repository.RefreshTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Opaque, rotating refresh tokens. Only a SHA-256 of each token is stored:
+ * the token is 256 random bits, so a fast digest is enough and refreshing
+ * costs no password hashing.
+ *
+ * Every refresh revokes the presented token and issues a new one in the same
+ * family. Presenting a token that was already rotated means it leaked, so the
+ * whole family is revoked and the client has to log in again.
+ */
+@Service
+@Slf4j
+public class RefreshTokenService {
+
+    private static final String INVALID_REFRESH_TOKEN = "Invalid refresh token";
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final long refreshExpiration;
+    private final SecureRandom random = new SecureRandom();
+
+    public record Rotation(String email, String refreshToken) {
+    }
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               @Value("${jwt.refresh-expiration}") long refreshExpiration) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.refreshExpiration = refreshExpiration;
+    }
+
+    // New token family for a fresh login
+    @Transactional
+    public String issue(String email) {
+        String token = newToken();
+        int inserted = RepositoryCallEvent.record("RefreshTokenRepository.insertForEmail",
+                () -> refreshTokenRepository.insertForEmail(hash(token), UUID.randomUUID().toString(),
+                                                            email, expiresAt()));
+        if (inserted == 0) {
+            throw new BadCredentialsException("Bad Credentials");
+        }
+        return token;
+    }
+
+    // Revoking a reused family must survive the exception that rejects the request
+    @Transactional(noRollbackFor = BadCredentialsException.class)
+    public Rotation rotate(String token) {
+        LocalDateTime now = LocalDateTime.now();
+        RefreshToken current = RepositoryCallEvent.record("RefreshTokenRepository.findByTokenHash",
+                                                          () -> refreshTokenRepository.findByTokenHash(hash(token)))
+                                                  .orElseThrow(() -> new BadCredentialsException(INVALID_REFRESH_TOKEN));
+
+        if (current.getExpiresAt().isBefore(now)) {
+            throw new BadCredentialsException(INVALID_REFRESH_TOKEN);
+        }
+        int revoked = current.getRevokedAt() == null
+                ? RepositoryCallEvent.record("RefreshTokenRepository.revokeIfActive",
+                                             () -> refreshTokenRepository.revokeIfActive(current.getId(), now))
+                : 0;
+        if (revoked == 0) {
+            RepositoryCallEvent.record("RefreshTokenRepository.revokeFamily",
+                                       () -> refreshTokenRepository.revokeFamily(current.getFamilyId(), now));
+            log.warn("Refresh token reuse detected, revoked family={} of user={}",
+                     current.getFamilyId(), current.getUser().getEmail());
+            throw new BadCredentialsException(INVALID_REFRESH_TOKEN);
+        }
+
+        String next = newToken();
+        RefreshToken rotated = RefreshToken.builder()
+                                           .tokenHash(hash(next))
+                                           .familyId(current.getFamilyId())
+                                           .user(current.getUser())
+                                           .expiresAt(expiresAt())
+                                           .build();
+        RepositoryCallEvent.record("RefreshTokenRepository.save", () -> refreshTokenRepository.save(rotated));
+        return new Rotation(current.getUser().getEmail(), next);
+    }
+
+    // Logout: the family of the given token can no longer be refreshed
+    @Transactional
+    public void revoke(String token) {
+        RepositoryCallEvent.record("RefreshTokenRepository.findByTokenHash",
+                                   () -> refreshTokenRepository.findByTokenHash(hash(token)))
+                           .ifPresent(current -> RepositoryCallEvent.record("RefreshTokenRepository.revokeFamily",
+                                   () -> refreshTokenRepository.revokeFamily(current.getFamilyId(), LocalDateTime.now())));
+    }
+
+    // Logout everywhere: every refresh token of the user
+    @Transactional
+    public void revokeAll(String email) {
+        int revoked = RepositoryCallEvent.record("RefreshTokenRepository.revokeAllForEmail",
+                () -> refreshTokenRepository.revokeAllForEmail(email, LocalDateTime.now()));
+        log.info("Revoked {} refresh tokens of user={}", revoked, email);
+    }
+
+    @Scheduled(cron = "${jwt.refresh-purge-cron:0 30 3 * * *}")
+    @Transactional
+    public void purgeExpired() {
+        int purged = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        log.info("Purged {} expired refresh tokens", purged);
+    }
+
+    private LocalDateTime expiresAt() {
+        return LocalDateTime.now().plus(Duration.ofMillis(refreshExpiration));
+    }
+
+    private String newToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.internship.contact_management_backend.service;
+
+import com.internship.contact_management_backend.cache.CacheRegion;
+import com.internship.contact_management_backend.cache.InvalidationBus;
+import com.internship.contact_management_backend.repository.UserRepository;
+import com.internship.contact_management_backend.utils.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * In-memory Bloom filter of registered emails. A definite miss means no user
+ * has that email, so login, token checks and registration skip the lookup.
+ *
+ * Built when the application is ready and rebuilt periodically to resize it
+ * as the table grows. {@link UserService#register} publishes every new email
+ * on the {@link InvalidationBus}, so the filter of every instance learns it
+ * straight away. The bus is best effort, so every instance also syncs the
+ * emails created since its last sync from the users table; a lost message
+ * only delays a new user by {@code user.email-filter.sync-interval}. Until
+ * the first build completes every email is reported as possibly present.
+ */
+@Component
+@Slf4j
+public class RegisteredEmailFilter {
+
+    private static final int PAGE_SIZE = 10_000;
+    private static final long MIN_CAPACITY = 10_000;
+    // rows written just before a sync may become visible just after it
+    private static final Duration SYNC_OVERLAP = Duration.ofSeconds(5);
+
+    private final UserRepository userRepository;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter current;
+    // filter being rebuilt, receives adds that happen during the rebuild
+    private volatile BloomFilter building;
+    private volatile LocalDateTime lastSync;
+
+    public RegisteredEmailFilter(UserRepository userRepository, InvalidationBus invalidationBus,
+                                 @Value("${user.email-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.userRepository = userRepository;
+        this.falsePositiveRate = falsePositiveRate;
+        invalidationBus.subscribe(CacheRegion.REGISTRATIONS, this::add);
+    }
+
+    public boolean mightContain(String email) {
+        if (email == null) {
+            return false;
+        }
+        BloomFilter filter = current;
+        return filter == null || filter.mightContain(normalize(email));
+    }
+
+    public void add(String email) {
+        if (email == null) {
+            return;
+        }
+        String key = normalize(email);
+        BloomFilter next = building;
+        if (next != null) {
+            next.add(key);
+        }
+        BloomFilter filter = current;
+        if (filter != null) {
+            filter.add(key);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${user.email-filter.rebuild-interval:PT6H}",
+               initialDelayString = "${user.email-filter.rebuild-interval:PT6H}")
+    public synchronized void rebuild() {
+        long started = System.nanoTime();
+        // registrations committed during the build are picked up by the next sync
+        LocalDateTime syncedUpTo = LocalDateTime.now();
+        long expected = Math.max(MIN_CAPACITY, userRepository.count() * 2);
+        BloomFilter next = new BloomFilter(expected, falsePositiveRate);
+        building = next;
+        try {
+            long afterId = 0;
+            long loaded = 0;
+            List<Object[]> page;
+            do {
+                page = userRepository.findEmailsAfter(afterId, PageRequest.of(0, PAGE_SIZE));
+                for (Object[] row : page) {
+                    afterId = (Long) row[0];
+                    next.add(normalize((String) row[1]));
+                    loaded++;
+                }
+            } while (page.size() == PAGE_SIZE);
+            current = next;
+            lastSync = syncedUpTo;
+            log.info("Registered email filter built with {} emails (capacity={}) in {} ms",
+                     loaded, expected, (System.nanoTime() - started) / 1_000_000);
+        } finally {
+            building = null;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${user.email-filter.sync-interval:PT10S}",
+               initialDelayString = "${user.email-filter.sync-interval:PT10S}")
+    public synchronized void sync() {
+        if (lastSync == null) {
+            // not built yet, every email is possibly present anyway
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<String> emails = userRepository.findEmailsCreatedSince(lastSync.minus(SYNC_OVERLAP));
+        emails.forEach(this::add);
+        lastSync = now;
+        if (!emails.isEmpty()) {
+            log.debug("Registered email filter synced {} emails", emails.size());
+        }
+    }
+
+    // MySQL compares emails case-insensitively and ignores trailing spaces, the filter must too
+    private static String normalize(String email) {
+        return email.stripTrailing().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,135 @@
+package com.internship.contact_management_backend.service;
+
+import com.internship.contact_management_backend.jfr.RepositoryCallEvent;
+import com.internship.contact_management_backend.repository.RevokedTokenRepository;
+import com.internship.contact_management_backend.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Revoked access tokens, checked by {@code JwtFilter} on every request.
+ *
+ * Revocations are stored in the database and mirrored in two in-memory maps,
+ * so a check is two hash lookups and never a query:
+ * revoked token ids (jti) with their expiry, and per-user "revoked before"
+ * cutoffs for logging out everywhere. Entries are pruned once the tokens they
+ * cover have expired anyway. The maps are loaded at startup and re-synced
+ * periodically, which also picks up revocations made by other instances.
+ */
+@Service
+@Slf4j
+public class TokenRevocationService {
+
+    // rows written just before a sync may become visible just after it
+    private static final Duration SYNC_OVERLAP = Duration.ofSeconds(5);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final UserRepository userRepository;
+    private final long accessTokenLifetime;
+
+    private final ConcurrentHashMap<String, Long> revokedJtis = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Long> userCutoffs = new ConcurrentHashMap<>();
+    private volatile LocalDateTime lastSync;
+
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository,
+                                  UserRepository userRepository,
+                                  @Value("${jwt.expiration}") long accessTokenLifetime) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.userRepository = userRepository;
+        this.accessTokenLifetime = accessTokenLifetime;
+    }
+
+    // issuedAt is the JWT iat in epoch seconds (-1 when absent), a token issued in the cutoff's own second stays valid
+    public boolean isRevoked(String jti, String email, long issuedAt) {
+        if (jti != null && revokedJtis.containsKey(jti)) {
+            return true;
+        }
+        Long cutoff = email != null ? userCutoffs.get(email) : null;
+        return cutoff != null && issuedAt >= 0 && issuedAt < cutoff / 1000;
+    }
+
+    // Logout: revoke one access token until it expires
+    public void revoke(String jti, String email, Instant expiresAt) {
+        if (jti == null || revokedJtis.containsKey(jti)) {
+            return;
+        }
+        try {
+            RepositoryCallEvent.record("RevokedTokenRepository.insertForEmail",
+                    () -> revokedTokenRepository.insertForEmail(jti, email, toLocal(expiresAt), LocalDateTime.now()));
+        } catch (DataIntegrityViolationException e) {
+            // revoked concurrently, the row is there either way
+            log.debug("Token jti={} already revoked", jti);
+        }
+        revokedJtis.put(jti, expiresAt.toEpochMilli());
+        log.info("Access token revoked jti={} user={}", jti, email);
+    }
+
+    // Logout everywhere: every access token issued to the user so far
+    @Transactional
+    public void revokeAll(String email) {
+        LocalDateTime now = LocalDateTime.now();
+        RepositoryCallEvent.record("UserRepository.revokeTokensIssuedBefore",
+                () -> userRepository.revokeTokensIssuedBefore(email, now));
+        userCutoffs.merge(email, toEpochMilli(now), Math::max);
+        log.info("All access tokens revoked for user={}", email);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval:PT30S}",
+               initialDelayString = "${jwt.revocation.sync-interval:PT30S}")
+    public synchronized void sync() {
+        LocalDateTime now = LocalDateTime.now();
+        // first load: anything that can still cover an unexpired token
+        LocalDateTime since = lastSync != null
+                ? lastSync.minus(SYNC_OVERLAP)
+                : now.minus(Duration.ofMillis(accessTokenLifetime));
+
+        List<Object[]> jtis = revokedTokenRepository.findRevokedSince(since, now);
+        for (Object[] row : jtis) {
+            revokedJtis.put((String) row[0], toEpochMilli((LocalDateTime) row[1]));
+        }
+        List<Object[]> cutoffs = userRepository.findTokenCutoffsSince(since);
+        for (Object[] row : cutoffs) {
+            userCutoffs.merge((String) row[0], toEpochMilli((LocalDateTime) row[1]), Math::max);
+        }
+        prune(toEpochMilli(now));
+        lastSync = now;
+        if (!jtis.isEmpty() || !cutoffs.isEmpty()) {
+            log.debug("Revocation sync: {} token ids, {} user cutoffs", jtis.size(), cutoffs.size());
+        }
+    }
+
+    @Scheduled(cron = "${jwt.revocation.purge-cron:0 45 3 * * *}")
+    @Transactional
+    public void purgeExpired() {
+        int purged = revokedTokenRepository.deleteExpired(LocalDateTime.now());
+        log.info("Purged {} expired token revocations", purged);
+    }
+
+    private void prune(long nowMillis) {
+        revokedJtis.values().removeIf(expiresAt -> expiresAt < nowMillis);
+        // tokens older than the cutoff have all expired once a full lifetime has passed
+        userCutoffs.values().removeIf(cutoff -> cutoff + accessTokenLifetime < nowMillis);
+    }
+
+    private static long toEpochMilli(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toLocal(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,81 @@
+package com.internship.contact_management_backend.service;
+
+import com.internship.contact_management_backend.cache.CacheRegion;
+import com.internship.contact_management_backend.cache.InvalidationBus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * User details of authenticated requests, so {@code JwtFilter} does not load
+ * the user on every request. Login still goes to the database.
+ *
+ * Entries live for {@code cache.users.ttl} and are dropped on every instance
+ * when the user changes, through the {@link InvalidationBus}. A load that
+ * overlaps an invalidation is returned but not kept.
+ */
+@Component
+public class UserDetailsCache {
+
+    private static final int STRIPES = 1024;
+
+    private final UserDetailsServiceImpl userDetailsService;
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final ConcurrentHashMap<String, Cached> cache = new ConcurrentHashMap<>();
+    // bumped on invalidation, a load only caches if its stripe did not move
+    private final AtomicLongArray stamps = new AtomicLongArray(STRIPES);
+
+    private record Cached(UserDetails userDetails, long expiresAt) {
+    }
+
+    public UserDetailsCache(UserDetailsServiceImpl userDetailsService, InvalidationBus invalidationBus,
+                            @Value("${cache.users.ttl:PT5M}") Duration ttl,
+                            @Value("${cache.users.max-entries:10000}") int maxEntries) {
+        this.userDetailsService = userDetailsService;
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+        invalidationBus.subscribe(CacheRegion.USERS, this::invalidate);
+    }
+
+    public UserDetails get(String email) {
+        Cached cached = cache.get(email);
+        if (cached != null && cached.expiresAt() - System.nanoTime() > 0) {
+            return cached.userDetails();
+        }
+        int stripe = stripe(email);
+        long stamp = stamps.get(stripe);
+        UserDetails userDetails = userDetailsService.loadAuthenticatedUser(email);
+        if (ttlNanos > 0 && stamps.get(stripe) == stamp && cache.size() < maxEntries) {
+            cache.put(email, new Cached(userDetails, System.nanoTime() + ttlNanos));
+        }
+        return userDetails;
+    }
+
+    // details that were just loaded anyway, e.g. by the login
+    public void put(UserDetails userDetails) {
+        if (ttlNanos > 0 && cache.size() < maxEntries) {
+            cache.put(userDetails.getUsername(), new Cached(userDetails, System.nanoTime() + ttlNanos));
+        }
+    }
+
+    public void invalidate(String email) {
+        stamps.incrementAndGet(stripe(email));
+        cache.remove(email);
+    }
+
+    @Scheduled(fixedDelayString = "${cache.users.sweep-interval:PT1M}")
+    public void sweep() {
+        long now = System.nanoTime();
+        cache.values().removeIf(cached -> cached.expiresAt() - now <= 0);
+    }
+
+    private static int stripe(String email) {
+        return Math.floorMod(email.hashCode(), STRIPES);
+    }
+}
@@ -2,28 +2,54 @@ package com.internship.contact_management_backend.service;
 
 import com.internship.contact_management_backend.entity.User;
 import com.internship.contact_management_backend.repository.UserRepository;
+import com.internship.contact_management_backend.utils.AuthenticatedUser;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 @Service
 public class UserDetailsServiceImpl implements UserDetailsService {
     private final UserRepository userRepository;
+    private final RegisteredEmailFilter registeredEmailFilter;
+    // users with ROLE_ADMIN, for the internal actuator endpoints
+    private final Set<String> adminEmails;
 
-    public UserDetailsServiceImpl(UserRepository userRepository) {
+    public UserDetailsServiceImpl(UserRepository userRepository, RegisteredEmailFilter registeredEmailFilter,
+                                  @Value("${security.admin-emails:}") Set<String> adminEmails) {
         this.userRepository = userRepository;
+        this.registeredEmailFilter = registeredEmailFilter;
+        this.adminEmails = adminEmails.stream()
+                                      .map(email -> email.trim().toLowerCase(Locale.ROOT))
+                                      .collect(Collectors.toUnmodifiableSet());
     }
 
 
     @Override
     public UserDetails loadUserByUsername(String email)throws UsernameNotFoundException{
+        // unknown email: no query, the filter syncs new registrations from the table within seconds
+        if (!registeredEmailFilter.mightContain(email)) {
+            throw new UsernameNotFoundException("Bad Credentials");
+        }
+        return loadAuthenticatedUser(email);
+    }
+
+    // For the subject of a verified token: it was issued to a real user, the email filter is not asked
+    public UserDetails loadAuthenticatedUser(String email) throws UsernameNotFoundException {
         User user = userRepository.findByEmail(email)
                                   .orElseThrow(() -> new UsernameNotFoundException("Bad Credentials"));
 
-        return org.springframework.security.core.userdetails.User.builder()
-                                                                 .username(user.getEmail())
-                                                                 .password(user.getPassword())
-                                                                 .build();
+        return new AuthenticatedUser(user.getId(), user.getEmail(), user.getPassword(),
+                isAdmin(user.getEmail()) ? AuthorityUtils.createAuthorityList("ROLE_ADMIN") : AuthorityUtils.NO_AUTHORITIES);
+    }
+
+    private boolean isAdmin(String email) {
+        return adminEmails.contains(email.toLowerCase(Locale.ROOT));
     }
 }
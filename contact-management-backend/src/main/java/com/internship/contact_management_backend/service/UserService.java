@@ -1,21 +1,41 @@
 package com.internship.contact_management_backend.service;
 
+import com.internship.contact_management_backend.cache.CacheRegion;
+import com.internship.contact_management_backend.cache.InvalidationBus;
 import com.internship.contact_management_backend.dto.UpdatePasswordDto;
+import com.internship.contact_management_backend.jfr.RepositoryCallEvent;
 import com.internship.contact_management_backend.repository.UserRepository;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import com.internship.contact_management_backend.entity.User;
 
+import java.sql.SQLException;
+
 @Service
 @Slf4j
 public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
-
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    private final RegisteredEmailFilter registeredEmailFilter;
+    private final InvalidationBus invalidationBus;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
+
+    // MySQL duplicate key error code, and the standard SQLSTATE other databases use
+    private static final int MYSQL_DUPLICATE_KEY = 1062;
+    private static final String SQLSTATE_UNIQUE_VIOLATION = "23505";
+
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder,
+                       RegisteredEmailFilter registeredEmailFilter, InvalidationBus invalidationBus,
+                       RefreshTokenService refreshTokenService, TokenRevocationService tokenRevocationService) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.registeredEmailFilter = registeredEmailFilter;
+        this.invalidationBus = invalidationBus;
+        this.refreshTokenService = refreshTokenService;
+        this.tokenRevocationService = tokenRevocationService;
     }
 
         // Register a new user
@@ -26,22 +46,34 @@ public class UserService {
                 throw new IllegalArgumentException("Email cannot be null or empty");
             }
 
-            // 2. Validate business rule: email must be unique
-            if (userRepository.existsByEmail(user.getEmail())) {
+            // 2. Probably taken: confirm before paying for BCrypt. A definite miss skips the query.
+            if (registeredEmailFilter.mightContain(user.getEmail())
+                    && RepositoryCallEvent.record("UserRepository.existsByEmail", () -> userRepository.existsByEmail(user.getEmail()))) {
                 throw new IllegalArgumentException("Email already exists");
             }
 
             // 3. Hash password before saving
             user.setPassword(passwordEncoder.encode(user.getPassword()));
 
-            // 4. Save user
-            User saved =  userRepository.save(user);
+            // 4. Save user, the unique constraint on email settles concurrent registrations
+            User saved;
+            try {
+                saved = RepositoryCallEvent.record("UserRepository.save", () -> userRepository.save(user));
+            } catch (DataIntegrityViolationException e) {
+                if (isDuplicateKey(e)) {
+                    throw new IllegalArgumentException("Email already exists");
+                }
+                throw e;
+            }
+            // every instance's email filter, this one included
+            invalidationBus.publish(CacheRegion.REGISTRATIONS, saved.getEmail());
             log.info("User registered successfully id={} email={}", saved.getId(), saved.getEmail());
             return  saved;
         }
 
         public User findByEmail(String email) {
-            return userRepository.findByEmail(email).orElse(null);
+            return RepositoryCallEvent.record("UserRepository.findByEmail", () -> userRepository.findByEmail(email))
+                                      .orElse(null);
     }
 
     public void updatePassword(String email, UpdatePasswordDto dto) {
@@ -69,8 +101,24 @@ public class UserService {
 
         // Update entity
         user.setPassword(passwordEncoder.encode(dto.getNewPassword()));
-        userRepository.save(user);
+        RepositoryCallEvent.record("UserRepository.save", () -> userRepository.save(user));
+        // cached user details on every instance hold the old hash
+        invalidationBus.publish(CacheRegion.USERS, email);
+        // sessions opened with the old password must not outlive it
+        tokenRevocationService.revokeAll(email);
+        refreshTokenService.revokeAll(email);
         log.info("Password updated successfully for user={}", email);
     }
 
+    private static boolean isDuplicateKey(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException
+                    && (sqlException.getErrorCode() == MYSQL_DUPLICATE_KEY
+                        || SQLSTATE_UNIQUE_VIOLATION.equals(sqlException.getSQLState()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
 }
@@ -0,0 +1,295 @@
+package com.internship.contact_management_backend.utils;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Date;
+
+/**
+ * Verifies the HS256 tokens issued by {@link JwtUtil} on the request hot path.
+ *
+ * Tokens in exactly the shape we issue (the header {@link JwtKeyRing} expects
+ * for one of its HS256 keys, flat payload of strings and integers) are checked
+ * with that key's per-thread {@link Mac} and per-thread scratch buffers, compared in constant time, and only sub, jti,
+ * iat and exp are read, so the only allocations are the two claim strings.
+ * Anything else (other header, escapes in strings, nested values, nbf, ...)
+ * goes through jjwt via {@link JwtUtil#extractClaims(String)}, which also
+ * produces the detailed error for malformed tokens.
+ */
+@Component
+public class Hs256TokenVerifier {
+
+    // Claims the filter needs, times in epoch seconds (-1 when absent)
+    public record VerifiedToken(String subject, String id, long issuedAt, long expiresAt) {
+    }
+
+    private static final int SIGNATURE_BYTES = 32;
+    private static final int SIGNATURE_CHARS = 43;
+
+    private static final byte[] SUB = {'s', 'u', 'b'};
+    private static final byte[] JTI = {'j', 't', 'i'};
+    private static final byte[] IAT = {'i', 'a', 't'};
+    private static final byte[] EXP = {'e', 'x', 'p'};
+    private static final byte[] NBF = {'n', 'b', 'f'};
+
+    private static final byte[] BASE64URL = new byte[128];
+
+    static {
+        Arrays.fill(BASE64URL, (byte) -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            BASE64URL[alphabet.charAt(i)] = (byte) i;
+        }
+    }
+
+    private final JwtUtil jwtUtil;
+    private final JwtKeyRing keyRing;
+    private final ThreadLocal<Scratch> scratch = ThreadLocal.withInitial(Scratch::new);
+
+    private static final class Scratch {
+        final byte[] expected = new byte[SIGNATURE_BYTES];
+        final byte[] actual = new byte[SIGNATURE_BYTES];
+        byte[] signingInput = new byte[512];
+        byte[] payload = new byte[512];
+    }
+
+    public Hs256TokenVerifier(JwtUtil jwtUtil, JwtKeyRing keyRing) {
+        this.jwtUtil = jwtUtil;
+        this.keyRing = keyRing;
+    }
+
+    public VerifiedToken verify(String token) {
+        VerifiedToken verified = verifyFast(token);
+        return verified != null ? verified : fromClaims(jwtUtil.extractClaims(token));
+    }
+
+    // null when the token is not in our usual shape and jjwt has to decide
+    VerifiedToken verifyFast(String token) {
+        int headerEnd = token.indexOf('.');
+        int payloadEnd = headerEnd < 0 ? -1 : token.indexOf('.', headerEnd + 1);
+        if (payloadEnd < 0 || token.length() - payloadEnd - 1 != SIGNATURE_CHARS) {
+            return null;
+        }
+        JwtKeyRing.SigningKey key = keyFor(token, headerEnd);
+        if (key == null) {
+            return null;
+        }
+
+        Scratch s = scratch.get();
+        if (s.signingInput.length < payloadEnd) {
+            s.signingInput = new byte[payloadEnd * 2];
+        }
+        byte[] input = s.signingInput;
+        for (int i = 0; i < payloadEnd; i++) {
+            char c = token.charAt(i);
+            if (c >= 128) {
+                return null;
+            }
+            input[i] = (byte) c;
+        }
+        Mac mac = key.mac();
+        try {
+            mac.update(input, 0, payloadEnd);
+            mac.doFinal(s.expected, 0);
+        } catch (ShortBufferException e) {
+            throw new IllegalStateException(e);
+        }
+        if (decode(token, payloadEnd + 1, token.length(), s.actual) != SIGNATURE_BYTES) {
+            return null;
+        }
+        int diff = 0;
+        for (int i = 0; i < SIGNATURE_BYTES; i++) {
+            diff |= s.expected[i] ^ s.actual[i];
+        }
+        if (diff != 0) {
+            throw new SignatureException("JWT signature does not match locally computed signature");
+        }
+
+        int payloadChars = payloadEnd - headerEnd - 1;
+        if (s.payload.length < payloadChars) {
+            s.payload = new byte[payloadChars * 2];
+        }
+        int payloadLength = decode(token, headerEnd + 1, payloadEnd, s.payload);
+        if (payloadLength < 0) {
+            return null;
+        }
+        VerifiedToken verified = parseClaims(s.payload, payloadLength);
+        if (verified != null && System.currentTimeMillis() > verified.expiresAt() * 1000) {
+            throw new ExpiredJwtException(null, null, "JWT expired");
+        }
+        return verified;
+    }
+
+    // ring key whose exact header the token carries, the kid is matched as part of the header
+    private JwtKeyRing.SigningKey keyFor(String token, int headerEnd) {
+        for (JwtKeyRing.SigningKey key : keyRing.keys()) {
+            String header = key.encodedHeader();
+            if (header != null && header.length() == headerEnd && token.startsWith(header)) {
+                return key;
+            }
+        }
+        return null;
+    }
+
+    private static VerifiedToken fromClaims(Claims claims) {
+        Date issuedAt = claims.getIssuedAt();
+        Date expiration = claims.getExpiration();
+        return new VerifiedToken(claims.getSubject(), claims.getId(),
+                                 issuedAt != null ? issuedAt.getTime() / 1000 : -1,
+                                 expiration != null ? expiration.getTime() / 1000 : -1);
+    }
+
+    // base64url without padding into out, number of bytes written or -1
+    private static int decode(String in, int from, int to, byte[] out) {
+        int bits = 0;
+        int bitCount = 0;
+        int length = 0;
+        for (int i = from; i < to; i++) {
+            char c = in.charAt(i);
+            int value = c < 128 ? BASE64URL[c] : -1;
+            if (value < 0) {
+                return -1;
+            }
+            bits = (bits << 6) | value;
+            bitCount += 6;
+            if (bitCount >= 8) {
+                bitCount -= 8;
+                if (length == out.length) {
+                    return -1;
+                }
+                out[length++] = (byte) (bits >> bitCount);
+            }
+        }
+        return length;
+    }
+
+    // flat JSON object of string and integer values, null for anything else
+    private static VerifiedToken parseClaims(byte[] json, int length) {
+        String subject = null;
+        String id = null;
+        long issuedAt = -1;
+        long expiresAt = -1;
+
+        int i = skipWhitespace(json, 0, length);
+        if (i >= length || json[i] != '{') {
+            return null;
+        }
+        i = skipWhitespace(json, i + 1, length);
+        if (i < length && json[i] == '}') {
+            return null;
+        }
+        while (true) {
+            if (i >= length || json[i] != '"') {
+                return null;
+            }
+            int keyStart = i + 1;
+            int keyEnd = endOfString(json, keyStart, length);
+            if (keyEnd < 0) {
+                return null;
+            }
+            i = skipWhitespace(json, keyEnd + 1, length);
+            if (i >= length || json[i] != ':') {
+                return null;
+            }
+            i = skipWhitespace(json, i + 1, length);
+            if (i >= length) {
+                return null;
+            }
+
+            if (json[i] == '"') {
+                int valueEnd = endOfString(json, i + 1, length);
+                if (valueEnd < 0) {
+                    return null;
+                }
+                if (keyEquals(json, keyStart, keyEnd, SUB)) {
+                    subject = new String(json, i + 1, valueEnd - i - 1, StandardCharsets.UTF_8);
+                } else if (keyEquals(json, keyStart, keyEnd, JTI)) {
+                    id = new String(json, i + 1, valueEnd - i - 1, StandardCharsets.UTF_8);
+                } else if (isTimeClaim(json, keyStart, keyEnd)) {
+                    return null;
+                }
+                i = valueEnd + 1;
+            } else if (json[i] >= '0' && json[i] <= '9') {
+                long value = 0;
+                while (i < length && json[i] >= '0' && json[i] <= '9') {
+                    if (value > (Long.MAX_VALUE - 9) / 10) {
+                        return null;
+                    }
+                    value = value * 10 + (json[i++] - '0');
+                }
+                if (i < length && (json[i] == '.' || json[i] == 'e' || json[i] == 'E')) {
+                    return null;
+                }
+                if (keyEquals(json, keyStart, keyEnd, IAT)) {
+                    issuedAt = value;
+                } else if (keyEquals(json, keyStart, keyEnd, EXP)) {
+                    expiresAt = value;
+                } else if (keyEquals(json, keyStart, keyEnd, NBF)) {
+                    return null;
+                }
+            } else {
+                // booleans, nulls, arrays, objects, negative numbers
+                return null;
+            }
+
+            i = skipWhitespace(json, i, length);
+            if (i >= length) {
+                return null;
+            }
+            if (json[i] == '}') {
+                break;
+            }
+            if (json[i] != ',') {
+                return null;
+            }
+            i = skipWhitespace(json, i + 1, length);
+        }
+        if (skipWhitespace(json, i + 1, length) != length || subject == null || expiresAt < 0) {
+            return null;
+        }
+        return new VerifiedToken(subject, id, issuedAt, expiresAt);
+    }
+
+    // index of the closing quote, -1 for escapes or an unterminated string
+    private static int endOfString(byte[] json, int from, int length) {
+        for (int i = from; i < length; i++) {
+            if (json[i] == '"') {
+                return i;
+            }
+            if (json[i] == '\\') {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isTimeClaim(byte[] json, int from, int to) {
+        return keyEquals(json, from, to, IAT) || keyEquals(json, from, to, EXP) || keyEquals(json, from, to, NBF);
+    }
+
+    private static boolean keyEquals(byte[] json, int from, int to, byte[] key) {
+        if (to - from != key.length) {
+            return false;
+        }
+        for (int i = 0; i < key.length; i++) {
+            if (json[from + i] != key[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int skipWhitespace(byte[] json, int from, int length) {
+        int i = from;
+        while (i < length && (json[i] == ' ' || json[i] == '\t' || json[i] == '\n' || json[i] == '\r')) {
+            i++;
+        }
+        return i;
+    }
+}
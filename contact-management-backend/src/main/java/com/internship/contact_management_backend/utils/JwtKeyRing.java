@@ -0,0 +1,183 @@
+package com.internship.contact_management_backend.utils;
+
+import com.internship.contact_management_backend.config.JwtKeyProperties;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Signing keys for access tokens, by key id (kid).
+ *
+ * Only the active key signs; every key in the ring verifies, so rotation
+ * never invalidates sessions: add the new key on every node, switch
+ * {@code active} to it, and drop the old key once {@code jwt.expiration}
+ * has passed. Keys come from {@code jwt.keys.*} or from {@code jwt.keys.file},
+ * which is polled and swapped in atomically when it changes. Each key keeps
+ * its prebuilt per-thread {@link Mac} across reloads as long as its secret
+ * is unchanged.
+ */
+@Component
+@Slf4j
+public class JwtKeyRing {
+
+    private static final String HMAC_SHA256 = "HmacSHA256";
+    private static final String SECRETS_PREFIX = "secrets.";
+
+    public static final class SigningKey {
+        private final String kid;
+        private final SecretKey key;
+        private final String encodedHeader;
+        private final ThreadLocal<Mac> mac;
+
+        private SigningKey(String kid, byte[] secret) {
+            this.kid = kid;
+            this.key = Keys.hmacShaKeyFor(secret);
+            // only HS256 keys get the fast path, longer secrets make jjwt pick HS384/HS512
+            this.encodedHeader = HMAC_SHA256.equals(key.getAlgorithm()) ? headerOf(kid, key) : null;
+            SecretKeySpec spec = new SecretKeySpec(secret, HMAC_SHA256);
+            this.mac = ThreadLocal.withInitial(() -> newMac(spec));
+        }
+
+        public String kid() {
+            return kid;
+        }
+
+        public SecretKey key() {
+            return key;
+        }
+
+        // exact base64url header JwtUtil writes for this key, null when not HS256
+        public String encodedHeader() {
+            return encodedHeader;
+        }
+
+        public Mac mac() {
+            return mac.get();
+        }
+    }
+
+    private record Ring(SigningKey active, Map<String, SigningKey> byKid, List<SigningKey> keys,
+                        FileTime fileModified) {
+    }
+
+    private final JwtKeyProperties properties;
+    private volatile Ring ring;
+
+    public JwtKeyRing(JwtKeyProperties properties) {
+        this.properties = properties;
+        try {
+            this.ring = load(null);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read JWT key file " + properties.getFile(), e);
+        }
+        log.info("JWT key ring loaded, active kid={} keys={}", ring.active().kid(), ring.byKid().keySet());
+    }
+
+    public SigningKey active() {
+        return ring.active();
+    }
+
+    // Key for a token's kid, tokens issued before key ids verify with the active key
+    public SigningKey find(String kid) {
+        Ring current = ring;
+        return kid == null ? current.active() : current.byKid().get(kid);
+    }
+
+    public List<SigningKey> keys() {
+        return ring.keys();
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.keys.reload-interval:PT30S}",
+               initialDelayString = "${jwt.keys.reload-interval:PT30S}")
+    public void reloadIfChanged() {
+        if (!StringUtils.hasText(properties.getFile())) {
+            return;
+        }
+        Ring current = ring;
+        try {
+            if (Files.getLastModifiedTime(Path.of(properties.getFile())).equals(current.fileModified())) {
+                return;
+            }
+            ring = load(current);
+            log.info("JWT key ring reloaded, active kid={} keys={}", ring.active().kid(), ring.byKid().keySet());
+        } catch (IOException | RuntimeException e) {
+            // a half-written or broken file must not take signing down
+            log.error("JWT key ring reload failed, keeping active kid={}: {}", current.active().kid(), e.getMessage());
+        }
+    }
+
+    private Ring load(Ring previous) throws IOException {
+        if (!StringUtils.hasText(properties.getFile())) {
+            return build(properties.getActive(), properties.getSecrets(), null, previous);
+        }
+        Path file = Path.of(properties.getFile());
+        FileTime modified = Files.getLastModifiedTime(file);
+        Properties loaded = new Properties();
+        try (Reader reader = Files.newBufferedReader(file)) {
+            loaded.load(reader);
+        }
+        Map<String, String> secrets = new LinkedHashMap<>();
+        for (String name : loaded.stringPropertyNames()) {
+            if (name.startsWith(SECRETS_PREFIX)) {
+                secrets.put(name.substring(SECRETS_PREFIX.length()), loaded.getProperty(name));
+            }
+        }
+        return build(loaded.getProperty("active", properties.getActive()), secrets, modified, previous);
+    }
+
+    private static Ring build(String active, Map<String, String> secrets, FileTime modified, Ring previous) {
+        if (secrets.isEmpty()) {
+            throw new IllegalStateException("No JWT signing keys configured");
+        }
+        Map<String, SigningKey> byKid = new LinkedHashMap<>();
+        secrets.forEach((kid, secret) -> {
+            byte[] bytes = Decoders.BASE64.decode(secret.trim());
+            SigningKey existing = previous != null ? previous.byKid().get(kid) : null;
+            boolean unchanged = existing != null && MessageDigest.isEqual(existing.key().getEncoded(), bytes);
+            byKid.put(kid, unchanged ? existing : new SigningKey(kid, bytes));
+        });
+        SigningKey activeKey = active != null ? byKid.get(active) : null;
+        if (activeKey == null) {
+            throw new IllegalStateException("Active JWT key '" + active + "' is not in the key ring");
+        }
+        return new Ring(activeKey, Map.copyOf(byKid), List.copyOf(byKid.values()), modified);
+    }
+
+    private static String headerOf(String kid, SecretKey key) {
+        String token = Jwts.builder()
+                           .header().keyId(kid).and()
+                           .subject(kid)
+                           .signWith(key)
+                           .compact();
+        return token.substring(0, token.indexOf('.'));
+    }
+
+    private static Mac newMac(SecretKeySpec key) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_SHA256);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 not available", e);
+        }
+    }
+}
@@ -1,53 +1,66 @@
 package com.internship.contact_management_backend.utils;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.ProtectedHeader;
+import io.jsonwebtoken.UnsupportedJwtException;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
 public class JwtUtil {
 
-    @Value("${jwt.secret}")
-    private String secret;
+    private final JwtKeyRing keyRing;
+    private final long expiration;
+    // built once, the verification key is picked per token by its kid
+    private final JwtParser parser;
 
-    @Value("${jwt.expiration}")
-    private long expiration;
-
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secret);
-        return Keys.hmacShaKeyFor(keyBytes);
+    public JwtUtil(JwtKeyRing keyRing, @Value("${jwt.expiration}") long expiration) {
+        this.keyRing = keyRing;
+        this.expiration = expiration;
+        this.parser = Jwts.parser()
+                          .keyLocator(header -> {
+                              String kid = header instanceof ProtectedHeader protectedHeader
+                                      ? protectedHeader.getKeyId() : null;
+                              JwtKeyRing.SigningKey key = keyRing.find(kid);
+                              if (key == null) {
+                                  throw new UnsupportedJwtException("Unknown signing key id: " + kid);
+                              }
+                              return key.key();
+                          })
+                          .build();
     }
 
     public String generateToken(String email) {
+        JwtKeyRing.SigningKey key = keyRing.active();
         return Jwts.builder()
+                   .header().keyId(key.kid()).and()
+                   .id(UUID.randomUUID().toString())
                    .subject(email)
                    .claim("email", email)
                    .issuedAt(new Date())
                    .expiration(new Date(System.currentTimeMillis() + expiration))
-                   .signWith(getSigningKey())
+                   .signWith(key.key())
                    .compact();
     }
 
     public String extractEmail(String token) {
-        return Jwts.parser()
-                   .verifyWith(getSigningKey())
-                   .build()
-                   .parseSignedClaims(token)
-                   .getPayload()
-                   .getSubject();
+        return extractClaims(token).getSubject();
+    }
+
+    // Verified claims (subject, jti, iat, exp) of a token
+    public Claims extractClaims(String token) {
+        return parser.parseSignedClaims(token)
+                     .getPayload();
     }
 
     public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parse(token);
+            parser.parse(token);
             return true;
         } catch (JwtException | IllegalArgumentException e) {
             return false;
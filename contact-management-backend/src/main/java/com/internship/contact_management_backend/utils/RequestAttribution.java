@@ -0,0 +1,37 @@
+package com.internship.contact_management_backend.utils;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+// Endpoint and user of the request running on the current thread, for logs, metrics and events
+public final class RequestAttribution {
+
+    private static final String NONE = "-";
+
+    private RequestAttribution() {
+    }
+
+    // e.g. "GET /contacts/getAll", the raw URI until handler mapping has run
+    public static String endpoint() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            HttpServletRequest request = attributes.getRequest();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            return request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+        }
+        return NONE;
+    }
+
+    // the user's id, for logs that must not contain the email
+    public static String userId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user
+                && user.getId() != null) {
+            return user.getId().toString();
+        }
+        return NONE;
+    }
+}
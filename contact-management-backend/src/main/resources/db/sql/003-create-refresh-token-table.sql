@@ -0,0 +1,21 @@
+CREATE TABLE refresh_tokens (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+
+    token_hash CHAR(64) NOT NULL UNIQUE,   -- SHA-256 of the token, hex
+    family_id CHAR(36) NOT NULL,           -- all rotations of one login share a family
+
+    user_id BIGINT NOT NULL,
+
+    expires_at DATETIME NOT NULL,
+    revoked_at DATETIME NULL,              -- set once rotated or revoked
+
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+
+    INDEX idx_refresh_tokens_family (family_id),
+    INDEX idx_refresh_tokens_expires (expires_at),
+
+    -- Foreign key
+    CONSTRAINT fk_refresh_tokens_user
+        FOREIGN KEY (user_id) REFERENCES users(id)
+        ON DELETE CASCADE
+);
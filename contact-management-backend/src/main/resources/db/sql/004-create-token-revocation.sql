@@ -0,0 +1,21 @@
+CREATE TABLE revoked_tokens (
+    jti CHAR(36) PRIMARY KEY,              -- token id of a revoked access token
+
+    user_id BIGINT NOT NULL,
+
+    expires_at DATETIME NOT NULL,          -- row is useless once the token expired
+    revoked_at DATETIME NOT NULL,          -- other instances sync on this
+
+    INDEX idx_revoked_tokens_revoked (revoked_at),
+    INDEX idx_revoked_tokens_expires (expires_at),
+
+    -- Foreign key
+    CONSTRAINT fk_revoked_tokens_user
+        FOREIGN KEY (user_id) REFERENCES users(id)
+        ON DELETE CASCADE
+);
+
+-- "Revoke all sessions": tokens issued before this instant are rejected
+ALTER TABLE users
+    ADD COLUMN tokens_revoked_before DATETIME NULL,
+    ADD INDEX idx_users_tokens_revoked_before (tokens_revoked_before);
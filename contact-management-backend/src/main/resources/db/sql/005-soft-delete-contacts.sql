@@ -0,0 +1,9 @@
+-- Deleted contacts stay in the trash until the purger removes them
+ALTER TABLE contacts
+    ADD COLUMN deleted_at DATETIME NULL,
+
+    -- MySQL has no partial index: live rows are the (user_id, NULL) prefix, in id order
+    ADD INDEX idx_contacts_user_deleted (user_id, deleted_at, id),
+
+    -- purger: oldest deleted rows first
+    ADD INDEX idx_contacts_deleted_at (deleted_at);
@@ -0,0 +1,3 @@
+-- Email filters of every instance sync the emails registered since their last sync
+ALTER TABLE users
+    ADD INDEX idx_users_created_at (created_at);
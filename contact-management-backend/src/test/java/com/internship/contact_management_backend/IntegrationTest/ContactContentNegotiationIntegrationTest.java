@@ -0,0 +1,197 @@
+package com.internship.contact_management_backend.IntegrationTest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.internship.contact_management_backend.converter.ContactProtobufCodec;
+import com.internship.contact_management_backend.converter.ContactProtobufHttpMessageConverter;
+import com.internship.contact_management_backend.dto.ContactDto;
+import com.internship.contact_management_backend.entity.User;
+import com.internship.contact_management_backend.repository.ContactRepository;
+import com.internship.contact_management_backend.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// Accept / Content-Type negotiation of the binary formats registered in WebConfig
+@SpringBootTest(properties = {"rate-limit.enabled=false", "contacts.read-cache.ttl=0s"})
+@AutoConfigureMockMvc
+class ContactContentNegotiationIntegrationTest {
+
+    private static final String TEST_EMAIL = "test@example.com";
+    private static final MediaType SMILE = MediaType.valueOf("application/x-jackson-smile");
+    private static final MediaType CBOR = MediaType.valueOf("application/cbor");
+
+    private final MockMvc mockMvc;
+    private final UserRepository userRepository;
+    private final ContactRepository contactRepository;
+    private final PasswordEncoder passwordEncoder;
+
+    private final ObjectMapper smileMapper = new ObjectMapper(new SmileFactory()).findAndRegisterModules();
+    private final ObjectMapper cborMapper = new ObjectMapper(new CBORFactory()).findAndRegisterModules();
+
+    @Autowired
+    public ContactContentNegotiationIntegrationTest(MockMvc mockMvc, UserRepository userRepository,
+                                                    ContactRepository contactRepository,
+                                                    PasswordEncoder passwordEncoder) {
+        this.mockMvc = mockMvc;
+        this.userRepository = userRepository;
+        this.contactRepository = contactRepository;
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    @BeforeEach
+    void setUp() {
+        contactRepository.deleteAll();
+        userRepository.deleteAll();
+
+        User user = new User();
+        user.setEmail(TEST_EMAIL);
+        user.setPassword(passwordEncoder.encode("password123"));
+        user.setFirstName("Test");
+        user.setLastName("User");
+        userRepository.save(user);
+    }
+
+    // =====================================================
+    // HELPER METHODS
+    // =====================================================
+
+    private static ContactDto buildContact(String firstName) {
+        return ContactDto.builder()
+                         .firstName(firstName)
+                         .lastName("Doe")
+                         .email(firstName.toLowerCase() + "@example.com")
+                         .emailLabel("Work")
+                         .phoneNumber("+923242650627")
+                         .phoneNumberLabel("Mobile")
+                         .build();
+    }
+
+    private static byte[] toProtobuf(ContactDto contact) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        CodedOutputStream out = CodedOutputStream.newInstance(bytes);
+        ContactProtobufCodec.writeContact(out, contact);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private MvcResult create(MediaType mediaType, byte[] body) throws Exception {
+        return mockMvc.perform(post("/contacts/create")
+                              .contentType(mediaType)
+                              .accept(mediaType)
+                              .content(body))
+                      .andExpect(status().isOk())
+                      .andExpect(content().contentTypeCompatibleWith(mediaType))
+                      .andReturn();
+    }
+
+    private byte[] getAll(MediaType mediaType) throws Exception {
+        return mockMvc.perform(get("/contacts/getAll").accept(mediaType))
+                      .andExpect(status().isOk())
+                      .andExpect(content().contentTypeCompatibleWith(mediaType))
+                      .andReturn()
+                      .getResponse()
+                      .getContentAsByteArray();
+    }
+
+    private static void assertSameContact(ContactDto expected, ContactDto actual) {
+        assertNotNull(actual.getId());
+        assertEquals(expected.getFirstName(), actual.getFirstName());
+        assertEquals(expected.getLastName(), actual.getLastName());
+        assertEquals(expected.getEmail(), actual.getEmail());
+        assertEquals(expected.getEmailLabel(), actual.getEmailLabel());
+        assertEquals(expected.getPhoneNumber(), actual.getPhoneNumber());
+        assertEquals(expected.getPhoneNumberLabel(), actual.getPhoneNumberLabel());
+    }
+
+    // =====================================================
+    // ROUND TRIPS
+    // =====================================================
+
+    @Test
+    @WithMockUser(username = TEST_EMAIL)
+    @DisplayName("Protobuf - Should read and write ContactDto")
+    void protobuf_ShouldRoundTripContact() throws Exception {
+        ContactDto contact = buildContact("John");
+
+        MvcResult result = create(ContactProtobufHttpMessageConverter.PROTOBUF, toProtobuf(contact));
+        ContactDto created = ContactProtobufCodec.readContact(
+                CodedInputStream.newInstance(result.getResponse().getContentAsByteArray()));
+        List<ContactDto> all = ContactProtobufCodec.readContactList(
+                CodedInputStream.newInstance(getAll(ContactProtobufHttpMessageConverter.PROTOBUF)));
+
+        assertSameContact(contact, created);
+        assertEquals(1, all.size());
+        assertSameContact(contact, all.get(0));
+    }
+
+    @Test
+    @WithMockUser(username = TEST_EMAIL)
+    @DisplayName("Smile - Should read and write ContactDto")
+    void smile_ShouldRoundTripContact() throws Exception {
+        ContactDto contact = buildContact("John");
+
+        MvcResult result = create(SMILE, smileMapper.writeValueAsBytes(contact));
+        ContactDto created = smileMapper.readValue(result.getResponse().getContentAsByteArray(), ContactDto.class);
+        ContactDto[] all = smileMapper.readValue(getAll(SMILE), ContactDto[].class);
+
+        assertSameContact(contact, created);
+        assertEquals(1, all.length);
+        assertSameContact(contact, all[0]);
+    }
+
+    @Test
+    @WithMockUser(username = TEST_EMAIL)
+    @DisplayName("CBOR - Should read and write ContactDto")
+    void cbor_ShouldRoundTripContact() throws Exception {
+        ContactDto contact = buildContact("John");
+
+        MvcResult result = create(CBOR, cborMapper.writeValueAsBytes(contact));
+        ContactDto created = cborMapper.readValue(result.getResponse().getContentAsByteArray(), ContactDto.class);
+        ContactDto[] all = cborMapper.readValue(getAll(CBOR), ContactDto[].class);
+
+        assertSameContact(contact, created);
+        assertEquals(1, all.length);
+        assertSameContact(contact, all[0]);
+    }
+
+    // =====================================================
+    // NEGOTIATION
+    // =====================================================
+
+    @Test
+    @WithMockUser(username = TEST_EMAIL)
+    @DisplayName("Accept */* - Should default to JSON")
+    void anyAccept_ShouldDefaultToJson() throws Exception {
+        mockMvc.perform(get("/contacts/getAll").accept(MediaType.ALL))
+               .andExpect(status().isOk())
+               .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    @WithMockUser(username = TEST_EMAIL)
+    @DisplayName("Unsupported Accept - Should return 406")
+    void unsupportedAccept_ShouldReturnNotAcceptable() throws Exception {
+        mockMvc.perform(get("/contacts/getAll").accept(MediaType.APPLICATION_XML))
+               .andExpect(status().isNotAcceptable());
+    }
+}
@@ -13,18 +13,26 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
+import static com.internship.contact_management_backend.IntegrationTest.QueryCountAssertions.assertQueryCountAtMost;
 import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
-@SpringBootTest
+@SpringBootTest(properties = {"debug.headers.enabled=true", "rate-limit.enabled=false",
+                              // tests change contacts through the repositories, bypassing invalidation
+                              "contacts.read-cache.ttl=0s"})
 @AutoConfigureMockMvc
 class ContactIntegrationTest {
 
@@ -157,6 +165,51 @@ class ContactIntegrationTest {
                .andExpect(jsonPath("$[0].firstName", is("John")));
     }
 
+    @Test
+    @WithMockUser(username = TEST_EMAIL)
+    @DisplayName("GET /contacts/getAll?fields=firstName,phoneNumber - Should return only requested fields")
+    void getAllContacts_WithFields_ShouldReturnSparseContacts() throws Exception {
+
+        createContactForTest("John");
+
+        mockMvc.perform(get("/contacts/getAll")
+                       .param("fields", "firstName,phoneNumber"))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$", hasSize(1)))
+               .andExpect(jsonPath("$[0].id").exists())
+               .andExpect(jsonPath("$[0].firstName", is("John")))
+               .andExpect(jsonPath("$[0].phoneNumber", is("+923242650627")))
+               .andExpect(jsonPath("$[0].email").doesNotExist())
+               .andExpect(jsonPath("$[0].lastName").doesNotExist());
+    }
+
+    @Test
+    @WithMockUser(username = TEST_EMAIL)
+    @DisplayName("GET /contacts/getAll?name=John&fields=lastName - Should search with sparse fields")
+    void searchContacts_WithFields_ShouldReturnSparseContacts() throws Exception {
+
+        createContactForTest("John");
+        createContactForTest("Alice");
+
+        mockMvc.perform(get("/contacts/getAll")
+                       .param("name", "John")
+                       .param("fields", "lastName"))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$", hasSize(1)))
+               .andExpect(jsonPath("$[0].lastName", is("Doe")))
+               .andExpect(jsonPath("$[0].firstName").doesNotExist());
+    }
+
+    @Test
+    @WithMockUser(username = TEST_EMAIL)
+    @DisplayName("GET /contacts/getAll?fields=password - Should reject unknown fields")
+    void getAllContacts_WithUnknownField_ShouldReturnBadRequest() throws Exception {
+
+        mockMvc.perform(get("/contacts/getAll")
+                       .param("fields", "password"))
+               .andExpect(status().isBadRequest());
+    }
+
     // =====================================================
     // UPDATE CONTACT
     // =====================================================
@@ -201,6 +254,285 @@ class ContactIntegrationTest {
                .andExpect(status().isNoContent());
 
         assertFalse(contactRepository.findById(contact.getId()).isPresent());
+        // soft deleted: still in the trash until purged
+        assertTrue(contactRepository.findTrashedById(contact.getId()).isPresent());
+    }
+
+    @Test
+    @WithMockUser(username = TEST_EMAIL)
+    @DisplayName("POST /contacts/trash/{id}/restore - Should bring a deleted contact back")
+    void restoreContact_ShouldBringDeletedContactBack() throws Exception {
+
+        Contact contact = createContactForTest("Restore");
+
+        mockMvc.perform(delete("/contacts/delete/" + contact.getId()))
+               .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/contacts/trash"))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$", hasSize(1)))
+               .andExpect(jsonPath("$[0].contact.id").value(contact.getId()))
+               .andExpect(jsonPath("$[0].deletedAt").exists());
+
+        mockMvc.perform(post("/contacts/trash/" + contact.getId() + "/restore"))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.firstName").value("Restore"));
+
+        assertTrue(contactRepository.findById(contact.getId()).isPresent());
+        mockMvc.perform(get("/contacts/trash"))
+               .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    @WithMockUser(username = TEST_EMAIL)
+    @DisplayName("POST /contacts/trash/{id}/restore - Should return 404 for a live contact")
+    void restoreContact_WithLiveContact_ShouldReturnNotFound() throws Exception {
+
+        Contact contact = createContactForTest("Live");
+
+        mockMvc.perform(post("/contacts/trash/" + contact.getId() + "/restore"))
+               .andExpect(status().isNotFound());
+    }
+
+    // =====================================================
+    // BULK OPERATIONS
+    // =====================================================
+
+    @Test
+    @WithMockUser(username = TEST_EMAIL)
+    @DisplayName("POST /contacts/bulk-delete - Should delete owned ids and report the rest")
+    void bulkDelete_ByIds_ShouldReturnPerIdOutcomes() throws Exception {
+
+        Contact first = createContactForTest("First");
+        Contact second = createContactForTest("Second");
+        long missingId = second.getId() + 1000;
+
+        mockMvc.perform(post("/contacts/bulk-delete")
+                       .contentType(MediaType.APPLICATION_JSON)
+                       .content(objectMapper.writeValueAsString(
+                               Map.of("ids", List.of(first.getId(), second.getId(), missingId)))))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.affected").value(2))
+               .andExpect(jsonPath("$.outcomes['" + first.getId() + "']").value("DELETED"))
+               .andExpect(jsonPath("$.outcomes['" + missingId + "']").value("NOT_FOUND"));
+
+        assertEquals(0, contactRepository.count());
+    }
+
+    @Test
+    @WithMockUser(username = TEST_EMAIL)
+    @DisplayName("POST /contacts/bulk-delete - Should delete contacts matching the name filter")
+    void bulkDelete_ByName_ShouldDeleteMatchingContacts() throws Exception {
+
+        createContactForTest("John");
+        createContactForTest("Johnny");
+        Contact kept = createContactForTest("Alice");
+
+        mockMvc.perform(post("/contacts/bulk-delete")
+                       .contentType(MediaType.APPLICATION_JSON)
+                       .content("{\"name\":\"john\"}"))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.affected").value(2));
+
+        assertEquals(List.of(kept.getId()), contactRepository.findAll().stream().map(Contact::getId).toList());
+    }
+
+    @Test
+    @WithMockUser(username = TEST_EMAIL)
+    @DisplayName("POST /contacts/bulk-delete - Should reject ids together with a name filter")
+    void bulkDelete_WithIdsAndName_ShouldReturnBadRequest() throws Exception {
+
+        mockMvc.perform(post("/contacts/bulk-delete")
+                       .contentType(MediaType.APPLICATION_JSON)
+                       .content("{\"ids\":[1],\"name\":\"john\"}"))
+               .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(username = TEST_EMAIL)
+    @DisplayName("POST /contacts/bulk-delete - Should reject a null id")
+    void bulkDelete_WithNullId_ShouldReturnBadRequest() throws Exception {
+
+        Contact contact = createContactForTest("Kept");
+
+        mockMvc.perform(post("/contacts/bulk-delete")
+                       .contentType(MediaType.APPLICATION_JSON)
+                       .content("{\"ids\":[" + contact.getId() + ",null]}"))
+               .andExpect(status().isBadRequest())
+               .andExpect(jsonPath("$.message", is("Ids must not be null")));
+
+        assertEquals(1, contactRepository.count());
+    }
+
+    @Test
+    @WithMockUser(username = TEST_EMAIL)
+    @DisplayName("POST /contacts/bulk-update-labels - Should reject a null id")
+    void bulkUpdateLabels_WithNullId_ShouldReturnBadRequest() throws Exception {
+
+        mockMvc.perform(post("/contacts/bulk-update-labels")
+                       .contentType(MediaType.APPLICATION_JSON)
+                       .content("{\"ids\":[null],\"emailLabel\":\"Personal\"}"))
+               .andExpect(status().isBadRequest())
+               .andExpect(jsonPath("$.message", is("Ids must not be null")));
+    }
+
+    @Test
+    @WithMockUser(username = TEST_EMAIL)
+    @DisplayName("POST /contacts/bulk-update-labels - Should update labels of owned contacts")
+    void bulkUpdateLabels_ShouldUpdateOnlyGivenLabels() throws Exception {
+
+        Contact contact = createContactForTest("Label");
+
+        mockMvc.perform(post("/contacts/bulk-update-labels")
+                       .contentType(MediaType.APPLICATION_JSON)
+                       .content("{\"ids\":[" + contact.getId() + "],\"emailLabel\":\"Personal\"}"))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.affected").value(1))
+               .andExpect(jsonPath("$.outcomes['" + contact.getId() + "']").value("UPDATED"));
+
+        Contact updated = contactRepository.findById(contact.getId()).orElseThrow();
+        assertEquals("Personal", updated.getEmailLabel());
+        assertEquals("Mobile", updated.getPhoneNumberLabel());
+    }
+
+    @Test
+    @WithMockUser(username = TEST_EMAIL)
+    @DisplayName("POST /contacts/batch - Should apply operations in order")
+    void batch_ShouldApplyOperationsInOrder() throws Exception {
+
+        Contact updated = createContactForTest("Update");
+        Contact deleted = createContactForTest("Delete");
+
+        List<Map<String, Object>> operations = List.of(
+                Map.of("op", "CREATE", "contact", buildValidContactDto("Created")),
+                Map.of("op", "UPDATE", "id", updated.getId(), "contact", buildValidContactDto("Renamed")),
+                Map.of("op", "DELETE", "id", deleted.getId()));
+
+        mockMvc.perform(post("/contacts/batch")
+                       .contentType(MediaType.APPLICATION_JSON)
+                       .content(objectMapper.writeValueAsString(Map.of("operations", operations))))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$[*].status", contains(201, 200, 204)))
+               .andExpect(jsonPath("$[0].contact.firstName").value("Created"))
+               .andExpect(jsonPath("$[1].contact.firstName").value("Renamed"));
+
+        assertEquals("Renamed", contactRepository.findById(updated.getId()).orElseThrow().getFirstName());
+        assertFalse(contactRepository.findById(deleted.getId()).isPresent());
+        assertEquals(2, contactRepository.count());
+    }
+
+    @Test
+    @WithMockUser(username = TEST_EMAIL)
+    @DisplayName("POST /contacts/batch - Should roll back everything when one operation fails")
+    void batch_WithMissingContact_ShouldRollBack() throws Exception {
+
+        Contact deleted = createContactForTest("Delete");
+
+        List<Map<String, Object>> operations = List.of(
+                Map.of("op", "DELETE", "id", deleted.getId()),
+                Map.of("op", "DELETE", "id", deleted.getId() + 1000));
+
+        mockMvc.perform(post("/contacts/batch")
+                       .contentType(MediaType.APPLICATION_JSON)
+                       .content(objectMapper.writeValueAsString(Map.of("operations", operations))))
+               .andExpect(status().isNotFound());
+
+        assertTrue(contactRepository.findById(deleted.getId()).isPresent());
+    }
+
+    // =====================================================
+    // IMPORT
+    // =====================================================
+
+    @Test
+    @WithMockUser(username = TEST_EMAIL)
+    @DisplayName("POST /contacts/import - Should import valid rows and report the rest")
+    void importContacts_ShouldImportValidRowsAndWriteErrorFile() throws Exception {
+
+        String csv = """
+                firstName,lastName,email,emailLabel,phoneNumber,phoneNumberLabel
+                John,Doe,john@example.com,Work,+923242650627,Mobile
+                Jo,Doe,not-an-email,Work,+923242650627,Mobile
+                Jane,Smith,jane@example.com,Home,+923242650628,Mobile
+                """;
+        MockMultipartFile file = new MockMultipartFile("file", "contacts.csv", "text/csv",
+                                                       csv.getBytes(StandardCharsets.UTF_8));
+
+        MvcResult started = mockMvc.perform(multipart("/contacts/import").file(file))
+                                   .andExpect(status().isAccepted())
+                                   .andExpect(header().exists("Location"))
+                                   .andReturn();
+        String jobId = objectMapper.readTree(started.getResponse().getContentAsString()).get("id").asText();
+
+        // the import runs in the background
+        String jobStatus = "QUEUED";
+        for (int i = 0; i < 100 && !jobStatus.equals("COMPLETED") && !jobStatus.equals("FAILED"); i++) {
+            Thread.sleep(50);
+            MvcResult polled = mockMvc.perform(get("/contacts/import/" + jobId))
+                                      .andExpect(status().isOk())
+                                      .andReturn();
+            jobStatus = objectMapper.readTree(polled.getResponse().getContentAsString()).get("status").asText();
+        }
+
+        mockMvc.perform(get("/contacts/import/" + jobId))
+               .andExpect(jsonPath("$.status").value("COMPLETED"))
+               .andExpect(jsonPath("$.rowsRead").value(3))
+               .andExpect(jsonPath("$.imported").value(2))
+               .andExpect(jsonPath("$.failed").value(1));
+
+        mockMvc.perform(get("/contacts/import/" + jobId + "/errors"))
+               .andExpect(status().isOk())
+               .andExpect(content().string(containsString("3,")));
+
+        assertEquals(2, contactRepository.count());
+    }
+
+    @Test
+    @WithMockUser(username = TEST_EMAIL)
+    @DisplayName("POST /contacts/export - Should write the file in the background and serve byte ranges")
+    void exportContacts_ShouldServeFileWithRanges() throws Exception {
+
+        createContactForTest("John");
+        createContactForTest("Jane");
+
+        MvcResult started = mockMvc.perform(post("/contacts/export")
+                                                    .contentType(MediaType.APPLICATION_JSON)
+                                                    .content("{\"format\":\"csv\"}"))
+                                   .andExpect(status().isAccepted())
+                                   .andExpect(header().exists("Location"))
+                                   .andReturn();
+        String jobId = objectMapper.readTree(started.getResponse().getContentAsString()).get("id").asText();
+
+        // the export runs in the background
+        String jobStatus = "QUEUED";
+        for (int i = 0; i < 100 && !jobStatus.equals("COMPLETED") && !jobStatus.equals("FAILED"); i++) {
+            Thread.sleep(50);
+            MvcResult polled = mockMvc.perform(get("/contacts/export/" + jobId))
+                                      .andExpect(status().isOk())
+                                      .andReturn();
+            jobStatus = objectMapper.readTree(polled.getResponse().getContentAsString()).get("status").asText();
+        }
+        assertEquals("COMPLETED", jobStatus);
+
+        MvcResult full = mockMvc.perform(get("/contacts/export/" + jobId + "/file"))
+                                .andExpect(status().isOk())
+                                .andExpect(header().string("Accept-Ranges", "bytes"))
+                                .andExpect(content().string(startsWith("firstName,lastName,email")))
+                                .andExpect(content().string(containsString("john@example.com")))
+                                .andExpect(content().string(containsString("jane@example.com")))
+                                .andReturn();
+        byte[] file = full.getResponse().getContentAsByteArray();
+
+        // resume after the first 10 bytes
+        MvcResult rest = mockMvc.perform(get("/contacts/export/" + jobId + "/file").header("Range", "bytes=10-"))
+                                .andExpect(status().isPartialContent())
+                                .andExpect(header().string("Content-Range", "bytes 10-" + (file.length - 1) + "/" + file.length))
+                                .andReturn();
+        assertArrayEquals(Arrays.copyOfRange(file, 10, file.length), rest.getResponse().getContentAsByteArray());
+
+        mockMvc.perform(get("/contacts/export/" + jobId + "/file").header("Range", "bytes=" + file.length + "-"))
+               .andExpect(status().isRequestedRangeNotSatisfiable())
+               .andExpect(header().string("Content-Range", "bytes */" + file.length));
     }
 
     // =====================================================
@@ -218,4 +550,82 @@ class ContactIntegrationTest {
                        .content(objectMapper.writeValueAsString(dto)))
                .andExpect(status().isForbidden());
     }
+
+    // =====================================================
+    // QUERY COUNT
+    // =====================================================
+
+    @Test
+    @WithMockUser(username = TEST_EMAIL)
+    @DisplayName("GET /contacts/getAll - Should issue at most 2 statements")
+    void getAllContacts_ShouldNotIssueExtraStatements() throws Exception {
+
+        createContactForTest("John");
+        createContactForTest("Alice");
+
+        MvcResult result = mockMvc.perform(get("/contacts/getAll"))
+                                  .andExpect(status().isOk())
+                                  .andReturn();
+
+        assertQueryCountAtMost(result, 2);
+    }
+
+    @Test
+    @WithMockUser(username = TEST_EMAIL)
+    @DisplayName("GET /contacts/getAll?name=John - Should issue at most 2 statements")
+    void searchContacts_ShouldNotIssueExtraStatements() throws Exception {
+
+        createContactForTest("John");
+
+        MvcResult result = mockMvc.perform(get("/contacts/getAll")
+                                          .param("name", "John"))
+                                  .andExpect(status().isOk())
+                                  .andReturn();
+
+        assertQueryCountAtMost(result, 2);
+    }
+
+    @Test
+    @WithMockUser(username = TEST_EMAIL)
+    @DisplayName("POST /contacts/create - Should issue at most 2 statements")
+    void createContact_ShouldNotIssueExtraStatements() throws Exception {
+
+        MvcResult result = mockMvc.perform(post("/contacts/create")
+                                          .contentType(MediaType.APPLICATION_JSON)
+                                          .content(objectMapper.writeValueAsString(buildValidContactDto("John"))))
+                                  .andExpect(status().isCreated())
+                                  .andReturn();
+
+        assertQueryCountAtMost(result, 2);
+    }
+
+    @Test
+    @WithMockUser(username = TEST_EMAIL)
+    @DisplayName("PUT /contacts/update/{id} - Should issue at most 3 statements")
+    void updateContact_ShouldNotIssueExtraStatements() throws Exception {
+
+        Contact contact = createContactForTest("Old");
+
+        MvcResult result = mockMvc.perform(put("/contacts/update/" + contact.getId())
+                                          .contentType(MediaType.APPLICATION_JSON)
+                                          .content(objectMapper.writeValueAsString(buildValidContactDto("Updated"))))
+                                  .andExpect(status().isOk())
+                                  .andReturn();
+
+        assertQueryCountAtMost(result, 3);
+    }
+
+    @Test
+    @WithMockUser(username = TEST_EMAIL)
+    @DisplayName("DELETE /contacts/delete/{id} - Should issue at most 3 statements")
+    void deleteContact_ShouldNotIssueExtraStatements() throws Exception {
+
+        Contact contact = createContactForTest("Delete");
+
+        MvcResult result = mockMvc.perform(delete("/contacts/delete/" + contact.getId()))
+                                  .andExpect(status().isNoContent())
+                                  .andReturn();
+
+        assertQueryCountAtMost(result, 3);
+    }
 }
@@ -0,0 +1,22 @@
+package com.internship.contact_management_backend.IntegrationTest;
+
+import com.internship.contact_management_backend.filter.QueryCountFilter;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Statement budgets of endpoints, read from the header of QueryCountFilter (debug.headers.enabled=true)
+final class QueryCountAssertions {
+
+    private QueryCountAssertions() {
+    }
+
+    static void assertQueryCountAtMost(MvcResult result, int expectedMax) {
+        String header = result.getResponse().getHeader(QueryCountFilter.HEADER);
+        assertNotNull(header, "Query count header should be present");
+        long count = Long.parseLong(header);
+        assertTrue(count <= expectedMax,
+                "Expected at most " + expectedMax + " statements but was " + count);
+    }
+}
@@ -17,13 +17,18 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
 
+import java.util.Map;
+
+import static com.internship.contact_management_backend.IntegrationTest.QueryCountAssertions.assertQueryCountAtMost;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
-@SpringBootTest
+@SpringBootTest(properties = {"debug.headers.enabled=true", "rate-limit.enabled=false"})
 @AutoConfigureMockMvc
 @DisplayName("User REST API Integration Tests")
 class UserIntegrationTest {
@@ -91,6 +96,34 @@ class UserIntegrationTest {
         return dto;
     }
 
+    private String loginAndGetRefreshToken() throws Exception {
+        MvcResult result = mockMvc.perform(post("/auth/login")
+                                          .contentType(MediaType.APPLICATION_JSON)
+                                          .content(objectMapper.writeValueAsString(
+                                                  createLoginRequest(TEST_EMAIL, RAW_PASSWORD))))
+                                  .andExpect(status().isOk())
+                                  .andExpect(jsonPath("$.refreshToken").exists())
+                                  .andReturn();
+        return JsonPath.read(result.getResponse().getContentAsString(), "$.refreshToken");
+    }
+
+    private String loginAndGetAccessToken() throws Exception {
+        MvcResult result = mockMvc.perform(post("/auth/login")
+                                          .contentType(MediaType.APPLICATION_JSON)
+                                          .content(objectMapper.writeValueAsString(
+                                                  createLoginRequest(TEST_EMAIL, RAW_PASSWORD))))
+                                  .andExpect(status().isOk())
+                                  .andReturn();
+        return JsonPath.read(result.getResponse().getContentAsString(), "$.token");
+    }
+
+    private ResultActions refresh(String refreshToken) throws Exception {
+        return mockMvc.perform(post("/auth/refresh")
+                                       .contentType(MediaType.APPLICATION_JSON)
+                                       .content(objectMapper.writeValueAsString(
+                                               Map.of("refreshToken", refreshToken))));
+    }
+
     // ==================== REGISTRATION TESTS ====================
 
     @Test
@@ -304,6 +337,86 @@ class UserIntegrationTest {
                                result.getResponse().getStatus() == 401));
     }
 
+    // ==================== REFRESH TOKEN TESTS ====================
+
+    @Test
+    @DisplayName("POST /auth/refresh - Should rotate the refresh token and issue a new access token")
+    void refresh_WithValidToken_ShouldRotate() throws Exception {
+        createAndSaveUser(TEST_EMAIL, RAW_PASSWORD);
+        String refreshToken = loginAndGetRefreshToken();
+
+        MvcResult result = refresh(refreshToken)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token").exists())
+                .andExpect(jsonPath("$.refreshToken").exists())
+                .andReturn();
+
+        String rotated = JsonPath.read(result.getResponse().getContentAsString(), "$.refreshToken");
+        assertNotEquals(refreshToken, rotated, "Refresh token should be rotated");
+        refresh(rotated).andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("POST /auth/refresh - Should revoke the whole family when a rotated token is reused")
+    void refresh_WithReusedToken_ShouldRevokeFamily() throws Exception {
+        createAndSaveUser(TEST_EMAIL, RAW_PASSWORD);
+        String refreshToken = loginAndGetRefreshToken();
+
+        MvcResult result = refresh(refreshToken).andExpect(status().isOk()).andReturn();
+        String rotated = JsonPath.read(result.getResponse().getContentAsString(), "$.refreshToken");
+
+        // the old token again: treated as stolen
+        refresh(refreshToken).andExpect(status().isUnauthorized());
+        // and the legitimate successor is revoked with it
+        refresh(rotated).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("POST /auth/refresh - Should reject an unknown token")
+    void refresh_WithUnknownToken_ShouldReturnUnauthorized() throws Exception {
+        refresh("not-a-real-token").andExpect(status().isUnauthorized());
+    }
+
+    // ==================== LOGOUT TESTS ====================
+
+    @Test
+    @DisplayName("POST /auth/logout - Should reject the access token afterwards")
+    void logout_ShouldRevokeAccessToken() throws Exception {
+        createAndSaveUser(TEST_EMAIL, RAW_PASSWORD);
+        String token = loginAndGetAccessToken();
+
+        mockMvc.perform(get("/profile/info").header("Authorization", "Bearer " + token))
+               .andExpect(status().isOk());
+
+        mockMvc.perform(post("/auth/logout").header("Authorization", "Bearer " + token))
+               .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/profile/info").header("Authorization", "Bearer " + token))
+               .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("POST /auth/logout-all - Should revoke access and refresh tokens of every session")
+    void logoutAll_ShouldRevokeEverySession() throws Exception {
+        createAndSaveUser(TEST_EMAIL, RAW_PASSWORD);
+        String otherSessionRefreshToken = loginAndGetRefreshToken();
+        String token = loginAndGetAccessToken();
+
+        mockMvc.perform(post("/auth/logout-all").header("Authorization", "Bearer " + token))
+               .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/profile/info").header("Authorization", "Bearer " + token))
+               .andExpect(status().isUnauthorized());
+        refresh(otherSessionRefreshToken).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("POST /auth/logout - Should require authentication")
+    void logout_WithoutToken_ShouldBeRejected() throws Exception {
+        mockMvc.perform(post("/auth/logout"))
+               .andExpect(status().is4xxClientError());
+    }
+
     // ==================== PASSWORD UPDATE TESTS ====================
 
     @Test
@@ -335,6 +448,23 @@ class UserIntegrationTest {
                 "New password should be valid");
     }
 
+    @Test
+    @DisplayName("POST /profile/updatePassword - Should revoke the sessions opened with the old password")
+    void updatePasswordEndpoint_ShouldRevokeExistingSessions() throws Exception {
+        createAndSaveUser(TEST_EMAIL, RAW_PASSWORD);
+        String refreshToken = loginAndGetRefreshToken();
+        String token = loginAndGetAccessToken();
+
+        mockMvc.perform(post("/profile/updatePassword")
+                       .header("Authorization", "Bearer " + token)
+                       .contentType(MediaType.APPLICATION_JSON)
+                       .content(objectMapper.writeValueAsString(
+                               createPasswordUpdateRequest(RAW_PASSWORD, NEW_PASSWORD, NEW_PASSWORD))))
+               .andExpect(status().isNoContent());
+
+        refresh(refreshToken).andExpect(status().isUnauthorized());
+    }
+
     @Test
     @DisplayName("POST /profile/updatePassword - Should reject wrong old password")
     @WithMockUser(username = TEST_EMAIL)
@@ -482,4 +612,83 @@ class UserIntegrationTest {
         assertTrue(passwordEncoder.matches(SPECIAL_CHAR_PASSWORD, updatedUser.getPassword()),
                 "Password with special characters should be stored and verified correctly");
     }
-}
\ No newline at end of file
+
+    // ==================== QUERY COUNT TESTS ====================
+
+    @Test
+    @DisplayName("POST /auth/login - Should issue at most 2 statements")
+    void login_ShouldNotIssueExtraStatements() throws Exception {
+        createAndSaveUser(TEST_EMAIL, RAW_PASSWORD);
+
+        MvcResult result = mockMvc.perform(post("/auth/login")
+                                          .contentType(MediaType.APPLICATION_JSON)
+                                          .content(objectMapper.writeValueAsString(
+                                                  createLoginRequest(TEST_EMAIL, RAW_PASSWORD))))
+                                  .andExpect(status().isOk())
+                                  .andReturn();
+
+        assertQueryCountAtMost(result, 2);
+    }
+
+    @Test
+    @DisplayName("POST /profile/updatePassword - Should issue at most 2 statements")
+    @WithMockUser(username = TEST_EMAIL)
+    void updatePassword_ShouldNotIssueExtraStatements() throws Exception {
+        createAndSaveUser(TEST_EMAIL, RAW_PASSWORD);
+
+        UpdatePasswordDto dto = createPasswordUpdateRequest(RAW_PASSWORD, NEW_PASSWORD, NEW_PASSWORD);
+
+        MvcResult result = mockMvc.perform(post("/profile/updatePassword")
+                                          .contentType(MediaType.APPLICATION_JSON)
+                                          .content(objectMapper.writeValueAsString(dto)))
+                                  .andExpect(status().isNoContent())
+                                  .andReturn();
+
+        assertQueryCountAtMost(result, 2);
+    }
+
+    @Test
+    @DisplayName("POST /auth/register - Should issue at most 2 statements")
+    void register_ShouldNotIssueExtraStatements() throws Exception {
+        // the existence check (only when the email filter says maybe) and the insert
+        MvcResult result = mockMvc.perform(post("/auth/register")
+                                          .contentType(MediaType.APPLICATION_JSON)
+                                          .content(objectMapper.writeValueAsString(testUser)))
+                                  .andExpect(status().isCreated())
+                                  .andReturn();
+
+        assertQueryCountAtMost(result, 2);
+    }
+
+    @Test
+    @DisplayName("GET /profile/info - Should issue at most 1 statement")
+    @WithMockUser(username = TEST_EMAIL)
+    void profileInfo_ShouldNotIssueExtraStatements() throws Exception {
+        createAndSaveUser(TEST_EMAIL, RAW_PASSWORD);
+
+        MvcResult result = mockMvc.perform(get("/profile/info"))
+                                  .andExpect(status().isOk())
+                                  .andReturn();
+
+        assertQueryCountAtMost(result, 1);
+    }
+
+    // ==================== INTERNAL ENDPOINT TESTS ====================
+
+    @Test
+    @DisplayName("GET /actuator/heavyhitters - Should be forbidden for a normal user")
+    @WithMockUser(username = TEST_EMAIL)
+    void heavyHitters_AsUser_ShouldReturnForbidden() throws Exception {
+        mockMvc.perform(get("/actuator/heavyhitters"))
+               .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("GET /actuator/heavyhitters - Should be readable by an admin")
+    @WithMockUser(username = "admin@example.com", roles = "ADMIN")
+    void heavyHitters_AsAdmin_ShouldReturnSnapshot() throws Exception {
+        mockMvc.perform(get("/actuator/heavyhitters"))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.windowRequests").exists());
+    }
+}
@@ -0,0 +1,105 @@
+package com.internship.contact_management_backend.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeavyHitterTrackerTest {
+
+    private final HeavyHitterTracker tracker = new HeavyHitterTracker(2, 2, 20, 1024);
+
+    @Test
+    void rotate_ShouldMakeTheBusiestUsersOfTheWindowHot() {
+        // Arrange: two heavy users and many one-off users
+        HeavyHitterTracker tracker = new HeavyHitterTracker(10, 2, 20, 1024);
+        for (int i = 0; i < 60; i++) {
+            tracker.record("heavy@example.com");
+            if (i % 2 == 0) {
+                tracker.record("busy@example.com");
+            }
+        }
+        for (int i = 0; i < 100; i++) {
+            tracker.record("user" + i + "@example.com");
+        }
+
+        // Act
+        tracker.rotate();
+
+        // Assert
+        HeavyHitterTracker.Snapshot snapshot = tracker.snapshot();
+        List<String> top = snapshot.lastWindow().stream().map(SpaceSaving.Counter::key).toList();
+        assertEquals(List.of("heavy@example.com", "busy@example.com"), top.subList(0, 2));
+        assertTrue(tracker.isHot("heavy@example.com"));
+        assertTrue(tracker.isHot("busy@example.com"));
+        assertFalse(tracker.isHot("user1@example.com"));
+        assertEquals(0, snapshot.windowRequests());
+    }
+
+    @Test
+    void rotate_ShouldNotMakeUsersBelowTheMinimumHot() {
+        for (int i = 0; i < 5; i++) {
+            tracker.record("light@example.com");
+        }
+
+        tracker.rotate();
+
+        assertFalse(tracker.isHot("light@example.com"));
+    }
+
+    @Test
+    void admits_ShouldRequireARepeatRequest() {
+        tracker.record("new@example.com");
+        assertFalse(tracker.admits("new@example.com"));
+
+        tracker.record("new@example.com");
+        assertTrue(tracker.admits("new@example.com"));
+    }
+
+    @Test
+    void rotate_ShouldAgeTheFrequencies() {
+        for (int i = 0; i < 8; i++) {
+            tracker.record("user@example.com");
+        }
+
+        tracker.rotate();
+        tracker.rotate();
+
+        assertEquals(2, tracker.frequency("user@example.com"));
+    }
+
+    @Test
+    void spaceSaving_ShouldKeepAFrequentKeyAmongManyRareOnes() {
+        SpaceSaving summary = new SpaceSaving(4);
+
+        for (int i = 0; i < 100; i++) {
+            summary.offer("rare" + i);
+            summary.offer("frequent");
+        }
+
+        SpaceSaving.Counter first = summary.top(1).get(0);
+        assertEquals("frequent", first.key());
+        assertTrue(first.guaranteed() > 0);
+        assertEquals(200, summary.total());
+    }
+
+    @Test
+    void spaceSaving_ShouldReplaceTheSmallestCountAndKeepItAsError() {
+        SpaceSaving summary = new SpaceSaving(3);
+        for (int i = 0; i < 3; i++) {
+            summary.offer("a");
+        }
+        summary.offer("b");
+        summary.offer("b");
+        summary.offer("c");
+
+        summary.offer("d");
+
+        List<SpaceSaving.Counter> top = summary.top(3);
+        assertEquals(List.of("a", "b", "d"), top.stream().map(SpaceSaving.Counter::key).toList());
+        assertEquals(new SpaceSaving.Counter("d", 2, 1), top.get(2));
+        assertEquals(new SpaceSaving.Counter("a", 3, 0), top.get(0));
+        assertEquals(7, summary.total());
+    }
+}
@@ -0,0 +1,70 @@
+package com.internship.contact_management_backend.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InvalidationBusTest {
+
+    private final List<InvalidationBus> buses = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        buses.forEach(InvalidationBus::close);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void publish_ShouldInvalidateLocallyAtOnceAndOtherNodesOnFlush() {
+        // Arrange
+        InvalidationBus local = bus();
+        InvalidationBus remote = bus();
+        List<String> localKeys = new CopyOnWriteArrayList<>();
+        List<String> remoteKeys = new CopyOnWriteArrayList<>();
+        local.subscribe(CacheRegion.CONTACTS, localKeys::add);
+        remote.subscribe(CacheRegion.CONTACTS, remoteKeys::add);
+
+        // Act
+        local.publish(CacheRegion.CONTACTS, "a@example.com");
+        local.publish(CacheRegion.CONTACTS, "a@example.com");
+        local.publish(CacheRegion.USERS, "a@example.com");
+
+        // Assert: the other node hears nothing until the batch goes out, and only once per key
+        assertEquals(List.of("a@example.com", "a@example.com"), localKeys);
+        assertTrue(remoteKeys.isEmpty());
+        local.flush();
+        assertEquals(List.of("a@example.com"), remoteKeys);
+    }
+
+    @Test
+    void publish_InsideTransaction_ShouldWaitForCommit() {
+        // Arrange
+        InvalidationBus bus = bus();
+        List<String> keys = new CopyOnWriteArrayList<>();
+        bus.subscribe(CacheRegion.USERS, keys::add);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        bus.publish(CacheRegion.USERS, "a@example.com");
+        assertTrue(keys.isEmpty());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // Assert
+        assertEquals(List.of("a@example.com"), keys);
+    }
+
+    private InvalidationBus bus() {
+        InvalidationBus bus = new InvalidationBus(new InJvmInvalidationBroadcaster());
+        buses.add(bus);
+        return bus;
+    }
+}
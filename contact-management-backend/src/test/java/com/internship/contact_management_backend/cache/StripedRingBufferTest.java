@@ -0,0 +1,73 @@
+package com.internship.contact_management_backend.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StripedRingBufferTest {
+
+    @Test
+    void offer_ShouldNotDropAnything_WhenASingleThreadFillsItsStripe() {
+        List<String> drained = new ArrayList<>();
+        StripedRingBuffer buffer = new StripedRingBuffer(drained::add);
+
+        for (int i = 0; i < StripedRingBuffer.STRIPE_SIZE * 3; i++) {
+            assertTrue(buffer.offer("k" + i));
+        }
+        buffer.drain();
+
+        assertEquals(StripedRingBuffer.STRIPE_SIZE * 3, drained.size());
+        assertEquals("k0", drained.get(0));
+        assertEquals("k47", drained.get(47));
+    }
+
+    @Test
+    void offer_ShouldHandEveryKeptElementToTheConsumerOnce_UnderContention() throws Exception {
+        // Arrange: the consumer is not thread safe, the buffer must serialize it
+        AtomicInteger inside = new AtomicInteger();
+        AtomicInteger overlaps = new AtomicInteger();
+        LongAdder consumed = new LongAdder();
+        StripedRingBuffer buffer = new StripedRingBuffer(element -> {
+            if (inside.incrementAndGet() > 1) {
+                overlaps.incrementAndGet();
+            }
+            consumed.increment();
+            inside.decrementAndGet();
+        });
+        LongAdder kept = new LongAdder();
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // Act
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < 10_000; i++) {
+                    if (buffer.offer("user")) {
+                        kept.increment();
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        buffer.drain();
+
+        // Assert
+        assertEquals(0, overlaps.get());
+        assertEquals(kept.sum(), consumed.sum());
+        assertTrue(kept.sum() > 0);
+    }
+}
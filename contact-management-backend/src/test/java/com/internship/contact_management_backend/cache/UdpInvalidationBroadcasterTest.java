@@ -0,0 +1,53 @@
+package com.internship.contact_management_backend.cache;
+
+import com.internship.contact_management_backend.config.CacheInvalidationProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UdpInvalidationBroadcasterTest {
+
+    @Test
+    void send_OverLoopback_ShouldDeliverBatchesLargerThanOnePacket() throws Exception {
+        // Arrange: unicast on ephemeral ports, the sender knows the receiver
+        UdpInvalidationBroadcaster receiver = new UdpInvalidationBroadcaster(properties(List.of()));
+        UdpInvalidationBroadcaster sender =
+                new UdpInvalidationBroadcaster(properties(List.of("127.0.0.1:" + receiver.localPort())));
+        Set<Invalidation> received = ConcurrentHashMap.newKeySet();
+        receiver.start(received::addAll);
+
+        List<Invalidation> batch = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            batch.add(new Invalidation(i % 2 == 0 ? CacheRegion.CONTACTS : CacheRegion.USERS,
+                                       "user-" + i + "@example.com"));
+        }
+        try {
+            // Act
+            sender.send(batch);
+
+            // Assert
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (received.size() < batch.size() && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(Set.copyOf(batch), received);
+        } finally {
+            sender.close();
+            receiver.close();
+        }
+    }
+
+    private static CacheInvalidationProperties properties(List<String> peers) {
+        CacheInvalidationProperties properties = new CacheInvalidationProperties();
+        properties.getUdp().setGroup("");
+        properties.getUdp().setPort(0);
+        properties.getUdp().setPeers(peers);
+        return properties;
+    }
+}
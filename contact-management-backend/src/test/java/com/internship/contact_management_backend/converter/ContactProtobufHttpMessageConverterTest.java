@@ -0,0 +1,49 @@
+package com.internship.contact_management_backend.converter;
+
+import com.internship.contact_management_backend.dto.ContactDto;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContactProtobufHttpMessageConverterTest {
+
+    private final ContactProtobufHttpMessageConverter converter = new ContactProtobufHttpMessageConverter();
+
+    @Test
+    void write_ShouldEmitAResponseWriteEventWithTheBodySize(@TempDir Path dir) throws Exception {
+        // Arrange
+        ContactDto contact = new ContactDto();
+        contact.setId(1L);
+        contact.setFirstName("John");
+        contact.setLastName("Smith");
+        contact.setEmail("john@example.com");
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+        Path file = dir.resolve("write.jfr");
+
+        // Act
+        try (Recording recording = new Recording()) {
+            recording.enable("contactmanagement.ResponseWrite").withThreshold(Duration.ZERO);
+            recording.start();
+            converter.write(contact, ContactProtobufHttpMessageConverter.PROTOBUF, message);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // Assert
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        assertEquals("ContactDto", event.getString("bodyType"));
+        assertEquals(message.getBodyAsBytes().length, event.getLong("bytes"));
+        assertTrue(event.getLong("bytes") > 0);
+    }
+}
@@ -0,0 +1,87 @@
+package com.internship.contact_management_backend.exporter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.internship.contact_management_backend.dto.ContactDto;
+import com.internship.contact_management_backend.importer.CsvContactReader;
+import com.internship.contact_management_backend.importer.ImportRow;
+import com.internship.contact_management_backend.importer.VCardContactReader;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContactExportWritersTest {
+
+    private static final ContactDto CONTACT = ContactDto.builder()
+                                                        .id(7L)
+                                                        .firstName("Mary, Ann")
+                                                        .lastName("O\"Neil;Smith")
+                                                        .email("mary@example.com")
+                                                        .emailLabel("Work")
+                                                        .phoneNumber("+923242650627")
+                                                        .phoneNumberLabel("Mobile")
+                                                        .build();
+
+    @Test
+    void csv_ShouldRoundTripThroughTheImporter() throws IOException {
+        // Arrange
+        StringWriter out = new StringWriter();
+
+        // Act
+        try (ContactExportWriter writer = ExportFormat.CSV.open(out, new ObjectMapper())) {
+            writer.write(CONTACT);
+        }
+        ImportRow row = new CsvContactReader(new StringReader(out.toString())).next();
+
+        // Assert
+        assertNull(row.error());
+        assertEquals("Mary, Ann", row.contact().getFirstName());
+        assertEquals("O\"Neil;Smith", row.contact().getLastName());
+        assertEquals("Mobile", row.contact().getPhoneNumberLabel());
+    }
+
+    @Test
+    void vcard_ShouldEscapeValuesAndRoundTripThroughTheImporter() throws IOException {
+        // Arrange
+        StringWriter out = new StringWriter();
+
+        // Act
+        try (ContactExportWriter writer = ExportFormat.VCARD.open(out, new ObjectMapper())) {
+            writer.write(CONTACT);
+        }
+        ImportRow row = new VCardContactReader(new StringReader(out.toString())).next();
+
+        // Assert
+        assertTrue(out.toString().contains("TEL;VALUE=uri;TYPE=cell:tel:+923242650627"));
+        assertEquals("Mary, Ann", row.contact().getFirstName());
+        assertEquals("O\"Neil;Smith", row.contact().getLastName());
+        assertEquals("Work", row.contact().getEmailLabel());
+        assertEquals("Mobile", row.contact().getPhoneNumberLabel());
+    }
+
+    @Test
+    void ndjson_ShouldWriteOneObjectPerLine() throws IOException {
+        // Arrange
+        StringWriter out = new StringWriter();
+
+        // Act
+        try (ContactExportWriter writer = ExportFormat.NDJSON.open(out, new ObjectMapper())) {
+            writer.write(CONTACT);
+            writer.write(CONTACT);
+        }
+
+        // Assert
+        String[] lines = out.toString().split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("mary@example.com", new ObjectMapper().readTree(lines[1]).get("email").asText());
+    }
+
+    @Test
+    void parse_WithUnknownFormat_ShouldThrowIllegalArgument() {
+        assertEquals(ExportFormat.VCARD, ExportFormat.parse("vcf"));
+        assertThrows(IllegalArgumentException.class, () -> ExportFormat.parse("xlsx"));
+    }
+}
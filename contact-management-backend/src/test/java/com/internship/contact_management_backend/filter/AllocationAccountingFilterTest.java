@@ -0,0 +1,84 @@
+package com.internship.contact_management_backend.filter;
+
+import com.sun.management.ThreadMXBean;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AllocationAccountingFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ThreadMXBean threadMXBean = mock(ThreadMXBean.class);
+
+    @Test
+    void doFilter_ShouldRecordTheAllocatedBytesAndSetTheHeader() throws Exception {
+        // Arrange: the request thread allocates 4096 bytes
+        when(threadMXBean.isThreadAllocatedMemorySupported()).thenReturn(true);
+        when(threadMXBean.getCurrentThreadAllocatedBytes()).thenReturn(1000L, 5096L);
+        AllocationAccountingFilter filter = new AllocationAccountingFilter(meterRegistry, true, threadMXBean);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("GET", "/contacts/getAll"), response, new MockFilterChain());
+
+        // Assert
+        assertEquals("4096", response.getHeader(AllocationAccountingFilter.HEADER));
+        DistributionSummary summary = meterRegistry.get("http.server.requests.allocated")
+                                                   .tag("handler", "unmapped")
+                                                   .summary();
+        assertEquals(1, summary.count());
+        assertEquals(4096, summary.totalAmount());
+        verify(threadMXBean).setThreadAllocatedMemoryEnabled(true);
+    }
+
+    @Test
+    void doFilter_WithoutDebugHeaders_ShouldOnlyRecordTheMetric() throws Exception {
+        when(threadMXBean.isThreadAllocatedMemorySupported()).thenReturn(true);
+        when(threadMXBean.getCurrentThreadAllocatedBytes()).thenReturn(0L, 128L);
+        AllocationAccountingFilter filter = new AllocationAccountingFilter(meterRegistry, false, threadMXBean);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/contacts/getAll"), response, new MockFilterChain());
+
+        assertNull(response.getHeader(AllocationAccountingFilter.HEADER));
+        assertEquals(1, meterRegistry.get("http.server.requests.allocated").summary().count());
+    }
+
+    @Test
+    void doFilter_WhenAllocationTrackingIsUnsupported_ShouldOnlyPassTheRequestOn() throws Exception {
+        // Arrange
+        when(threadMXBean.isThreadAllocatedMemorySupported()).thenReturn(false);
+        AllocationAccountingFilter filter = new AllocationAccountingFilter(meterRegistry, true, threadMXBean);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("GET", "/contacts/getAll"), response, chain);
+
+        // Assert
+        assertNotNull(chain.getRequest());
+        assertNull(response.getHeader(AllocationAccountingFilter.HEADER));
+        assertNull(meterRegistry.find("http.server.requests.allocated").summary());
+        verify(threadMXBean, never()).setThreadAllocatedMemoryEnabled(anyBoolean());
+        verify(threadMXBean, never()).getCurrentThreadAllocatedBytes();
+    }
+
+    @Test
+    void filter_ShouldOnlyBeRegisteredWhenEnabled() {
+        ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+                .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+                .withUserConfiguration(AllocationAccountingFilter.class);
+
+        contextRunner.run(context -> assertTrue(context.getBeansOfType(AllocationAccountingFilter.class).isEmpty()));
+        contextRunner.withPropertyValues("allocation.accounting.enabled=true")
+                     .run(context -> assertNotNull(context.getBean(AllocationAccountingFilter.class)));
+    }
+}
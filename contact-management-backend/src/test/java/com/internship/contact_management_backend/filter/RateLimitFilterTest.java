@@ -0,0 +1,116 @@
+package com.internship.contact_management_backend.filter;
+
+import com.internship.contact_management_backend.config.JwtKeyProperties;
+import com.internship.contact_management_backend.config.RateLimitProperties;
+import com.internship.contact_management_backend.utils.Hs256TokenVerifier;
+import com.internship.contact_management_backend.utils.JwtKeyRing;
+import com.internship.contact_management_backend.utils.JwtUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitFilterTest {
+
+    private static final String SECRET = "MyJwtSecretKey1234567891234567891234567891234";
+    private static final String CLIENT_IP = "203.0.113.7";
+
+    private JwtUtil jwtUtil;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        JwtKeyProperties keyProperties = new JwtKeyProperties();
+        keyProperties.setActive("k1");
+        keyProperties.getSecrets().put("k1", SECRET);
+        JwtKeyRing keyRing = new JwtKeyRing(keyProperties);
+        jwtUtil = new JwtUtil(keyRing, 60_000);
+
+        // two back-to-back requests per key on each route
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRules(List.of(rule("POST", "/auth/login", RateLimitProperties.Key.IP),
+                                    rule(null, "/contacts/**", RateLimitProperties.Key.USER)));
+        filter = new RateLimitFilter(properties, new Hs256TokenVerifier(jwtUtil, keyRing), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void login_WithForgedSubjects_ShouldShareTheIpBucket() throws Exception {
+        // Arrange & Act: a new attacker-chosen subject on every attempt
+        int first = send("POST", "/auth/login", forgedToken()).getStatus();
+        int second = send("POST", "/auth/login", forgedToken()).getStatus();
+        int third = send("POST", "/auth/login", forgedToken()).getStatus();
+
+        // Assert
+        assertEquals(200, first);
+        assertEquals(200, second);
+        assertEquals(429, third);
+    }
+
+    @Test
+    void contacts_WithForgedSubjects_ShouldFallBackToTheIpBucket() throws Exception {
+        send("GET", "/contacts/getAll", forgedToken());
+        send("GET", "/contacts/getAll", forgedToken());
+
+        assertEquals(429, send("GET", "/contacts/getAll", forgedToken()).getStatus());
+    }
+
+    @Test
+    void contacts_WithVerifiedTokens_ShouldKeyByUser() throws Exception {
+        // Arrange: one user uses up their bucket
+        String alice = jwtUtil.generateToken("alice@example.com");
+        send("GET", "/contacts/getAll", alice);
+        send("GET", "/contacts/getAll", alice);
+        assertEquals(429, send("GET", "/contacts/getAll", alice).getStatus());
+
+        // Act: another user behind the same IP
+        MockHttpServletRequest request = request("GET", "/contacts/getAll", jwtUtil.generateToken("bob@example.com"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+
+        // Assert: own bucket, and JwtFilter does not verify the token again
+        assertEquals(200, response.getStatus());
+        assertNotNull(request.getAttribute(JwtFilter.VERIFIED_TOKEN));
+    }
+
+    private MockHttpServletResponse send(String method, String path, String token) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(method, path, token), response, new MockFilterChain());
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String method, String path, String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setServletPath(path);
+        request.setRemoteAddr(CLIENT_IP);
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+
+    // well-formed but unsigned, with a random subject
+    private static String forgedToken() {
+        String payload = "{\"sub\":\"" + UUID.randomUUID() + "\"}";
+        return "eyJhbGciOiJIUzI1NiJ9."
+                + Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8))
+                + ".c2lnbmF0dXJl";
+    }
+
+    private static RateLimitProperties.Rule rule(String method, String path, RateLimitProperties.Key key) {
+        RateLimitProperties.Rule rule = new RateLimitProperties.Rule();
+        rule.setMethod(method);
+        rule.setPath(path);
+        rule.setLimit(2);
+        rule.setPeriod(Duration.ofMinutes(1));
+        rule.setKey(key);
+        return rule;
+    }
+}
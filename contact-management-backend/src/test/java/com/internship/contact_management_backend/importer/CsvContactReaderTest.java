@@ -0,0 +1,83 @@
+package com.internship.contact_management_backend.importer;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvContactReaderTest {
+
+    private static final String HEADER = "First Name,last_name,email,emailLabel,phone,phoneLabel\n";
+
+    @Test
+    void next_ShouldMapColumnsByHeaderName() throws IOException {
+        List<ImportRow> rows = readAll("\uFEFF" + HEADER + "John,Doe,john@example.com,Work,+923242650627,Mobile\n");
+
+        assertEquals(1, rows.size());
+        ImportRow row = rows.get(0);
+        assertEquals(2, row.line());
+        assertNull(row.error());
+        assertEquals("John", row.contact().getFirstName());
+        assertEquals("Doe", row.contact().getLastName());
+        assertEquals("+923242650627", row.contact().getPhoneNumber());
+        assertEquals("Mobile", row.contact().getPhoneNumberLabel());
+    }
+
+    @Test
+    void next_ShouldHandleQuotesEmbeddedLineBreaksAndBlankLines() throws IOException {
+        String csv = HEADER
+                + "\"Mary, Jane\",\"O\"\"Neil\",mary@example.com,Work,+923242650627,Mobile\r\n"
+                + "\r\n"
+                + "\"Multi\nLine\",Doe,multi@example.com,Work,+923242650627,Mobile\n"
+                + "Last,Doe,last@example.com,Work,+923242650627,Mobile";
+
+        List<ImportRow> rows = readAll(csv);
+
+        assertEquals(3, rows.size());
+        assertEquals("Mary, Jane", rows.get(0).contact().getFirstName());
+        assertEquals("O\"Neil", rows.get(0).contact().getLastName());
+        assertEquals("Multi\nLine", rows.get(1).contact().getFirstName());
+        assertEquals(4, rows.get(1).line());
+        assertEquals(6, rows.get(2).line());
+    }
+
+    @Test
+    void next_WithBlankCells_ShouldLeaveThemNullForValidation() throws IOException {
+        List<ImportRow> rows = readAll(HEADER + "John,,john@example.com\n");
+
+        assertNull(rows.get(0).contact().getLastName());
+        assertNull(rows.get(0).contact().getPhoneNumber());
+    }
+
+    @Test
+    void next_WithOversizedRecord_ShouldReportErrorAndContinue() throws IOException {
+        String huge = "x".repeat(CsvContactReader.MAX_RECORD_CHARS + 1);
+        List<ImportRow> rows = readAll(HEADER + huge + ",Doe,a@example.com,Work,+923242650627,Mobile\n"
+                                               + "John,Doe,john@example.com,Work,+923242650627,Mobile\n");
+
+        assertEquals(2, rows.size());
+        assertNotNull(rows.get(0).error());
+        assertEquals("John", rows.get(1).contact().getFirstName());
+    }
+
+    @Test
+    void next_WithMissingColumn_ShouldRejectFile() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> readAll("firstName,lastName,email\nJohn,Doe,john@example.com\n"));
+    }
+
+    private static List<ImportRow> readAll(String csv) throws IOException {
+        List<ImportRow> rows = new ArrayList<>();
+        try (CsvContactReader reader = new CsvContactReader(new StringReader(csv))) {
+            ImportRow row;
+            while ((row = reader.next()) != null) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,44 @@
+package com.internship.contact_management_backend.importer;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImportRowErrorsTest {
+
+    @Test
+    void describe_WithCheckConstraint_ShouldUseTheValidationMessage() {
+        String error = ImportRowErrors.describe(rejected("Check constraint 'chk_email_format' is violated."));
+
+        assertEquals("Email must be valid", error);
+    }
+
+    @Test
+    void describe_WithColumnError_ShouldNameTheFieldOnly() {
+        assertEquals("Email is too long",
+                ImportRowErrors.describe(rejected("Data truncation: Data too long for column 'email' at row 1")));
+        assertEquals("First name is required",
+                ImportRowErrors.describe(rejected("Column 'first_name' cannot be null")));
+        assertEquals("Last name contains unsupported characters",
+                ImportRowErrors.describe(rejected("Incorrect string value: '\\xF0\\x9F\\x98\\x80' for column 'last_name' at row 1")));
+    }
+
+    @Test
+    void describe_WithUnknownFailure_ShouldNotLeakTheDatabaseMessage() {
+        String foreignKey = "Cannot add or update a child row: a foreign key constraint fails "
+                + "(`ContactManagementSystem`.`contacts`, CONSTRAINT `fk_contacts_user` FOREIGN KEY (`user_id`))";
+
+        assertEquals("Could not be saved", ImportRowErrors.describe(rejected(foreignKey)));
+        assertEquals("Could not be saved", ImportRowErrors.describe(rejected("Column 'user_id' cannot be null")));
+        assertEquals("Could not be saved",
+                ImportRowErrors.describe(new QueryTimeoutException("Statement cancelled due to timeout")));
+    }
+
+    private static DataIntegrityViolationException rejected(String driverMessage) {
+        return new DataIntegrityViolationException("could not execute statement", new SQLException(driverMessage));
+    }
+}
@@ -0,0 +1,88 @@
+package com.internship.contact_management_backend.importer;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VCardContactReaderTest {
+
+    @Test
+    void next_WithVCard3_ShouldReadNameEmailAndPhone() throws IOException {
+        String vcf = """
+                BEGIN:VCARD
+                VERSION:3.0
+                N:Doe;John;;;
+                FN:John Doe
+                EMAIL;TYPE=INTERNET,WORK:john@example.com
+                TEL;TYPE=CELL:+92 324 265-0627
+                END:VCARD
+                """;
+
+        List<ImportRow> rows = readAll(vcf);
+
+        assertEquals(1, rows.size());
+        assertEquals(1, rows.get(0).line());
+        assertEquals("John", rows.get(0).contact().getFirstName());
+        assertEquals("Doe", rows.get(0).contact().getLastName());
+        assertEquals("john@example.com", rows.get(0).contact().getEmail());
+        assertEquals("Work", rows.get(0).contact().getEmailLabel());
+        assertEquals("+923242650627", rows.get(0).contact().getPhoneNumber());
+        assertEquals("Mobile", rows.get(0).contact().getPhoneNumberLabel());
+    }
+
+    @Test
+    void next_WithVCard4_ShouldUnfoldLinesAndPreferPrefValues() throws IOException {
+        String vcf = "BEGIN:VCARD\r\n"
+                + "VERSION:4.0\r\n"
+                + "FN:Jane\r\n"
+                + "  Smith\r\n"
+                + "item1.EMAIL;TYPE=home:jane@example.com\r\n"
+                + "EMAIL;PREF=1;TYPE=work:jane.smith@example.com\r\n"
+                + "TEL;VALUE=uri;TYPE=\"voice,home\":tel:+1-555-555-0100\r\n"
+                + "END:VCARD\r\n";
+
+        List<ImportRow> rows = readAll(vcf);
+
+        assertEquals("Jane", rows.get(0).contact().getFirstName());
+        assertEquals("Smith", rows.get(0).contact().getLastName());
+        assertEquals("jane.smith@example.com", rows.get(0).contact().getEmail());
+        assertEquals("Work", rows.get(0).contact().getEmailLabel());
+        assertEquals("+15555550100", rows.get(0).contact().getPhoneNumber());
+        assertEquals("Home", rows.get(0).contact().getPhoneNumberLabel());
+    }
+
+    @Test
+    void next_WithBrokenCard_ShouldReportItAndReadTheNextOne() throws IOException {
+        String vcf = """
+                BEGIN:VCARD
+                N:Broken;Card;;;
+                BEGIN:VCARD
+                N:Doe;John;;;
+                END:VCARD
+                """;
+
+        List<ImportRow> rows = readAll(vcf);
+
+        assertEquals(2, rows.size());
+        assertEquals(1, rows.get(0).line());
+        assertNotNull(rows.get(0).error());
+        assertEquals(3, rows.get(1).line());
+        assertEquals("John", rows.get(1).contact().getFirstName());
+    }
+
+    private static List<ImportRow> readAll(String vcf) throws IOException {
+        List<ImportRow> rows = new ArrayList<>();
+        try (VCardContactReader reader = new VCardContactReader(new StringReader(vcf))) {
+            ImportRow row;
+            while ((row = reader.next()) != null) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,35 @@
+package com.internship.contact_management_backend.jdbc;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlNormalizerTest {
+
+    @Test
+    void normalize_ShouldCollapseWhitespace() {
+        assertEquals("select c1_0.id from contacts c1_0 where c1_0.user_id=?",
+                SqlNormalizer.normalize("select c1_0.id\n  from contacts c1_0\n where c1_0.user_id=?"));
+    }
+
+    @Test
+    void normalize_ShouldReplaceLiterals_ButKeepAliases() {
+        assertEquals("select c1_0.id from contacts c1_0 where c1_0.id=? and c1_0.first_name=? limit ?",
+                SqlNormalizer.normalize("select c1_0.id from contacts c1_0 where c1_0.id=42 and c1_0.first_name='O''Neil' limit 10"));
+    }
+
+    @Test
+    void normalize_ShouldGroupInListsOfDifferentSizes() {
+        String two = SqlNormalizer.normalize("delete from contacts where id in (?, ?)");
+        String five = SqlNormalizer.normalize("delete from contacts where id in (?,?,?,?,?)");
+
+        assertEquals("delete from contacts where id in (?...)", two);
+        assertEquals(two, five);
+    }
+
+    @Test
+    void normalize_ShouldGroupMultiRowInserts() {
+        assertEquals("insert into contacts (a,b) values (?...)",
+                SqlNormalizer.normalize("insert into contacts (a,b) values (?,?),(?,?), (?,?)"));
+    }
+}
@@ -0,0 +1,78 @@
+package com.internship.contact_management_backend.jdbc;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ProxyConfig;
+import net.ttddyy.dsproxy.proxy.ResultSetProxyLogic;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(OutputCaptureExtension.class)
+class StatementMetricsListenerTest {
+
+    private static final List<QueryInfo> SELECT = List.of(new QueryInfo("select c1_0.id from contacts c1_0"));
+
+    private final StatementMetricsListener listener = new StatementMetricsListener(new SimpleMeterRegistry(), 100);
+
+    @Test
+    void slowSelect_ShouldBeLoggedWithItsRows_WhenTheResultSetIsClosed(CapturedOutput output) throws Throwable {
+        // Arrange
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true, true, false);
+        ExecutionInfo execInfo = execution(150, resultSet);
+
+        // Act
+        listener.beforeQuery(execInfo, SELECT);
+        ResultSetProxyLogic logic = listener.create(resultSet, null, ProxyConfig.Builder.create().build());
+        listener.afterQuery(execInfo, SELECT);
+        for (int i = 0; i < 3; i++) {
+            logic.invoke(null, ResultSet.class.getMethod("next"), null);
+        }
+        assertFalse(output.getOut().contains("Slow query"), "Logged before the rows were read");
+        logic.invoke(null, ResultSet.class.getMethod("close"), null);
+
+        // Assert
+        assertTrue(output.getOut().contains("Slow query 150ms rows=2 "));
+        verify(resultSet).close();
+    }
+
+    @Test
+    void slowSelect_ShouldOmitTheRows_WhenResultSetsAreNotProxied(CapturedOutput output) {
+        ExecutionInfo execInfo = execution(150, mock(ResultSet.class));
+
+        listener.beforeQuery(execInfo, SELECT);
+        listener.afterQuery(execInfo, SELECT);
+
+        assertTrue(output.getOut().contains("Slow query 150ms endpoint="));
+        assertFalse(output.getOut().contains("rows="));
+    }
+
+    @Test
+    void fastSelect_ShouldNotBeLogged(CapturedOutput output) throws Throwable {
+        ResultSet resultSet = mock(ResultSet.class);
+        ExecutionInfo execInfo = execution(5, resultSet);
+
+        listener.beforeQuery(execInfo, SELECT);
+        ResultSetProxyLogic logic = listener.create(resultSet, null, ProxyConfig.Builder.create().build());
+        listener.afterQuery(execInfo, SELECT);
+        logic.invoke(null, ResultSet.class.getMethod("close"), null);
+
+        assertFalse(output.getOut().contains("Slow query"));
+    }
+
+    private static ExecutionInfo execution(long elapsedMs, Object result) {
+        ExecutionInfo execInfo = new ExecutionInfo();
+        execInfo.setElapsedTime(elapsedMs);
+        execInfo.setResult(result);
+        return execInfo;
+    }
+}
@@ -0,0 +1,54 @@
+package com.internship.contact_management_backend.limit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GradientConcurrencyLimitTest {
+
+    private static final long MS = 1_000_000L;
+
+    @Test
+    void onSample_ShouldGrowLimit_WhenSaturatedAndLatencyIsStable() {
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(10, 2, 100, 1.5, 0.5, 10);
+
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(10 * MS, limit.getLimit());
+        }
+
+        assertTrue(limit.getLimit() > 10, "limit was " + limit.getLimit());
+    }
+
+    @Test
+    void onSample_ShouldNotGrowLimit_WhenApplicationLimited() {
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(10, 2, 100, 1.5, 0.5, 10);
+
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(10 * MS, 1);
+        }
+
+        assertEquals(10, limit.getLimit());
+    }
+
+    @Test
+    void onSample_ShouldShrinkLimit_WhenLatencyRises() {
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(50, 2, 100, 1.5, 0.5, 10);
+        for (int i = 0; i < 10; i++) {
+            limit.onSample(10 * MS, 50);
+        }
+        int before = limit.getLimit();
+
+        for (int i = 0; i < 50; i++) {
+            limit.onSample(100 * MS, 50);
+        }
+
+        assertTrue(limit.getLimit() < before, "limit was " + limit.getLimit());
+        assertTrue(limit.getLimit() >= 2);
+    }
+
+    @Test
+    void constructor_ShouldRejectInvalidBounds() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new GradientConcurrencyLimit(1, 2, 100, 1.5, 0.5, 10));
+    }
+}
@@ -0,0 +1,87 @@
+package com.internship.contact_management_backend.limit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimiterTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void tryAcquire_ShouldAdmitBurst_ThenReject() {
+        RateLimiter limiter = new RateLimiter(10, Duration.ofSeconds(10), 3, 100);
+
+        assertEquals(0, limiter.tryAcquire("a", 0));
+        assertEquals(0, limiter.tryAcquire("a", 0));
+        assertEquals(0, limiter.tryAcquire("a", 0));
+
+        long wait = limiter.tryAcquire("a", 0);
+        assertEquals(SECOND, wait);
+    }
+
+    @Test
+    void tryAcquire_ShouldRefillOverTime() {
+        RateLimiter limiter = new RateLimiter(10, Duration.ofSeconds(10), 1, 100);
+
+        assertEquals(0, limiter.tryAcquire("a", 0));
+        assertTrue(limiter.tryAcquire("a", SECOND / 2) > 0);
+        assertEquals(0, limiter.tryAcquire("a", SECOND));
+    }
+
+    @Test
+    void tryAcquire_ShouldKeepKeysIndependent() {
+        RateLimiter limiter = new RateLimiter(1, Duration.ofMinutes(1), 1, 100);
+
+        assertEquals(0, limiter.tryAcquire("a", 0));
+        assertEquals(0, limiter.tryAcquire("b", 0));
+        assertTrue(limiter.tryAcquire("a", 0) > 0);
+    }
+
+    @Test
+    void tryAcquire_ShouldStayWithinKeyLimit_WhenKeyLimitReached() {
+        RateLimiter limiter = new RateLimiter(1, Duration.ofMinutes(1), 1, 2);
+
+        assertEquals(0, limiter.tryAcquire("a", 0));
+        assertEquals(0, limiter.tryAcquire("b", 0));
+        assertEquals(0, limiter.tryAcquire("c", 0));
+        assertEquals(2, limiter.size());
+    }
+
+    @Test
+    void tryAcquire_ShouldNotThrottleNewKey_WhenMapIsFullOfBusyKeys() {
+        RateLimiter limiter = new RateLimiter(1, Duration.ofMinutes(1), 1, 100);
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire("attacker-" + i, 0);
+        }
+
+        assertEquals(0, limiter.tryAcquire("well-behaved", 0));
+        assertTrue(limiter.tryAcquire("well-behaved", 0) > 0);
+        assertEquals(100, limiter.size());
+    }
+
+    @Test
+    void tryAcquire_ShouldEvictTheMostIdleSampledBucket_WhenKeyLimitReached() {
+        RateLimiter limiter = new RateLimiter(1, Duration.ofMinutes(1), 1, 2);
+        limiter.tryAcquire("idle", 0);
+        limiter.tryAcquire("busy", 30 * SECOND);
+
+        limiter.tryAcquire("new", 30 * SECOND);
+
+        // the busy key kept its bucket and is still throttled
+        assertTrue(limiter.tryAcquire("busy", 30 * SECOND) > 0);
+        assertEquals(2, limiter.size());
+    }
+
+    @Test
+    void evictIdle_ShouldDropOnlyRefilledBuckets() {
+        RateLimiter limiter = new RateLimiter(10, Duration.ofSeconds(10), 5, 100);
+        limiter.tryAcquire("a", 0);
+        limiter.tryAcquire("b", 5 * SECOND);
+
+        assertEquals(1, limiter.evictIdle(2 * SECOND));
+        assertEquals(1, limiter.size());
+    }
+}
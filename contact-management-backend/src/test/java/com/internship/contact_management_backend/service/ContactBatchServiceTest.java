@@ -0,0 +1,192 @@
+package com.internship.contact_management_backend.service;
+
+import com.internship.contact_management_backend.dto.BatchOperationDto;
+import com.internship.contact_management_backend.dto.BatchOperationResultDto;
+import com.internship.contact_management_backend.dto.ContactDto;
+import com.internship.contact_management_backend.entity.Contact;
+import com.internship.contact_management_backend.entity.User;
+import com.internship.contact_management_backend.exception.ResourceNotFoundException;
+import com.internship.contact_management_backend.repository.ContactRepository;
+import com.internship.contact_management_backend.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ContactBatchServiceTest {
+
+    @Mock
+    private ContactRepository contactRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ContactBatchService contactBatchService;
+
+    private static final String TEST_EMAIL = "test@example.com";
+    private static final Long TEST_USER_ID = 1L;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        contactBatchService = new ContactBatchService(contactRepository, userRepository, new ContactReadCoalescer(),
+                                                      new TransactionTemplate(transactionManager));
+        testUser = new User();
+        testUser.setId(TEST_USER_ID);
+        testUser.setEmail(TEST_EMAIL);
+        lenient().when(userRepository.findByEmail(TEST_EMAIL)).thenReturn(Optional.of(testUser));
+    }
+
+    @Test
+    void apply_WithMixedOperations_ShouldLoadOnceAndReturnResultsInOrder() {
+        // Arrange
+        Contact first = contact(10L, "First");
+        Contact second = contact(11L, "Second");
+        when(contactRepository.findOwned(TEST_USER_ID, Set.of(10L, 11L))).thenReturn(List.of(first, second));
+        when(contactRepository.saveAll(any())).thenAnswer(invocation -> {
+            List<Contact> created = invocation.getArgument(0);
+            created.forEach(contact -> contact.setId(99L));
+            return created;
+        });
+
+        List<BatchOperationDto> operations = List.of(
+                operation(BatchOperationDto.Op.CREATE, null, dto("Created")),
+                operation(BatchOperationDto.Op.UPDATE, 10L, dto("Renamed")),
+                operation(BatchOperationDto.Op.DELETE, 11L, null));
+
+        // Act
+        List<BatchOperationResultDto> results = contactBatchService.apply(operations, TEST_EMAIL);
+
+        // Assert
+        assertEquals(List.of(201, 200, 204), results.stream().map(BatchOperationResultDto::getStatus).toList());
+        assertEquals(99L, results.get(0).getId());
+        assertEquals("Renamed", first.getFirstName());
+        assertEquals("Renamed", results.get(1).getContact().getFirstName());
+        assertNull(results.get(2).getContact());
+        verify(userRepository, times(1)).findByEmail(TEST_EMAIL);
+        verify(contactRepository).deleteAll(List.of(second));
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void apply_WithContactOfAnotherUser_ShouldRollBackWholeBatch() {
+        // Arrange: 12 is not returned because it belongs to someone else
+        when(contactRepository.findOwned(any(), any())).thenReturn(List.of(contact(10L, "First")));
+        List<BatchOperationDto> operations = List.of(
+                operation(BatchOperationDto.Op.DELETE, 10L, null),
+                operation(BatchOperationDto.Op.DELETE, 12L, null));
+
+        // Act & Assert
+        ResourceNotFoundException ex = assertThrows(ResourceNotFoundException.class,
+                () -> contactBatchService.apply(operations, TEST_EMAIL));
+        assertTrue(ex.getMessage().startsWith("Operation 1"));
+        verify(contactRepository, never()).deleteAll(any());
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void apply_WithSameIdDeletedTwice_ShouldFailSecondOperation() {
+        when(contactRepository.findOwned(any(), any())).thenReturn(List.of(contact(10L, "First")));
+        List<BatchOperationDto> operations = List.of(
+                operation(BatchOperationDto.Op.DELETE, 10L, null),
+                operation(BatchOperationDto.Op.UPDATE, 10L, dto("Renamed")));
+
+        assertThrows(ResourceNotFoundException.class, () -> contactBatchService.apply(operations, TEST_EMAIL));
+    }
+
+    @Test
+    void apply_WithSameIdUpdatedTwice_ShouldReportTheValuesOfEachOperation() {
+        // Arrange
+        Contact existing = contact(10L, "Original");
+        when(contactRepository.findOwned(TEST_USER_ID, Set.of(10L))).thenReturn(List.of(existing));
+        List<BatchOperationDto> operations = List.of(
+                operation(BatchOperationDto.Op.UPDATE, 10L, dto("FirstName")),
+                operation(BatchOperationDto.Op.UPDATE, 10L, dto("SecondName")));
+
+        // Act
+        List<BatchOperationResultDto> results = contactBatchService.apply(operations, TEST_EMAIL);
+
+        // Assert
+        assertEquals("FirstName", results.get(0).getContact().getFirstName());
+        assertEquals("SecondName", results.get(1).getContact().getFirstName());
+        assertEquals("SecondName", existing.getFirstName());
+        verify(contactRepository, times(1)).flush();
+    }
+
+    @Test
+    void apply_WithMixedOperations_ShouldWriteEachRunBeforeTheNextOne() {
+        // Arrange
+        Contact deleted = contact(10L, "Deleted");
+        Contact updated = contact(11L, "Updated");
+        when(contactRepository.findOwned(TEST_USER_ID, Set.of(10L, 11L))).thenReturn(List.of(deleted, updated));
+        List<BatchOperationDto> operations = List.of(
+                operation(BatchOperationDto.Op.DELETE, 10L, null),
+                operation(BatchOperationDto.Op.CREATE, null, dto("First")),
+                operation(BatchOperationDto.Op.CREATE, null, dto("Second")),
+                operation(BatchOperationDto.Op.UPDATE, 11L, dto("Renamed")));
+
+        // Act
+        contactBatchService.apply(operations, TEST_EMAIL);
+
+        // Assert: the delete is flushed before the inserts, the two creates are one saveAll
+        InOrder inOrder = inOrder(contactRepository);
+        inOrder.verify(contactRepository).deleteAll(List.of(deleted));
+        inOrder.verify(contactRepository).flush();
+        inOrder.verify(contactRepository).saveAll(argThat(created -> created instanceof List<?> list && list.size() == 2));
+        inOrder.verify(contactRepository).flush();
+        verify(contactRepository, times(1)).saveAll(any());
+    }
+
+    @Test
+    void apply_WithUpdateWithoutId_ShouldThrowIllegalArgumentBeforeAnyQuery() {
+        List<BatchOperationDto> operations = List.of(operation(BatchOperationDto.Op.UPDATE, null, dto("Renamed")));
+
+        assertThrows(IllegalArgumentException.class, () -> contactBatchService.apply(operations, TEST_EMAIL));
+        verifyNoInteractions(contactRepository, userRepository, transactionManager);
+    }
+
+    private Contact contact(Long id, String firstName) {
+        Contact contact = new Contact();
+        contact.setId(id);
+        contact.setFirstName(firstName);
+        contact.setUser(testUser);
+        return contact;
+    }
+
+    private static ContactDto dto(String firstName) {
+        return ContactDto.builder()
+                         .firstName(firstName)
+                         .lastName("Doe")
+                         .email("john@example.com")
+                         .emailLabel("Work")
+                         .phoneNumber("+923242650627")
+                         .phoneNumberLabel("Mobile")
+                         .build();
+    }
+
+    private static BatchOperationDto operation(BatchOperationDto.Op op, Long id, ContactDto contact) {
+        BatchOperationDto operation = new BatchOperationDto();
+        operation.setOp(op);
+        operation.setId(id);
+        operation.setContact(contact);
+        return operation;
+    }
+}
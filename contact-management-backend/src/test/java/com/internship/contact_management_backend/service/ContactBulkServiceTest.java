@@ -0,0 +1,129 @@
+package com.internship.contact_management_backend.service;
+
+import com.internship.contact_management_backend.dto.BulkDeleteRequestDto;
+import com.internship.contact_management_backend.dto.BulkLabelUpdateDto;
+import com.internship.contact_management_backend.dto.BulkOutcome;
+import com.internship.contact_management_backend.dto.BulkResultDto;
+import com.internship.contact_management_backend.entity.User;
+import com.internship.contact_management_backend.repository.ContactRepository;
+import com.internship.contact_management_backend.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ContactBulkServiceTest {
+
+    @Mock
+    private ContactRepository contactRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ContactBulkService contactBulkService;
+
+    private static final String TEST_EMAIL = "test@example.com";
+    private static final Long TEST_USER_ID = 1L;
+
+    @BeforeEach
+    void setUp() {
+        // chunks of two ids, each chunk runs in its own transaction
+        contactBulkService = new ContactBulkService(contactRepository, userRepository, new ContactReadCoalescer(),
+                                                    new TransactionTemplate(transactionManager), 2);
+        User user = new User();
+        user.setId(TEST_USER_ID);
+        user.setEmail(TEST_EMAIL);
+        lenient().when(userRepository.findByEmail(TEST_EMAIL)).thenReturn(Optional.of(user));
+    }
+
+    @Test
+    void deleteContacts_ByIds_ShouldDeleteOwnedIdsChunkByChunk() {
+        // Arrange: 12 belongs to someone else, 10 is listed twice
+        BulkDeleteRequestDto request = new BulkDeleteRequestDto();
+        request.setIds(List.of(10L, 11L, 12L, 10L));
+        when(contactRepository.lockOwnedIds(TEST_USER_ID, List.of(10L, 11L))).thenReturn(List.of(10L, 11L));
+        when(contactRepository.lockOwnedIds(TEST_USER_ID, List.of(12L))).thenReturn(List.of());
+
+        // Act
+        BulkResultDto result = contactBulkService.deleteContacts(request, TEST_EMAIL);
+
+        // Assert
+        assertEquals(2, result.getAffected());
+        assertEquals(List.of(10L, 11L, 12L), List.copyOf(result.getOutcomes().keySet()));
+        assertEquals(BulkOutcome.DELETED, result.getOutcomes().get(11L));
+        assertEquals(BulkOutcome.NOT_FOUND, result.getOutcomes().get(12L));
+        verify(contactRepository).deleteOwned(TEST_USER_ID, List.of(10L, 11L));
+        verify(contactRepository, times(1)).deleteOwned(eq(TEST_USER_ID), any());
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    void deleteContacts_ByName_ShouldPageUntilExhausted() {
+        // Arrange
+        BulkDeleteRequestDto request = new BulkDeleteRequestDto();
+        request.setName("john");
+        when(contactRepository.lockOwnedIdsMatching(eq(TEST_USER_ID), eq("john"), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(3L, 7L));
+        when(contactRepository.lockOwnedIdsMatching(eq(TEST_USER_ID), eq("john"), eq(7L), any(Pageable.class)))
+                .thenReturn(List.of(9L));
+
+        // Act
+        BulkResultDto result = contactBulkService.deleteContacts(request, TEST_EMAIL);
+
+        // Assert
+        assertEquals(3, result.getAffected());
+        verify(contactRepository).deleteOwned(TEST_USER_ID, List.of(3L, 7L));
+        verify(contactRepository).deleteOwned(TEST_USER_ID, List.of(9L));
+        verify(contactRepository, never()).lockOwnedIdsMatching(anyLong(), any(), eq(9L), any());
+    }
+
+    @Test
+    void deleteContacts_WithoutIdsOrName_ShouldThrowIllegalArgument() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> contactBulkService.deleteContacts(new BulkDeleteRequestDto(), TEST_EMAIL));
+        verifyNoInteractions(contactRepository);
+    }
+
+    @Test
+    void updateLabels_ShouldUpdateOwnedIdsAndReportTheRest() {
+        // Arrange
+        BulkLabelUpdateDto request = new BulkLabelUpdateDto();
+        request.setIds(List.of(10L, 12L));
+        request.setPhoneNumberLabel("Home");
+        when(contactRepository.lockOwnedIds(TEST_USER_ID, List.of(10L, 12L))).thenReturn(List.of(10L));
+
+        // Act
+        BulkResultDto result = contactBulkService.updateLabels(request, TEST_EMAIL);
+
+        // Assert
+        assertEquals(1, result.getAffected());
+        assertEquals(BulkOutcome.UPDATED, result.getOutcomes().get(10L));
+        assertEquals(BulkOutcome.NOT_FOUND, result.getOutcomes().get(12L));
+        verify(contactRepository).updateLabels(eq(TEST_USER_ID), eq(List.of(10L)), isNull(), eq("Home"), any());
+    }
+
+    @Test
+    void updateLabels_WithoutLabels_ShouldThrowIllegalArgument() {
+        BulkLabelUpdateDto request = new BulkLabelUpdateDto();
+        request.setIds(List.of(10L));
+
+        assertThrows(IllegalArgumentException.class, () -> contactBulkService.updateLabels(request, TEST_EMAIL));
+    }
+}
@@ -0,0 +1,145 @@
+package com.internship.contact_management_backend.service;
+
+import com.internship.contact_management_backend.cache.CacheRegion;
+import com.internship.contact_management_backend.cache.HeavyHitterTracker;
+import com.internship.contact_management_backend.cache.InJvmInvalidationBroadcaster;
+import com.internship.contact_management_backend.cache.InvalidationBus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContactReadCoalescerTest {
+
+    private static final String EMAIL = "test@example.com";
+
+    private final InvalidationBus localBus = new InvalidationBus(new InJvmInvalidationBroadcaster());
+    private final InvalidationBus remoteBus = new InvalidationBus(new InJvmInvalidationBroadcaster());
+    private final ContactReadCoalescer coalescer = new ContactReadCoalescer(localBus, null, Duration.ofMinutes(1),
+                                                                              Duration.ofMinutes(1), 100);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        localBus.close();
+        remoteBus.close();
+    }
+
+    @Test
+    void read_ShouldServeCachedResultUntilTheUserWrites() {
+        // Arrange
+        read();
+        read();
+        assertEquals(1, loads.get());
+
+        // Act
+        coalescer.write(EMAIL, () -> { });
+
+        // Assert
+        read();
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void read_ShouldLoadAgainAfterAnotherInstanceInvalidates() {
+        // Arrange
+        read();
+
+        // Act: a write on another instance, broadcast with its next flush
+        remoteBus.publish(CacheRegion.CONTACTS, EMAIL);
+        remoteBus.flush();
+
+        // Assert
+        read();
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void read_WithoutCache_ShouldLoadEveryTime() {
+        ContactReadCoalescer uncached = new ContactReadCoalescer();
+
+        uncached.read(EMAIL, List.of("getAll"), loads::incrementAndGet);
+        uncached.read(EMAIL, List.of("getAll"), loads::incrementAndGet);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void read_WithTracker_ShouldOnlyCacheUsersSeenBefore() {
+        // Arrange
+        HeavyHitterTracker tracker = new HeavyHitterTracker(10, 2, 20, 1024);
+        ContactReadCoalescer admitting = new ContactReadCoalescer(localBus, tracker, Duration.ofMinutes(1),
+                                                                  Duration.ofMinutes(5), 100);
+        tracker.record(EMAIL);
+
+        // Act: a first request is not cached
+        admitting.read(EMAIL, List.of("getAll"), loads::incrementAndGet);
+        admitting.read(EMAIL, List.of("getAll"), loads::incrementAndGet);
+        assertEquals(2, loads.get());
+
+        // Assert: the repeat request is
+        tracker.record(EMAIL);
+        admitting.read(EMAIL, List.of("getAll"), loads::incrementAndGet);
+        admitting.read(EMAIL, List.of("getAll"), loads::incrementAndGet);
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void prefetch_ShouldCacheAUserNotAdmittedYet() {
+        HeavyHitterTracker tracker = new HeavyHitterTracker(10, 2, 20, 1024);
+        ContactReadCoalescer admitting = new ContactReadCoalescer(localBus, tracker, Duration.ofMinutes(1),
+                                                                  Duration.ofMinutes(5), 100);
+
+        admitting.prefetch(EMAIL, List.of("getAll"), loads::incrementAndGet);
+
+        assertTrue(admitting.isCached(EMAIL, List.of("getAll")));
+    }
+
+    @Test
+    void read_WhenFull_ShouldNotEvictAHotUserForAColdOne() {
+        // Arrange: a hot user fills the one entry
+        HeavyHitterTracker tracker = new HeavyHitterTracker(10, 1, 20, 1024);
+        ContactReadCoalescer admitting = new ContactReadCoalescer(localBus, tracker, Duration.ofMinutes(1),
+                                                                  Duration.ofMinutes(5), 1);
+        for (int i = 0; i < 30; i++) {
+            tracker.record(EMAIL);
+        }
+        tracker.rotate();
+        admitting.read(EMAIL, List.of("getAll"), loads::incrementAndGet);
+
+        // Act: a user seen more often in the new window
+        for (int i = 0; i < 40; i++) {
+            tracker.record("other@example.com");
+        }
+        admitting.read("other@example.com", List.of("getAll"), loads::incrementAndGet);
+
+        // Assert
+        assertTrue(admitting.isCached(EMAIL, List.of("getAll")));
+        assertFalse(admitting.isCached("other@example.com", List.of("getAll")));
+    }
+
+    @Test
+    void read_WhenFull_ShouldEvictALessFrequentUser() {
+        HeavyHitterTracker tracker = new HeavyHitterTracker(10, 1, 20, 1024);
+        ContactReadCoalescer admitting = new ContactReadCoalescer(localBus, tracker, Duration.ofMinutes(1),
+                                                                  Duration.ofMinutes(5), 1);
+        tracker.record(EMAIL);
+        admitting.read(EMAIL, List.of("getAll"), loads::incrementAndGet);
+
+        for (int i = 0; i < 3; i++) {
+            tracker.record("other@example.com");
+        }
+        admitting.read("other@example.com", List.of("getAll"), loads::incrementAndGet);
+
+        assertFalse(admitting.isCached(EMAIL, List.of("getAll")));
+        assertTrue(admitting.isCached("other@example.com", List.of("getAll")));
+    }
+
+    private void read() {
+        coalescer.read(EMAIL, List.of("getAll"), loads::incrementAndGet);
+    }
+}
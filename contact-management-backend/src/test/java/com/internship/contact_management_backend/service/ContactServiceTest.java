@@ -1,5 +1,7 @@
 package com.internship.contact_management_backend.service;
 
+import com.internship.contact_management_backend.dto.ContactDto;
+import com.internship.contact_management_backend.dto.ContactField;
 import com.internship.contact_management_backend.entity.Contact;
 import com.internship.contact_management_backend.entity.User;
 import com.internship.contact_management_backend.exception.ResourceNotFoundException;
@@ -10,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -18,6 +21,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -33,6 +37,9 @@ class ContactServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Spy
+    private ContactReadCoalescer readCoalescer = new ContactReadCoalescer();
+
     @InjectMocks
     private ContactService contactService;
 
@@ -134,11 +141,14 @@ class ContactServiceTest {
                 .thenReturn(contacts);
 
         // Act
-        List<Contact> result = contactService.getContactsByEmail(TEST_EMAIL);
+        List<ContactDto> result = contactService.getContactsByEmail(TEST_EMAIL);
 
         // Assert
         assertNotNull(result);
         assertEquals(2, result.size());
+        assertEquals(testContact.getFirstName(), result.get(0).getFirstName());
+        // shared between requests through the read coalescer
+        assertThrows(UnsupportedOperationException.class, () -> result.add(new ContactDto()));
         verify(userRepository).findByEmail(TEST_EMAIL);
         verify(contactRepository).findByUserId(TEST_USER_ID);
     }
@@ -169,7 +179,7 @@ class ContactServiceTest {
                 .thenReturn(new ArrayList<>());
 
         // Act
-        List<Contact> result = contactService.getContactsByEmail(TEST_EMAIL);
+        List<ContactDto> result = contactService.getContactsByEmail(TEST_EMAIL);
 
         // Assert
         assertNotNull(result);
@@ -374,7 +384,7 @@ class ContactServiceTest {
                 .thenReturn(searchResults);
 
         // Act
-        List<Contact> result = contactService.searchContacts(keyword, TEST_EMAIL);
+        List<ContactDto> result = contactService.searchContacts(keyword, TEST_EMAIL);
 
         // Assert
         assertNotNull(result);
@@ -410,7 +420,7 @@ class ContactServiceTest {
                 .thenReturn(new ArrayList<>());
 
         // Act
-        List<Contact> result = contactService.searchContacts(keyword, TEST_EMAIL);
+        List<ContactDto> result = contactService.searchContacts(keyword, TEST_EMAIL);
 
         // Assert
         assertNotNull(result);
@@ -428,7 +438,7 @@ class ContactServiceTest {
                 .thenReturn(new ArrayList<>());
 
         // Act
-        List<Contact> result = contactService.searchContacts(keyword, TEST_EMAIL);
+        List<ContactDto> result = contactService.searchContacts(keyword, TEST_EMAIL);
 
         // Assert
         assertNotNull(result);
@@ -444,7 +454,7 @@ class ContactServiceTest {
                 .thenReturn(new ArrayList<>());
 
         // Act
-        List<Contact> result = contactService.searchContacts(null, TEST_EMAIL);
+        List<ContactDto> result = contactService.searchContacts(null, TEST_EMAIL);
 
         // Assert
         assertNotNull(result);
@@ -462,11 +472,67 @@ class ContactServiceTest {
                 .thenReturn(results);
 
         // Act
-        List<Contact> result = contactService.searchContacts(keyword, TEST_EMAIL);
+        List<ContactDto> result = contactService.searchContacts(keyword, TEST_EMAIL);
 
         // Assert
         assertNotNull(result);
         assertEquals(1, result.size());
         verify(contactRepository).searchContacts(TEST_USER_ID, keyword);
     }
+
+    // ==================== Sparse Fieldset Tests ====================
+
+    @Test
+    void getContactsByEmail_WithFields_ShouldUseProjection() {
+        // Arrange
+        Set<ContactField> fields = ContactField.parse("firstName,phoneNumber");
+        ContactDto projected = ContactDto.builder().id(TEST_CONTACT_ID).firstName("John").phoneNumber("+923242650627").build();
+        when(userRepository.findByEmail(TEST_EMAIL))
+                .thenReturn(Optional.of(testUser));
+        when(contactRepository.findProjected(TEST_USER_ID, null, fields))
+                .thenReturn(List.of(projected));
+
+        // Act
+        List<ContactDto> result = contactService.getContactsByEmail(TEST_EMAIL, fields);
+
+        // Assert
+        assertEquals(1, result.size());
+        assertNull(result.get(0).getEmail());
+        verify(contactRepository).findProjected(TEST_USER_ID, null, fields);
+        verify(contactRepository, never()).findByUserId(anyLong());
+    }
+
+    @Test
+    void searchContacts_WithFields_ShouldPassKeywordToProjection() {
+        // Arrange
+        Set<ContactField> fields = ContactField.parse("lastName");
+        when(userRepository.findByEmail(TEST_EMAIL))
+                .thenReturn(Optional.of(testUser));
+        when(contactRepository.findProjected(TEST_USER_ID, "Doe", fields))
+                .thenReturn(new ArrayList<>());
+
+        // Act
+        List<ContactDto> result = contactService.searchContacts("Doe", TEST_EMAIL, fields);
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verify(contactRepository).findProjected(TEST_USER_ID, "Doe", fields);
+        verify(contactRepository, never()).searchContacts(anyLong(), anyString());
+    }
+
+    @Test
+    void parseFields_ShouldAlwaysIncludeId() {
+        assertEquals(Set.of(ContactField.ID, ContactField.FIRST_NAME), ContactField.parse("firstName"));
+        assertEquals(ContactField.ALL, ContactField.parse(null));
+    }
+
+    @Test
+    void parseFields_WithUnknownField_ShouldThrowIllegalArgumentException() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> ContactField.parse("firstName,password")
+        );
+
+        assertEquals("Unknown contact field: password", exception.getMessage());
+    }
 }
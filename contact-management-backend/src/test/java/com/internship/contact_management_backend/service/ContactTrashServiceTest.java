@@ -0,0 +1,162 @@
+package com.internship.contact_management_backend.service;
+
+import com.internship.contact_management_backend.dto.TrashedContactDto;
+import com.internship.contact_management_backend.entity.Contact;
+import com.internship.contact_management_backend.entity.User;
+import com.internship.contact_management_backend.exception.ResourceNotFoundException;
+import com.internship.contact_management_backend.repository.ContactRepository;
+import com.internship.contact_management_backend.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ContactTrashServiceTest {
+
+    @Mock
+    private ContactRepository contactRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private ContactTrashService contactTrashService;
+
+    private static final String TEST_EMAIL = "test@example.com";
+    private static final Long TEST_USER_ID = 1L;
+    private static final Long TEST_CONTACT_ID = 10L;
+    private static final Duration RETENTION = Duration.ofDays(30);
+
+    private User testUser;
+    private Contact trashedContact;
+
+    @BeforeEach
+    void setUp() {
+        // batches of two rows, no pause in between
+        contactTrashService = new ContactTrashService(contactRepository, userRepository, new ContactReadCoalescer(),
+                                                      RETENTION, 2, Duration.ZERO, Duration.ofMinutes(1));
+        testUser = new User();
+        testUser.setId(TEST_USER_ID);
+        testUser.setEmail(TEST_EMAIL);
+
+        trashedContact = new Contact();
+        trashedContact.setId(TEST_CONTACT_ID);
+        trashedContact.setFirstName("John");
+        trashedContact.setUser(testUser);
+        trashedContact.setDeletedAt(LocalDateTime.of(2026, 1, 1, 12, 0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        contactTrashService.shutdown();
+    }
+
+    @Test
+    void getTrash_ShouldReturnDeletedContactsWithTheirPurgeTime() {
+        // Arrange
+        when(userRepository.findByEmail(TEST_EMAIL)).thenReturn(Optional.of(testUser));
+        when(contactRepository.findTrash(TEST_USER_ID)).thenReturn(List.of(trashedContact));
+
+        // Act
+        List<TrashedContactDto> result = contactTrashService.getTrash(TEST_EMAIL);
+
+        // Assert
+        assertEquals(1, result.size());
+        assertEquals("John", result.get(0).getContact().getFirstName());
+        assertEquals(LocalDateTime.of(2026, 1, 31, 12, 0), result.get(0).getPurgeAfter());
+    }
+
+    @Test
+    void restoreContact_WithOwnedTrashedContact_ShouldRestore() {
+        // Arrange
+        when(userRepository.findByEmail(TEST_EMAIL)).thenReturn(Optional.of(testUser));
+        when(contactRepository.findTrashedById(TEST_CONTACT_ID)).thenReturn(Optional.of(trashedContact));
+        when(contactRepository.restore(TEST_CONTACT_ID)).thenReturn(1);
+
+        // Act
+        Contact result = contactTrashService.restoreContact(TEST_CONTACT_ID, TEST_EMAIL);
+
+        // Assert
+        assertNull(result.getDeletedAt());
+        verify(contactRepository).restore(TEST_CONTACT_ID);
+    }
+
+    @Test
+    void restoreContact_WithContactNotInTrash_ShouldThrowResourceNotFoundException() {
+        // Arrange
+        when(userRepository.findByEmail(TEST_EMAIL)).thenReturn(Optional.of(testUser));
+        when(contactRepository.findTrashedById(TEST_CONTACT_ID)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class,
+                     () -> contactTrashService.restoreContact(TEST_CONTACT_ID, TEST_EMAIL));
+        verify(contactRepository, never()).restore(anyLong());
+    }
+
+    @Test
+    void restoreContact_WithContactNotBelongingToUser_ShouldThrowBadCredentialsException() {
+        // Arrange
+        User otherUser = new User();
+        otherUser.setId(2L);
+        trashedContact.setUser(otherUser);
+        when(userRepository.findByEmail(TEST_EMAIL)).thenReturn(Optional.of(testUser));
+        when(contactRepository.findTrashedById(TEST_CONTACT_ID)).thenReturn(Optional.of(trashedContact));
+
+        // Act & Assert
+        assertThrows(BadCredentialsException.class,
+                     () -> contactTrashService.restoreContact(TEST_CONTACT_ID, TEST_EMAIL));
+        verify(contactRepository, never()).restore(anyLong());
+    }
+
+    @Test
+    void restoreContact_WhenPurgedMeanwhile_ShouldThrowResourceNotFoundException() {
+        // Arrange
+        when(userRepository.findByEmail(TEST_EMAIL)).thenReturn(Optional.of(testUser));
+        when(contactRepository.findTrashedById(TEST_CONTACT_ID)).thenReturn(Optional.of(trashedContact));
+        when(contactRepository.restore(TEST_CONTACT_ID)).thenReturn(0);
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class,
+                     () -> contactTrashService.restoreContact(TEST_CONTACT_ID, TEST_EMAIL));
+    }
+
+    @Test
+    void purgeExpired_ShouldDeleteInBatchesUntilABatchIsShort() {
+        // Arrange
+        when(contactRepository.purgeDeleted(RETENTION.toSeconds(), 2)).thenReturn(2, 2, 1);
+
+        // Act
+        int purged = contactTrashService.purgeExpired();
+
+        // Assert
+        assertEquals(5, purged);
+        verify(contactRepository, times(3)).purgeDeleted(RETENTION.toSeconds(), 2);
+    }
+
+    @Test
+    void purgeExpired_PastTheMaxDuration_ShouldStopAfterTheCurrentBatch() {
+        // Arrange
+        contactTrashService = new ContactTrashService(contactRepository, userRepository, new ContactReadCoalescer(),
+                                                      RETENTION, 2, Duration.ZERO, Duration.ZERO);
+        when(contactRepository.purgeDeleted(RETENTION.toSeconds(), 2)).thenReturn(2);
+
+        // Act
+        int purged = contactTrashService.purgeExpired();
+
+        // Assert
+        assertEquals(2, purged);
+        verify(contactRepository, times(1)).purgeDeleted(RETENTION.toSeconds(), 2);
+    }
+}
@@ -0,0 +1,34 @@
+package com.internship.contact_management_backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobIdsTest {
+
+    @Test
+    void next_ShouldStartWithTheInstanceId() {
+        JobIds jobIds = new JobIds("node-1");
+
+        String id = jobIds.next();
+
+        assertTrue(id.startsWith("node-1."));
+        assertNotEquals(id, jobIds.next());
+        assertFalse(jobIds.isForeign(id));
+    }
+
+    @Test
+    void isForeign_WithIdOfAnotherInstance_ShouldBeTrue() {
+        String id = new JobIds("node-2").next();
+
+        assertTrue(new JobIds("node-1").isForeign(id));
+        assertTrue(new JobIds("node").isForeign(id));
+    }
+
+    @Test
+    void next_ShouldKeepTheIdUrlSafe() {
+        JobIds jobIds = new JobIds("pod/a b.c");
+
+        assertTrue(jobIds.next().startsWith("pod-a-b-c."));
+    }
+}
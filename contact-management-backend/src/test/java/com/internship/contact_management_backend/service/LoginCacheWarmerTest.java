@@ -0,0 +1,81 @@
+package com.internship.contact_management_backend.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LoginCacheWarmerTest {
+
+    @Mock
+    private ContactService contactService;
+
+    @Mock
+    private ContactReadCoalescer readCoalescer;
+
+    @Mock
+    private UserDetailsCache userDetailsCache;
+
+    private LoginCacheWarmer loginCacheWarmer;
+
+    private static final String TEST_EMAIL = "test@example.com";
+
+    private final UserDetails userDetails = User.builder()
+                                                .username(TEST_EMAIL)
+                                                .password("encoded")
+                                                .build();
+
+    @BeforeEach
+    void setUp() {
+        loginCacheWarmer = new LoginCacheWarmer(contactService, readCoalescer, userDetailsCache, true, 1, 4);
+        lenient().when(readCoalescer.isCaching()).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        loginCacheWarmer.shutdown();
+    }
+
+    @Test
+    void onLogin_WithColdCache_ShouldLoadContactListInBackground() {
+        // Arrange
+        when(contactService.isContactListCached(TEST_EMAIL)).thenReturn(false);
+
+        // Act
+        loginCacheWarmer.onLogin(userDetails);
+
+        // Assert
+        verify(userDetailsCache).put(userDetails);
+        verify(contactService, timeout(1000)).prefetchContacts(TEST_EMAIL);
+    }
+
+    @Test
+    void onLogin_WithWarmCache_ShouldNotLoadAgain() {
+        // Arrange
+        when(contactService.isContactListCached(TEST_EMAIL)).thenReturn(true);
+
+        // Act
+        loginCacheWarmer.onLogin(userDetails);
+
+        // Assert
+        verify(contactService, after(200).never()).prefetchContacts(any());
+    }
+
+    @Test
+    void onLogin_WhenDisabled_ShouldDoNothing() {
+        LoginCacheWarmer disabled = new LoginCacheWarmer(contactService, readCoalescer, userDetailsCache, false, 1, 4);
+
+        disabled.onLogin(userDetails);
+
+        verifyNoInteractions(contactService, userDetailsCache);
+        disabled.shutdown();
+    }
+}
@@ -0,0 +1,135 @@
+package com.internship.contact_management_backend.service;
+
+import com.internship.contact_management_backend.entity.RefreshToken;
+import com.internship.contact_management_backend.entity.User;
+import com.internship.contact_management_backend.repository.RefreshTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private RefreshTokenService refreshTokenService;
+
+    private static final String TEST_EMAIL = "test@example.com";
+    private static final String RAW_TOKEN = "raw-refresh-token";
+    private static final String FAMILY = "family-1";
+
+    private RefreshToken stored;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenService = new RefreshTokenService(refreshTokenRepository, 60_000);
+
+        User user = new User();
+        user.setId(1L);
+        user.setEmail(TEST_EMAIL);
+
+        stored = RefreshToken.builder()
+                             .id(10L)
+                             .tokenHash(RefreshTokenService.hash(RAW_TOKEN))
+                             .familyId(FAMILY)
+                             .user(user)
+                             .expiresAt(LocalDateTime.now().plusDays(1))
+                             .build();
+    }
+
+    @Test
+    void issue_ShouldStoreOnlyTheHash() {
+        // Arrange
+        when(refreshTokenRepository.insertForEmail(anyString(), anyString(), eq(TEST_EMAIL), any())).thenReturn(1);
+
+        // Act
+        String token = refreshTokenService.issue(TEST_EMAIL);
+
+        // Assert
+        ArgumentCaptor<String> hash = ArgumentCaptor.forClass(String.class);
+        verify(refreshTokenRepository).insertForEmail(hash.capture(), anyString(), eq(TEST_EMAIL), any());
+        assertNotEquals(token, hash.getValue());
+        assertEquals(RefreshTokenService.hash(token), hash.getValue());
+    }
+
+    @Test
+    void issue_WithUnknownEmail_ShouldThrowBadCredentials() {
+        when(refreshTokenRepository.insertForEmail(anyString(), anyString(), eq(TEST_EMAIL), any())).thenReturn(0);
+
+        assertThrows(BadCredentialsException.class, () -> refreshTokenService.issue(TEST_EMAIL));
+    }
+
+    @Test
+    void rotate_WithActiveToken_ShouldRevokeItAndIssueSuccessorInSameFamily() {
+        // Arrange
+        when(refreshTokenRepository.findByTokenHash(stored.getTokenHash())).thenReturn(Optional.of(stored));
+        when(refreshTokenRepository.revokeIfActive(eq(10L), any())).thenReturn(1);
+
+        // Act
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(RAW_TOKEN);
+
+        // Assert
+        assertEquals(TEST_EMAIL, rotation.email());
+        assertNotEquals(RAW_TOKEN, rotation.refreshToken());
+        ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(saved.capture());
+        assertEquals(FAMILY, saved.getValue().getFamilyId());
+        assertEquals(RefreshTokenService.hash(rotation.refreshToken()), saved.getValue().getTokenHash());
+        verify(refreshTokenRepository, never()).revokeFamily(anyString(), any());
+    }
+
+    @Test
+    void rotate_WithAlreadyRotatedToken_ShouldRevokeFamily() {
+        // Arrange
+        stored.setRevokedAt(LocalDateTime.now().minusMinutes(1));
+        when(refreshTokenRepository.findByTokenHash(stored.getTokenHash())).thenReturn(Optional.of(stored));
+
+        // Act & Assert
+        assertThrows(BadCredentialsException.class, () -> refreshTokenService.rotate(RAW_TOKEN));
+        verify(refreshTokenRepository).revokeFamily(eq(FAMILY), any());
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    @Test
+    void rotate_WhenConcurrentRotationWon_ShouldRevokeFamily() {
+        // Arrange: the row was active when read but another request revoked it first
+        when(refreshTokenRepository.findByTokenHash(stored.getTokenHash())).thenReturn(Optional.of(stored));
+        when(refreshTokenRepository.revokeIfActive(eq(10L), any())).thenReturn(0);
+
+        // Act & Assert
+        assertThrows(BadCredentialsException.class, () -> refreshTokenService.rotate(RAW_TOKEN));
+        verify(refreshTokenRepository).revokeFamily(eq(FAMILY), any());
+    }
+
+    @Test
+    void rotate_WithExpiredToken_ShouldThrowBadCredentials() {
+        // Arrange
+        stored.setExpiresAt(LocalDateTime.now().minusSeconds(1));
+        when(refreshTokenRepository.findByTokenHash(stored.getTokenHash())).thenReturn(Optional.of(stored));
+
+        // Act & Assert
+        assertThrows(BadCredentialsException.class, () -> refreshTokenService.rotate(RAW_TOKEN));
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    @Test
+    void rotate_WithUnknownToken_ShouldThrowBadCredentials() {
+        when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.empty());
+
+        assertThrows(BadCredentialsException.class, () -> refreshTokenService.rotate(RAW_TOKEN));
+    }
+}
@@ -0,0 +1,82 @@
+package com.internship.contact_management_backend.service;
+
+import com.internship.contact_management_backend.cache.CacheRegion;
+import com.internship.contact_management_backend.cache.InJvmInvalidationBroadcaster;
+import com.internship.contact_management_backend.cache.InvalidationBus;
+import com.internship.contact_management_backend.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RegisteredEmailFilterTest {
+
+    private static final String NEW_EMAIL = "new@example.com";
+
+    @Mock
+    private UserRepository userRepository;
+
+    private final InvalidationBus localBus = new InvalidationBus(new InJvmInvalidationBroadcaster());
+    private final InvalidationBus remoteBus = new InvalidationBus(new InJvmInvalidationBroadcaster());
+
+    @AfterEach
+    void tearDown() {
+        localBus.close();
+        remoteBus.close();
+    }
+
+    @Test
+    void mightContain_ShouldSeeAUserRegisteredOnAnotherInstance() {
+        // Arrange: built while the table was empty
+        when(userRepository.count()).thenReturn(0L);
+        when(userRepository.findEmailsAfter(anyLong(), any())).thenReturn(List.of());
+        RegisteredEmailFilter filter = new RegisteredEmailFilter(userRepository, localBus, 0.01);
+        filter.rebuild();
+        assertFalse(filter.mightContain(NEW_EMAIL));
+
+        // Act: the registration happens on another instance
+        remoteBus.publish(CacheRegion.REGISTRATIONS, NEW_EMAIL);
+        remoteBus.flush();
+
+        // Assert
+        assertTrue(filter.mightContain(NEW_EMAIL));
+        assertTrue(filter.mightContain("NEW@example.com "));
+    }
+
+    @Test
+    void sync_ShouldRecoverARegistrationWhoseBroadcastWasLost() {
+        // Arrange: built while the table was empty, the broadcast never arrives
+        when(userRepository.count()).thenReturn(0L);
+        when(userRepository.findEmailsAfter(anyLong(), any())).thenReturn(List.of());
+        RegisteredEmailFilter filter = new RegisteredEmailFilter(userRepository, localBus, 0.01);
+        filter.rebuild();
+        when(userRepository.findEmailsCreatedSince(any())).thenReturn(List.of(NEW_EMAIL));
+
+        // Act
+        filter.sync();
+
+        // Assert
+        assertTrue(filter.mightContain(NEW_EMAIL));
+    }
+
+    @Test
+    void sync_BeforeTheFirstBuild_ShouldNotQuery() {
+        RegisteredEmailFilter filter = new RegisteredEmailFilter(userRepository, localBus, 0.01);
+
+        filter.sync();
+
+        verify(userRepository, never()).findEmailsCreatedSince(any());
+        assertTrue(filter.mightContain(NEW_EMAIL));
+    }
+}
@@ -0,0 +1,99 @@
+package com.internship.contact_management_backend.service;
+
+import com.internship.contact_management_backend.repository.RevokedTokenRepository;
+import com.internship.contact_management_backend.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationServiceTest {
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private TokenRevocationService tokenRevocationService;
+
+    private static final String TEST_EMAIL = "test@example.com";
+    private static final String JTI = "7b0c6f1e-0000-4000-8000-000000000001";
+
+    @BeforeEach
+    void setUp() {
+        tokenRevocationService = new TokenRevocationService(revokedTokenRepository, userRepository, 900_000);
+    }
+
+    @Test
+    void revoke_ShouldPersistAndRejectTokenWithoutQuery() {
+        // Act
+        tokenRevocationService.revoke(JTI, TEST_EMAIL, Instant.now().plusSeconds(600));
+
+        // Assert
+        verify(revokedTokenRepository).insertForEmail(eq(JTI), eq(TEST_EMAIL), any(), any());
+        assertTrue(tokenRevocationService.isRevoked(JTI, TEST_EMAIL, Instant.now().getEpochSecond()));
+        assertFalse(tokenRevocationService.isRevoked("other-jti", TEST_EMAIL, Instant.now().getEpochSecond()));
+        verifyNoMoreInteractions(revokedTokenRepository);
+    }
+
+    @Test
+    void revoke_WhenAlreadyRevokedConcurrently_ShouldStillRejectToken() {
+        // Arrange
+        when(revokedTokenRepository.insertForEmail(eq(JTI), eq(TEST_EMAIL), any(), any()))
+                .thenThrow(new DataIntegrityViolationException("duplicate"));
+
+        // Act
+        tokenRevocationService.revoke(JTI, TEST_EMAIL, Instant.now().plusSeconds(600));
+
+        // Assert
+        assertTrue(tokenRevocationService.isRevoked(JTI, TEST_EMAIL, Instant.now().getEpochSecond()));
+    }
+
+    @Test
+    void revokeAll_ShouldRejectTokensIssuedBeforeCutoffOnly() {
+        // Act
+        tokenRevocationService.revokeAll(TEST_EMAIL);
+
+        // Assert
+        verify(userRepository).revokeTokensIssuedBefore(eq(TEST_EMAIL), any());
+        assertTrue(tokenRevocationService.isRevoked(JTI, TEST_EMAIL, Instant.now().minusSeconds(60).getEpochSecond()));
+        assertFalse(tokenRevocationService.isRevoked(JTI, TEST_EMAIL, Instant.now().plusSeconds(2).getEpochSecond()));
+        assertFalse(tokenRevocationService.isRevoked(JTI, "other@example.com", Instant.now().minusSeconds(60).getEpochSecond()));
+    }
+
+    @Test
+    void sync_ShouldLoadRevocationsAndPruneExpiredOnes() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        when(revokedTokenRepository.findRevokedSince(any(), any())).thenReturn(List.of(
+                new Object[]{JTI, now.plusMinutes(10)},
+                new Object[]{"expired-jti", now.minusMinutes(1)}));
+        when(userRepository.findTokenCutoffsSince(any())).thenReturn(Collections.singletonList(
+                new Object[]{TEST_EMAIL, now.truncatedTo(ChronoUnit.SECONDS)}));
+
+        // Act
+        tokenRevocationService.sync();
+
+        // Assert
+        assertTrue(tokenRevocationService.isRevoked(JTI, "someone@example.com", Instant.now().getEpochSecond()));
+        assertFalse(tokenRevocationService.isRevoked("expired-jti", "someone@example.com", Instant.now().getEpochSecond()));
+        assertTrue(tokenRevocationService.isRevoked(null, TEST_EMAIL, Instant.now().minusSeconds(60).getEpochSecond()));
+        verify(revokedTokenRepository, never()).insertForEmail(anyString(), anyString(), any(), any());
+    }
+}
@@ -2,18 +2,20 @@ package com.internship.contact_management_backend.service;
 
 import com.internship.contact_management_backend.entity.User;
 import com.internship.contact_management_backend.repository.UserRepository;
+import com.internship.contact_management_backend.utils.AuthenticatedUser;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -22,19 +24,27 @@ class UserDetailsServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
-    @InjectMocks
+    @Mock
+    private RegisteredEmailFilter registeredEmailFilter;
+
     private UserDetailsServiceImpl userDetailsService;
 
     private User testUser;
     private static final String TEST_EMAIL = "test@example.com";
     private static final String TEST_PASSWORD = "encodedPassword123";
+    private static final String ADMIN_EMAIL = "admin@example.com";
 
     @BeforeEach
     void setUp() {
+        userDetailsService = new UserDetailsServiceImpl(userRepository, registeredEmailFilter, Set.of(ADMIN_EMAIL));
+
         testUser = new User();
         testUser.setId(1L);
         testUser.setEmail(TEST_EMAIL);
         testUser.setPassword(TEST_PASSWORD);
+
+        // filter reports every email as possibly registered, so lookups reach the repository
+        lenient().when(registeredEmailFilter.mightContain(any())).thenReturn(true);
     }
 
     // ==================== LoadUserByUsername Tests ====================
@@ -60,6 +70,20 @@ class UserDetailsServiceImplTest {
         verify(userRepository).findByEmail(TEST_EMAIL);
     }
 
+    @Test
+    void loadUserByUsername_ShouldCarryTheUserId() {
+        // Arrange
+        when(userRepository.findByEmail(TEST_EMAIL))
+                .thenReturn(Optional.of(testUser));
+
+        // Act
+        UserDetails result = userDetailsService.loadUserByUsername(TEST_EMAIL);
+
+        // Assert: logs identify the user by id, not email
+        AuthenticatedUser user = assertInstanceOf(AuthenticatedUser.class, result);
+        assertEquals(1L, user.getId());
+    }
+
     @Test
     void loadUserByUsername_WithNonExistingEmail_ShouldThrowUsernameNotFoundException() {
         // Arrange
@@ -127,6 +151,55 @@ class UserDetailsServiceImplTest {
         verify(userRepository).findByEmail(whitespaceEmail);
     }
 
+    @Test
+    void loadUserByUsername_WhenEmailFilterMisses_ShouldNotQueryRepository() {
+        // Arrange
+        String unknownEmail = "unknown@example.com";
+        when(registeredEmailFilter.mightContain(unknownEmail)).thenReturn(false);
+
+        // Act & Assert
+        UsernameNotFoundException exception = assertThrows(
+                UsernameNotFoundException.class,
+                () -> userDetailsService.loadUserByUsername(unknownEmail)
+        );
+
+        assertEquals("Bad Credentials", exception.getMessage());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void loadAuthenticatedUser_WhenEmailFilterMisses_ShouldStillQueryRepository() {
+        // Arrange: registered on another instance, not in this filter yet
+        lenient().when(registeredEmailFilter.mightContain(TEST_EMAIL)).thenReturn(false);
+        when(userRepository.findByEmail(TEST_EMAIL))
+                .thenReturn(Optional.of(testUser));
+
+        // Act
+        UserDetails result = userDetailsService.loadAuthenticatedUser(TEST_EMAIL);
+
+        // Assert
+        assertEquals(TEST_EMAIL, result.getUsername());
+        verify(registeredEmailFilter, never()).mightContain(any());
+    }
+
+    @Test
+    void loadUserByUsername_WithAdminEmail_ShouldGrantAdminRole() {
+        // Arrange
+        User admin = new User();
+        admin.setEmail(ADMIN_EMAIL);
+        admin.setPassword(TEST_PASSWORD);
+        when(userRepository.findByEmail(ADMIN_EMAIL)).thenReturn(Optional.of(admin));
+        when(userRepository.findByEmail(TEST_EMAIL)).thenReturn(Optional.of(testUser));
+
+        // Act
+        UserDetails adminDetails = userDetailsService.loadUserByUsername(ADMIN_EMAIL);
+        UserDetails userDetails = userDetailsService.loadUserByUsername(TEST_EMAIL);
+
+        // Assert
+        assertTrue(adminDetails.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN")));
+        assertTrue(userDetails.getAuthorities().isEmpty());
+    }
+
     @Test
     void loadUserByUsername_ShouldCallRepositoryOnce() {
         // Arrange
@@ -1,5 +1,7 @@
 package com.internship.contact_management_backend.service;
 
+import com.internship.contact_management_backend.cache.CacheRegion;
+import com.internship.contact_management_backend.cache.InvalidationBus;
 import com.internship.contact_management_backend.dto.UpdatePasswordDto;
 import com.internship.contact_management_backend.entity.User;
 import com.internship.contact_management_backend.repository.UserRepository;
@@ -9,8 +11,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.sql.SQLIntegrityConstraintViolationException;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -27,6 +31,18 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private RegisteredEmailFilter registeredEmailFilter;
+
+    @Mock
+    private InvalidationBus invalidationBus;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
     @InjectMocks
     private UserService userService;
 
@@ -46,7 +62,6 @@ class UserServiceTest {
     void register_WithValidUser_ShouldRegisterSuccessfully() {
         // Arrange
         String encodedPassword = "encodedPassword123";
-        when(userRepository.existsByEmail(testUser.getEmail())).thenReturn(false);
         when(passwordEncoder.encode(testUser.getPassword())).thenReturn(encodedPassword);
         when(userRepository.save(any(User.class))).thenReturn(testUser);
 
@@ -57,14 +72,18 @@ class UserServiceTest {
         assertNotNull(result);
         assertEquals(testUser.getId(), result.getId());
         assertEquals(testUser.getEmail(), result.getEmail());
-        verify(userRepository).existsByEmail(testUser.getEmail());
+        // email filter miss: no existence query, only the insert
+        verify(userRepository, never()).existsByEmail(any());
         verify(passwordEncoder).encode("rawPassword123");
         verify(userRepository).save(testUser);
+        // other instances add the email to their filter
+        verify(invalidationBus).publish(CacheRegion.REGISTRATIONS, testUser.getEmail());
     }
 
     @Test
     void register_WithExistingEmail_ShouldThrowException() {
         // Arrange
+        when(registeredEmailFilter.mightContain(testUser.getEmail())).thenReturn(true);
         when(userRepository.existsByEmail(testUser.getEmail())).thenReturn(true);
 
         // Act & Assert
@@ -77,6 +96,8 @@ class UserServiceTest {
         verify(userRepository).existsByEmail(testUser.getEmail());
         verify(passwordEncoder, never()).encode(anyString());
         verify(userRepository, never()).save(any(User.class));
+        verify(refreshTokenService, never()).revokeAll(anyString());
+        verify(tokenRevocationService, never()).revokeAll(anyString());
     }
 
     @Test
@@ -86,7 +107,6 @@ class UserServiceTest {
         String encodedPassword = "encodedPassword123";
         testUser.setPassword(rawPassword);
 
-        when(userRepository.existsByEmail(testUser.getEmail())).thenReturn(false);
         when(passwordEncoder.encode(rawPassword)).thenReturn(encodedPassword);
         when(userRepository.save(any(User.class))).thenReturn(testUser);
 
@@ -119,6 +139,33 @@ class UserServiceTest {
         verify(userRepository, never()).save(any(User.class));
     }
 
+    @Test
+    void register_WhenInsertHitsUniqueConstraint_ShouldThrowEmailExists() {
+        // Arrange: filter and existence check both raced by a concurrent registration
+        when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword123");
+        when(userRepository.save(any(User.class))).thenThrow(new DataIntegrityViolationException("duplicate",
+                new SQLIntegrityConstraintViolationException("Duplicate entry", "23000", 1062)));
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> userService.register(testUser)
+        );
+
+        assertEquals("Email already exists", exception.getMessage());
+    }
+
+    @Test
+    void register_WhenInsertViolatesOtherConstraint_ShouldRethrow() {
+        // Arrange
+        when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword123");
+        when(userRepository.save(any(User.class))).thenThrow(new DataIntegrityViolationException("not null",
+                new SQLIntegrityConstraintViolationException("Column 'first_name' cannot be null", "23000", 1048)));
+
+        // Act & Assert
+        assertThrows(DataIntegrityViolationException.class, () -> userService.register(testUser));
+    }
+
 
     // ==================== FindByEmail Tests ====================
 
@@ -200,6 +247,9 @@ class UserServiceTest {
         verify(passwordEncoder).matches(oldPassword, encodedOldPassword);
         verify(passwordEncoder).encode(newPassword);
         verify(userRepository).save(testUser);
+        verify(invalidationBus).publish(CacheRegion.USERS, testUser.getEmail());
+        verify(tokenRevocationService).revokeAll(testUser.getEmail());
+        verify(refreshTokenService).revokeAll(testUser.getEmail());
         assertEquals(encodedNewPassword, testUser.getPassword());
     }
 
@@ -0,0 +1,117 @@
+package com.internship.contact_management_backend.utils;
+
+import com.internship.contact_management_backend.config.JwtKeyProperties;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class Hs256TokenVerifierTest {
+
+    private static final String SECRET = "MyJwtSecretKey1234567891234567891234567891234";
+    private static final String TEST_EMAIL = "test@example.com";
+
+    private JwtKeyRing keyRing;
+    private JwtUtil jwtUtil;
+    private Hs256TokenVerifier verifier;
+
+    @BeforeEach
+    void setUp() {
+        JwtKeyProperties properties = new JwtKeyProperties();
+        properties.setActive("k1");
+        properties.getSecrets().put("k1", SECRET);
+        keyRing = new JwtKeyRing(properties);
+        jwtUtil = new JwtUtil(keyRing, 60_000);
+        verifier = new Hs256TokenVerifier(jwtUtil, keyRing);
+    }
+
+    @Test
+    void verifyFast_WithIssuedToken_ShouldMatchJjwtClaims() {
+        String token = jwtUtil.generateToken(TEST_EMAIL);
+
+        Hs256TokenVerifier.VerifiedToken verified = verifier.verifyFast(token);
+
+        assertNotNull(verified);
+        var claims = jwtUtil.extractClaims(token);
+        assertEquals(TEST_EMAIL, verified.subject());
+        assertEquals(claims.getId(), verified.id());
+        assertEquals(claims.getIssuedAt().getTime() / 1000, verified.issuedAt());
+        assertEquals(claims.getExpiration().getTime() / 1000, verified.expiresAt());
+    }
+
+    @Test
+    void verify_WithTamperedSignature_ShouldThrow() {
+        String token = jwtUtil.generateToken(TEST_EMAIL);
+        char last = token.charAt(token.length() - 2);
+        String tampered = token.substring(0, token.length() - 2) + (last == 'A' ? 'B' : 'A') + token.charAt(token.length() - 1);
+
+        assertThrows(SignatureException.class, () -> verifier.verify(tampered));
+    }
+
+    @Test
+    void verify_WithOtherKey_ShouldThrow() {
+        String token = Jwts.builder()
+                           .header().keyId("k1").and()
+                           .subject(TEST_EMAIL)
+                           .expiration(new Date(System.currentTimeMillis() + 60_000))
+                           .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET.replace('M', 'N'))))
+                           .compact();
+
+        assertThrows(SignatureException.class, () -> verifier.verify(token));
+    }
+
+    @Test
+    void verify_WithExpiredToken_ShouldThrow() {
+        String token = new JwtUtil(keyRing, -5_000).generateToken(TEST_EMAIL);
+
+        assertThrows(ExpiredJwtException.class, () -> verifier.verify(token));
+    }
+
+    @Test
+    void verify_WithUnusualClaims_ShouldFallBackToJjwt() {
+        String token = Jwts.builder()
+                           .header().keyId("k1").and()
+                           .subject(TEST_EMAIL)
+                           .claim("roles", new String[]{"user"})
+                           .issuedAt(new Date())
+                           .expiration(new Date(System.currentTimeMillis() + 60_000))
+                           .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)))
+                           .compact();
+
+        assertNull(verifier.verifyFast(token));
+        assertEquals(TEST_EMAIL, verifier.verify(token).subject());
+    }
+
+    @Test
+    void verify_WithMalformedToken_ShouldThrow() {
+        assertThrows(RuntimeException.class, () -> verifier.verify("not-a-jwt"));
+    }
+
+    @Test
+    void verify_AfterRotation_ShouldAcceptTokensOfEveryKeyInTheRing() {
+        // Arrange: k2 becomes active while k1 tokens are still out there
+        String oldToken = jwtUtil.generateToken(TEST_EMAIL);
+        JwtKeyProperties properties = new JwtKeyProperties();
+        properties.setActive("k2");
+        properties.getSecrets().put("k1", SECRET);
+        properties.getSecrets().put("k2", SECRET.replace('M', 'N'));
+        JwtKeyRing rotated = new JwtKeyRing(properties);
+        JwtUtil rotatedJwtUtil = new JwtUtil(rotated, 60_000);
+        Hs256TokenVerifier rotatedVerifier = new Hs256TokenVerifier(rotatedJwtUtil, rotated);
+
+        // Act
+        String newToken = rotatedJwtUtil.generateToken(TEST_EMAIL);
+
+        // Assert
+        assertNotNull(rotatedVerifier.verifyFast(oldToken));
+        assertNotNull(rotatedVerifier.verifyFast(newToken));
+        assertThrows(RuntimeException.class, () -> verifier.verify(newToken));
+    }
+}
@@ -0,0 +1,74 @@
+package com.internship.contact_management_backend.utils;
+
+import com.internship.contact_management_backend.config.JwtKeyProperties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtKeyRingTest {
+
+    private static final String SECRET_1 = "MyJwtSecretKey1234567891234567891234567891234";
+    private static final String SECRET_2 = "NyJwtSecretKey1234567891234567891234567891234";
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void constructor_WithUnknownActiveKid_ShouldFail() {
+        JwtKeyProperties properties = new JwtKeyProperties();
+        properties.setActive("k2");
+        properties.getSecrets().put("k1", SECRET_1);
+
+        assertThrows(IllegalStateException.class, () -> new JwtKeyRing(properties));
+    }
+
+    @Test
+    void reloadIfChanged_WhenFileChanges_ShouldSwapKeysAndKeepUnchangedOnes() throws IOException {
+        // Arrange
+        Path file = dir.resolve("jwt-keys.properties");
+        write(file, "active=k1\nsecrets.k1=" + SECRET_1 + "\n", 1);
+        JwtKeyProperties properties = new JwtKeyProperties();
+        properties.setFile(file.toString());
+        JwtKeyRing keyRing = new JwtKeyRing(properties);
+        JwtKeyRing.SigningKey k1 = keyRing.active();
+
+        // Act
+        write(file, "active=k2\nsecrets.k1=" + SECRET_1 + "\nsecrets.k2=" + SECRET_2 + "\n", 2);
+        keyRing.reloadIfChanged();
+
+        // Assert
+        assertEquals("k2", keyRing.active().kid());
+        assertSame(k1, keyRing.find("k1"));
+        assertEquals(2, keyRing.keys().size());
+    }
+
+    @Test
+    void reloadIfChanged_WithBrokenFile_ShouldKeepCurrentKeys() throws IOException {
+        // Arrange
+        Path file = dir.resolve("jwt-keys.properties");
+        write(file, "active=k1\nsecrets.k1=" + SECRET_1 + "\n", 1);
+        JwtKeyProperties properties = new JwtKeyProperties();
+        properties.setFile(file.toString());
+        JwtKeyRing keyRing = new JwtKeyRing(properties);
+
+        // Act
+        write(file, "active=k3\nsecrets.k1=" + SECRET_1 + "\n", 2);
+        keyRing.reloadIfChanged();
+
+        // Assert
+        assertEquals("k1", keyRing.active().kid());
+    }
+
+    private static void write(Path file, String content, long version) throws IOException {
+        Files.writeString(file, content);
+        // file systems with coarse timestamps would otherwise hide the change
+        Files.setLastModifiedTime(file, FileTime.from(Instant.ofEpochSecond(1_700_000_000L + version)));
+    }
+}
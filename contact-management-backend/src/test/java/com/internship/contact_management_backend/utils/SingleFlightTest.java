@@ -0,0 +1,86 @@
+package com.internship.contact_management_backend.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    @Test
+    void execute_ShouldRunLoaderOnce_ForConcurrentCallsWithSameKey() throws Exception {
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            Future<Integer> leader = pool.submit(() -> singleFlight.execute("k", () -> {
+                loads.incrementAndGet();
+                await(release);
+                return 42;
+            }));
+            // wait until the leader is in flight before the follower arrives
+            while (singleFlight.inFlight() == 0) {
+                Thread.onSpinWait();
+            }
+            CompletableFuture<Integer> follower = new CompletableFuture<>();
+            Thread followerThread = new Thread(() -> follower.complete(singleFlight.execute("k", () -> {
+                loads.incrementAndGet();
+                return -1;
+            })));
+            followerThread.start();
+            // release the leader only once the follower is parked on the shared call
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (followerThread.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            assertEquals(42, leader.get(5, TimeUnit.SECONDS));
+            assertEquals(42, follower.get(5, TimeUnit.SECONDS));
+            assertEquals(1, loads.get());
+            assertEquals(0, singleFlight.inFlight());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void execute_ShouldRunAgain_OnceCallHasCompleted() {
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+        AtomicInteger loads = new AtomicInteger();
+
+        singleFlight.execute("k", loads::incrementAndGet);
+        singleFlight.execute("k", loads::incrementAndGet);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void execute_ShouldPropagateLoaderException() {
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+
+        IllegalStateException ex = assertThrows(IllegalStateException.class,
+                () -> singleFlight.execute("k", () -> {
+                    throw new IllegalStateException("boom");
+                }));
+
+        assertEquals("boom", ex.getMessage());
+        assertEquals(0, singleFlight.inFlight());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}